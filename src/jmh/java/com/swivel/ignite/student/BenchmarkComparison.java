@@ -0,0 +1,145 @@
+package com.swivel.ignite.student;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH json result with a stored baseline and fails when a benchmark got slower, or allocates more
+ * per operation (-prof gc), by more than the threshold. A difference that is within the error margins of both
+ * runs is not counted as a regression. Benchmarks are matched by name and parameters; the ones missing from
+ * either file are listed but not compared. When there is no baseline yet, the result is stored as the baseline.
+ * <p>
+ * Run: mvn -Pbenchmark test-compile exec:exec@compare-benchmarks
+ * [-Djmh.baseline=src/jmh/baseline/jmh-baseline.json] [-Djmh.result=target/jmh-result.json]
+ * [-Djmh.regression-threshold=10]
+ */
+public final class BenchmarkComparison {
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final String LEGACY_ALLOCATION_METRIC = "\u00b7gc.alloc.rate.norm";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <result.json> [threshold percent]");
+            System.exit(2);
+        }
+        Path baselinePath = Paths.get(args[0]);
+        Path resultPath = Paths.get(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        if (!Files.exists(baselinePath)) {
+            Files.createDirectories(baselinePath.toAbsolutePath().getParent());
+            Files.copy(resultPath, baselinePath, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("No baseline found, stored " + resultPath + " as " + baselinePath);
+            return;
+        }
+        int regressions = compare(read(baselinePath), read(resultPath), threshold);
+        if (regressions > 0) {
+            System.out.println(regressions + " regression(s) above " + threshold + "% against " + baselinePath);
+            System.exit(1);
+        }
+        System.out.println("No regressions above " + threshold + "% against " + baselinePath);
+    }
+
+    /**
+     * This method prints the comparison of every benchmark of the result with the baseline
+     *
+     * @param baseline  baseline benchmarks by key
+     * @param result    result benchmarks by key
+     * @param threshold regression threshold in percent
+     * @return number of regressions
+     */
+    static int compare(Map<String, JsonNode> baseline, Map<String, JsonNode> result, double threshold) {
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : result.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.println("NEW        " + entry.getKey());
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            boolean higherIsBetter = THROUGHPUT_MODE.equals(after.path("mode").asText());
+            if (report(entry.getKey(), before.path("primaryMetric"), after.path("primaryMetric"), higherIsBetter,
+                    threshold))
+                regressions++;
+            JsonNode allocationBefore = allocation(before);
+            JsonNode allocationAfter = allocation(after);
+            if (!allocationBefore.isMissingNode() && !allocationAfter.isMissingNode()
+                    && report(entry.getKey() + " " + ALLOCATION_METRIC, allocationBefore, allocationAfter, false,
+                    threshold))
+                regressions++;
+        }
+        baseline.keySet().stream().filter(key -> !result.containsKey(key))
+                .forEach(key -> System.out.println("MISSING    " + key));
+        return regressions;
+    }
+
+    /**
+     * This method prints the change of one metric and checks whether it is a regression
+     *
+     * @param name           benchmark and metric name
+     * @param before         baseline metric
+     * @param after          result metric
+     * @param higherIsBetter true when a higher score is better
+     * @param threshold      regression threshold in percent
+     * @return true when the metric regressed
+     */
+    private static boolean report(String name, JsonNode before, JsonNode after, boolean higherIsBetter,
+                                  double threshold) {
+        double beforeScore = before.path("score").asDouble();
+        double afterScore = after.path("score").asDouble();
+        double change = beforeScore == 0 ? 0 : (afterScore - beforeScore) * 100 / beforeScore;
+        double worse = higherIsBetter ? -change : change;
+        double margin = error(before) + error(after);
+        boolean regression = worse > threshold && Math.abs(afterScore - beforeScore) > margin;
+        System.out.printf("%-10s %s: %.3f -> %.3f %s (%+.1f%%)%n", regression ? "REGRESSION" : "OK", name,
+                beforeScore, afterScore, after.path("scoreUnit").asText(), change);
+        return regression;
+    }
+
+    private static JsonNode allocation(JsonNode benchmark) {
+        JsonNode secondaryMetrics = benchmark.path("secondaryMetrics");
+        JsonNode allocation = secondaryMetrics.path(ALLOCATION_METRIC);
+        return allocation.isMissingNode() ? secondaryMetrics.path(LEGACY_ALLOCATION_METRIC) : allocation;
+    }
+
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    /**
+     * This method reads a JMH json result keyed by benchmark name and parameters
+     *
+     * @param path result file
+     * @return benchmarks by key
+     * @throws IOException when the file can not be read
+     */
+    static Map<String, JsonNode> read(Path path) throws IOException {
+        Map<String, JsonNode> benchmarks = new LinkedHashMap<>();
+        for (JsonNode benchmark : MAPPER.readTree(path.toFile())) {
+            StringBuilder key = new StringBuilder(benchmark.path("benchmark").asText())
+                    .append(' ').append(benchmark.path("mode").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = benchmark.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            benchmarks.put(key.toString(), benchmark);
+        }
+        return benchmarks;
+    }
+}
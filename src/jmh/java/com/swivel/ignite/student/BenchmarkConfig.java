@@ -0,0 +1,163 @@
+package com.swivel.ignite.student;
+
+import com.swivel.ignite.student.config.ResilienceProperties;
+import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.dto.response.UserResponseDto;
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
+import com.swivel.ignite.student.repository.OutboxEventRepository;
+import com.swivel.ignite.student.repository.StudentRepository;
+import com.swivel.ignite.student.resilience.DownstreamResilience;
+import com.swivel.ignite.student.service.AuthService;
+import com.swivel.ignite.student.service.DownstreamOrchestrator;
+import com.swivel.ignite.student.service.OutboxService;
+import com.swivel.ignite.student.service.PaymentService;
+import com.swivel.ignite.student.service.StudentCache;
+import com.swivel.ignite.student.service.StudentService;
+import com.swivel.ignite.student.service.TuitionService;
+import com.swivel.ignite.student.service.UsernameGuard;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.dialect.H2Dialect;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.web.client.RestTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spring context of the persistence benchmarks: the student service and repositories on an in-memory H2
+ * database in MySQL mode, with the same hibernate batching settings as application.yml. The downstream
+ * microservices are replaced by stubs that answer immediately.
+ */
+@Configuration
+@EnableTransactionManagement
+@EnableJpaRepositories(basePackageClasses = StudentRepository.class)
+public class BenchmarkConfig {
+
+    public static final String TOKEN = "Bearer benchmark";
+    private static final String STUB_URL = "http://127.0.0.1";
+    private static final int JDBC_BATCH_SIZE = 100;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource dataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(10);
+        return dataSource;
+    }
+
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.dialect", H2Dialect.class.getName());
+        properties.put("hibernate.hbm2ddl.auto", "create-drop");
+        properties.put("hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName());
+        properties.put("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+        properties.put("hibernate.jdbc.batch_size", JDBC_BATCH_SIZE);
+        properties.put("hibernate.order_inserts", true);
+        properties.put("hibernate.order_updates", true);
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(Student.class.getPackage().getName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(properties);
+        return factory;
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    public AuthService authService() {
+        return new AuthService(STUB_URL, "/register", "/delete/{username}", "/delete/id/{userId}",
+                new RestTemplate(), resilience("auth")) {
+            @Override
+            public UserResponseDto registerStudent(StudentCreateRequestDto requestDto, String token) {
+                UserResponseDto responseDto = new UserResponseDto();
+                responseDto.setUserId("uid-" + UUID.randomUUID());
+                return responseDto;
+            }
+
+            @Override
+            public void deleteStudent(String username, String token) {
+                // stub: the auth user is deleted immediately
+            }
+
+            @Override
+            public void deleteStudentById(String userId, String token) {
+                // stub: the auth user is deleted immediately
+            }
+        };
+    }
+
+    @Bean
+    public PaymentService paymentService() {
+        return new PaymentService(STUB_URL, "/delete/{studentId}", new RestTemplate(), resilience("payment")) {
+            @Override
+            public void deleteByStudentId(String studentId, String token) {
+                // stub: the payments are deleted immediately
+            }
+        };
+    }
+
+    @Bean
+    public TuitionService tuitionService() {
+        return new TuitionService(STUB_URL, "/remove/{studentId}/{tuitionId}", new RestTemplate(),
+                resilience("tuition")) {
+            @Override
+            public StudentResponseDto removeStudent(String studentId, String tuitionId, String token) {
+                return new StudentResponseDto();
+            }
+        };
+    }
+
+    @Bean
+    public OutboxService outboxService(OutboxEventRepository outboxEventRepository) {
+        return new OutboxService(outboxEventRepository, 10, Duration.ofSeconds(1), Duration.ofMinutes(10),
+                Duration.ofMinutes(2));
+    }
+
+    @Bean
+    public StudentService studentService(StudentRepository studentRepository, AuthService authService,
+                                         PaymentService paymentService, TuitionService tuitionService,
+                                         OutboxService outboxService,
+                                         PlatformTransactionManager transactionManager) {
+        StudentCache studentCache = new StudentCache(studentRepository, 10_000, Duration.ofSeconds(30),
+                Duration.ofMinutes(5), Duration.ofSeconds(2), 2, Runnable::run, new SimpleMeterRegistry(), event -> {
+                });
+        return new StudentService(studentRepository, paymentService, tuitionService, authService,
+                new DownstreamOrchestrator(Runnable::run, 20), outboxService, "sync", transactionManager,
+                studentCache, new UsernameGuard());
+    }
+
+    /**
+     * This method returns the resilience of a stubbed downstream service with the default settings
+     *
+     * @param service downstream service name
+     * @return downstream resilience
+     */
+    private static DownstreamResilience resilience(String service) {
+        return new DownstreamResilience(service, ErrorResponseStatusType.INTERNAL_SERVER_ERROR,
+                new ResilienceProperties(), CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                new SimpleMeterRegistry());
+    }
+}
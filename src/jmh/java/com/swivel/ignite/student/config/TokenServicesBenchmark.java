@@ -0,0 +1,108 @@
+package com.swivel.ignite.student.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.jwt.crypto.sign.RsaSigner;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.DefaultTokenServices;
+import org.springframework.security.oauth2.provider.token.RemoteTokenServices;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of validating an access token with each resource server mode:
+ * remote check_token (against a loopback stub), cached check_token and local JWT signature verification.
+ * <p>
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="TokenServicesBenchmark -rf json -rff target/jmh-result.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServicesBenchmark {
+
+    private static final String CHECK_TOKEN_PATH = "/oauth/check_token";
+    private static final String OPAQUE_TOKEN = UUID.randomUUID().toString();
+    private HttpServer checkTokenServer;
+    private RemoteTokenServices remoteTokenServices;
+    private CachingResourceServerTokenServices cachingTokenServices;
+    private DefaultTokenServices jwtTokenServices;
+    private String jwtToken;
+
+    @Setup
+    public void setUp() throws IOException, NoSuchAlgorithmException {
+        long expiry = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + TimeUnit.HOURS.toSeconds(1);
+        String claims = "{\"exp\":" + expiry + ",\"user_name\":\"admin\",\"authorities\":[\"ADMIN\"],"
+                + "\"client_id\":\"ignite-client\",\"scope\":[\"read\",\"write\"],\"aud\":[\"ignite_student\"],"
+                + "\"jti\":\"" + UUID.randomUUID() + "\",\"active\":true}";
+
+        byte[] checkTokenResponse = claims.getBytes(StandardCharsets.UTF_8);
+        checkTokenServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        checkTokenServer.createContext(CHECK_TOKEN_PATH, exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, checkTokenResponse.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(checkTokenResponse);
+            }
+        });
+        checkTokenServer.start();
+
+        remoteTokenServices = new RemoteTokenServices();
+        remoteTokenServices.setCheckTokenEndpointUrl("http://127.0.0.1:" + checkTokenServer.getAddress().getPort()
+                + CHECK_TOKEN_PATH);
+        remoteTokenServices.setClientId("ignite-client");
+        remoteTokenServices.setClientSecret("1234");
+        remoteTokenServices.setAccessTokenConverter(new ExpiryAwareAccessTokenConverter());
+        cachingTokenServices = new CachingResourceServerTokenServices(remoteTokenServices, 10_000,
+                Duration.ofMinutes(1), Clock.systemUTC(), Ticker.systemTicker());
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        String publicKey = "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(keyPair.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----";
+        jwtToken = JwtHelper.encode(claims, new RsaSigner((RSAPrivateKey) keyPair.getPrivate())).getEncoded();
+        jwtTokenServices = new DefaultTokenServices();
+        jwtTokenServices.setTokenStore(new JwtTokenStore(new LocalJwtAccessTokenConverter(
+                JwtVerificationKeys.ofPublicKey(publicKey))));
+    }
+
+    @TearDown
+    public void tearDown() {
+        checkTokenServer.stop(0);
+    }
+
+    @Benchmark
+    public OAuth2Authentication remoteCheckToken() {
+        return remoteTokenServices.loadAuthentication(OPAQUE_TOKEN);
+    }
+
+    @Benchmark
+    public OAuth2Authentication cachedCheckToken() {
+        return cachingTokenServices.loadAuthentication(OPAQUE_TOKEN);
+    }
+
+    @Benchmark
+    public OAuth2Authentication localJwt() {
+        return jwtTokenServices.loadAuthentication(jwtToken);
+    }
+}
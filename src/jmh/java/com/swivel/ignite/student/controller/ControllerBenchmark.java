@@ -0,0 +1,39 @@
+package com.swivel.ignite.student.controller;
+
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.enums.SuccessResponseStatusType;
+import com.swivel.ignite.student.wrapper.ResponseWrapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures wrapping response data into the success envelope of {@link Controller#getSuccessResponse}, which
+ * every successful endpoint goes through.
+ * <p>
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ControllerBenchmark -prof gc -rf json -rff target/jmh-result.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ControllerBenchmark {
+
+    private Controller controller;
+    private StudentResponseDto studentResponseDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        controller = new Controller();
+        studentResponseDto = new StudentResponseDto("sid-1", "student-1", "tid-1", new Date());
+    }
+
+    @Benchmark
+    public ResponseEntity<ResponseWrapper> getSuccessResponse() {
+        return controller.getSuccessResponse(SuccessResponseStatusType.GET_STUDENT, studentResponseDto);
+    }
+}
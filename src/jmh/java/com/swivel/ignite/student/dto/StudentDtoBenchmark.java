@@ -0,0 +1,51 @@
+package com.swivel.ignite.student.dto;
+
+import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.RoleType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a student response dto from the entity and converting it to json with
+ * {@link BaseDto#toJson()} and to masked log json with {@link BaseDto#toLogJson()}.
+ * <p>
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="StudentDtoBenchmark -prof gc -rf json -rff target/jmh-result.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StudentDtoBenchmark {
+
+    private Student student;
+    private StudentResponseDto studentResponseDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        student = new Student(new StudentCreateRequestDto(RoleType.STUDENT, "student-1", "password"));
+        student.setTuitionId("tid-1");
+        student.setTuitionJoinedOn(new Date());
+        studentResponseDto = new StudentResponseDto(student);
+    }
+
+    @Benchmark
+    public StudentResponseDto studentResponseDto() {
+        return new StudentResponseDto(student);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return studentResponseDto.toJson();
+    }
+
+    @Benchmark
+    public String toLogJson() {
+        return studentResponseDto.toLogJson();
+    }
+}
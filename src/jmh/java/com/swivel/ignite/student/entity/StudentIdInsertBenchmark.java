@@ -0,0 +1,85 @@
+package com.swivel.ignite.student.entity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares inserting 1M students keyed by random ids ("sid-" + random UUID) with time-ordered ids
+ * ("sid-" + {@link TimeOrderedIdGenerator}), using JDBC batches into a table with the student primary key.
+ * Runs on a file based H2 database in MySQL mode by default; pass -Dbenchmark.jdbc.url (and .user/.password)
+ * to run against MySQL, where the clustered primary key index makes the difference visible.
+ * <p>
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="StudentIdInsertBenchmark -rf json -rff target/jmh-result.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StudentIdInsertBenchmark {
+
+    private static final String STUDENT_ID_PREFIX = "sid-";
+    private static final int BATCH_SIZE = 1000;
+    @Param({"random", "ordered"})
+    private String keys;
+    @Param({"1000000"})
+    private int rows;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:h2:./target/benchmark/student-ids;MODE=MySQL"),
+                System.getProperty("benchmark.jdbc.user", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void createTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_student");
+            statement.execute("CREATE TABLE benchmark_student (id VARCHAR(255) NOT NULL, "
+                    + "username VARCHAR(255) NOT NULL, password VARCHAR(255) NOT NULL, PRIMARY KEY (id))");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_student");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public void insert() throws SQLException {
+        boolean ordered = "ordered".equals(keys);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO benchmark_student (id, username, password) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                String id = STUDENT_ID_PREFIX + (ordered ? TimeOrderedIdGenerator.nextId() : UUID.randomUUID());
+                statement.setString(1, id);
+                statement.setString(2, "username-" + i);
+                statement.setString(3, "password");
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.swivel.ignite.student.exception;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures turning an auth microservice error response into an {@link AuthServiceHttpClientErrorException},
+ * which parses the response body into a json tree.
+ * <p>
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="AuthServiceErrorParsingBenchmark -prof gc -rf json -rff target/jmh-result.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AuthServiceErrorParsingBenchmark {
+
+    private static final String RESPONSE_BODY = "{\"status\":\"ERROR\",\"message\":\"Username already exists\","
+            + "\"data\":null,\"displayMessage\":\"Oops!! Something went wrong. Please try again.\",\"errorCode\":4001}";
+    private static final String STATUS_TEXT = "Bad Request";
+    private final Exception cause = new IllegalStateException(STATUS_TEXT);
+
+    @Benchmark
+    public AuthServiceHttpClientErrorException parseErrorResponse() throws IOException {
+        return new AuthServiceHttpClientErrorException(HttpStatus.BAD_REQUEST, "Failed to register student in auth db",
+                RESPONSE_BODY, STATUS_TEXT, cause);
+    }
+}
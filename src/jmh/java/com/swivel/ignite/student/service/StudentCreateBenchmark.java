@@ -0,0 +1,68 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.BenchmarkConfig;
+import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.enums.RoleType;
+import com.swivel.ignite.student.repository.StudentRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating 10k students one request at a time with creating them in one bulk request,
+ * on H2 in MySQL mode with the auth service stubbed out.
+ * <p>
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="StudentCreateBenchmark -rf json -rff target/jmh-result.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StudentCreateBenchmark {
+
+    private static final int STUDENTS = 10_000;
+    private AnnotationConfigApplicationContext context;
+    private StudentService studentService;
+    private StudentRepository studentRepository;
+    private List<StudentCreateRequestDto> requestDtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        studentService = context.getBean(StudentService.class);
+        studentRepository = context.getBean(StudentRepository.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareStudents() {
+        studentRepository.deleteAllInBatch();
+        String batch = UUID.randomUUID().toString();
+        requestDtos = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            requestDtos.add(new StudentCreateRequestDto(RoleType.STUDENT, batch + "-" + i, "password"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void singleCreate() {
+        for (StudentCreateRequestDto requestDto : requestDtos) {
+            studentService.createStudent(requestDto, BenchmarkConfig.TOKEN);
+        }
+    }
+
+    @Benchmark
+    public Object bulkCreate() {
+        return studentService.createStudents(requestDtos, BenchmarkConfig.TOKEN);
+    }
+}
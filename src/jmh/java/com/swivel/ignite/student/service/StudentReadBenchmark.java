@@ -0,0 +1,70 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.BenchmarkConfig;
+import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.RoleType;
+import com.swivel.ignite.student.repository.StudentRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares listing 10k students by loading the entities and copying them into response dtos (the previous read
+ * path) with the projection query of GET /get/all, on H2 in MySQL mode. Run with -prof gc to compare the
+ * allocation per operation.
+ * <p>
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="StudentReadBenchmark -prof gc -rf json -rff target/jmh-result.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StudentReadBenchmark {
+
+    private static final int STUDENTS = 10_000;
+    private static final String PASSWORD_HASH = "$2a$10$Qm5cEXAMPLEHASHFORBENCHMARKINGONLYqZ4s1o3Vn7yT9wLx0eJb2Gk";
+    private AnnotationConfigApplicationContext context;
+    private StudentService studentService;
+    private StudentRepository studentRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        studentService = context.getBean(StudentService.class);
+        studentRepository = context.getBean(StudentRepository.class);
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student(new StudentCreateRequestDto(RoleType.STUDENT, "student-" + i,
+                    PASSWORD_HASH));
+            student.setTuitionId("tid-" + (i % 100));
+            student.setTuitionJoinedOn(new Date());
+            student.setAuthUserId("uid-" + i);
+            students.add(student);
+        }
+        studentRepository.saveAll(students);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StudentResponseDto> entityList() {
+        return studentRepository.findAll().stream().map(StudentResponseDto::new).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<StudentResponseDto> projectionList() {
+        return studentService.getAll();
+    }
+}
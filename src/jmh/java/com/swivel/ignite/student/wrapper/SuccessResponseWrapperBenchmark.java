@@ -0,0 +1,67 @@
+package com.swivel.ignite.student.wrapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.student.dto.response.StudentListResponseDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.enums.ResponseStatusType;
+import com.swivel.ignite.student.enums.SuccessResponseStatusType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the student list response dto and serializing it inside a {@link SuccessResponseWrapper}
+ * for 1, 100 and 100k students, with the object mapper Spring MVC writes response bodies with and with
+ * {@link com.swivel.ignite.student.dto.BaseDto#toJson()}.
+ * <p>
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="SuccessResponseWrapperBenchmark -prof gc -rf json -rff target/jmh-result.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SuccessResponseWrapperBenchmark {
+
+    @Param({"1", "100", "100000"})
+    private int students;
+    private List<StudentResponseDto> studentResponseDtos;
+    private SuccessResponseWrapper responseWrapper;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Date joinedOn = new Date();
+        studentResponseDtos = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            studentResponseDtos.add(new StudentResponseDto("sid-" + i, "student-" + i, "tid-" + (i % 100),
+                    joinedOn));
+        }
+        responseWrapper = new SuccessResponseWrapper(ResponseStatusType.SUCCESS,
+                SuccessResponseStatusType.RETURNED_ALL_STUDENT.getMessage(),
+                new StudentListResponseDto(studentResponseDtos), "Successfully returned the data.",
+                SuccessResponseStatusType.RETURNED_ALL_STUDENT.getCode());
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public StudentListResponseDto studentListResponseDto() {
+        return new StudentListResponseDto(studentResponseDtos);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responseWrapper);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return responseWrapper.toJson();
+    }
+}
@@ -0,0 +1,94 @@
+package com.swivel.ignite.student.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency added by a stub service before it answers. Parsed from the option values:
+ * <ul>
+ *     <li>{@code none} - answer immediately</li>
+ *     <li>{@code fixed:20} - always 20 ms</li>
+ *     <li>{@code uniform:10:50} - uniformly between 10 and 50 ms</li>
+ *     <li>{@code lognormal:20:200} - log-normal with a median of 20 ms and a 99th percentile of 200 ms, the long
+ *     tailed shape of real service latencies</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    LatencyDistribution NONE = () -> 0;
+    /**
+     * z-score of the 99th percentile of the standard normal distribution
+     */
+    double Z_99 = 2.3263;
+
+    /**
+     * This method returns the next latency of the distribution
+     *
+     * @return latency in microseconds
+     */
+    long nextMicros();
+
+    /**
+     * This method waits for the next latency of the distribution
+     *
+     * @throws InterruptedException when interrupted while waiting
+     */
+    default void sleep() throws InterruptedException {
+        long micros = nextMicros();
+        if (micros > 0)
+            TimeUnit.MICROSECONDS.sleep(micros);
+    }
+
+    static LatencyDistribution fixed(double millis) {
+        long micros = toMicros(millis);
+        return () -> micros;
+    }
+
+    static LatencyDistribution uniform(double minMillis, double maxMillis) {
+        long min = toMicros(minMillis);
+        long max = toMicros(maxMillis);
+        return () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+    }
+
+    static LatencyDistribution logNormal(double medianMillis, double p99Millis) {
+        double mu = Math.log(toMicros(medianMillis));
+        double sigma = Math.log(p99Millis / medianMillis) / Z_99;
+        return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    /**
+     * This method parses a latency distribution option value
+     *
+     * @param value option value, e.g. lognormal:20:200
+     * @return latency distribution
+     */
+    static LatencyDistribution parse(String value) {
+        String[] parts = value.trim().split(":");
+        switch (parts[0].toLowerCase()) {
+            case "none":
+                return NONE;
+            case "fixed":
+                requireArguments(value, parts, 1);
+                return fixed(Double.parseDouble(parts[1]));
+            case "uniform":
+                requireArguments(value, parts, 2);
+                return uniform(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            case "lognormal":
+                requireArguments(value, parts, 2);
+                return logNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution: " + value);
+        }
+    }
+
+    private static void requireArguments(String value, String[] parts, int count) {
+        if (parts.length != count + 1)
+            throw new IllegalArgumentException("Expected " + count + " argument(s) in latency distribution: "
+                    + value);
+    }
+
+    private static long toMicros(double millis) {
+        return Math.round(millis * 1000);
+    }
+}
@@ -0,0 +1,314 @@
+package com.swivel.ignite.student.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives a weighted mix of student operations against the student service from a fixed number of concurrent
+ * clients, each sending its next request as soon as the previous one is answered. Latencies of the measured
+ * period are recorded per operation in HDR histograms; the warmup period is driven the same way but not
+ * recorded.
+ */
+public class LoadDriver {
+
+    private static final String STUDENT_PATH = "/api/v1/student";
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String PASSWORD = "loadtest-password";
+    private static final int TUITIONS = 100;
+    private static final int RECENT_STUDENTS = 4096;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<String> tokens;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int concurrency;
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Queue<String> unenrolled = new ConcurrentLinkedQueue<>();
+    private final Queue<String> enrolled = new ConcurrentLinkedQueue<>();
+    private final AtomicReferenceArray<String> recent = new AtomicReferenceArray<>(RECENT_STUDENTS);
+    private final AtomicLong created = new AtomicLong();
+    private volatile boolean recording;
+
+    /**
+     * @param baseUrl     student service base url
+     * @param tokens      access tokens the clients take turns with
+     * @param mix         weight of each operation
+     * @param concurrency number of concurrent clients
+     */
+    public LoadDriver(String baseUrl, List<String> tokens, Map<Operation, Integer> mix, int concurrency) {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl + STUDENT_PATH;
+        this.tokens = tokens;
+        this.concurrency = concurrency;
+        List<Operation> weighted = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            if (entry.getValue() <= 0)
+                continue;
+            total += entry.getValue();
+            weighted.add(entry.getKey());
+            weights.add(total);
+        }
+        if (weighted.isEmpty())
+            throw new IllegalArgumentException("The operation mix has no positive weight");
+        this.operations = weighted.toArray(new Operation[0]);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * This method creates students before the load starts, so that reads, enrollments and deletes have students
+     * to work with
+     *
+     * @param students number of students
+     * @throws InterruptedException when interrupted while waiting for the clients
+     */
+    public void seed(int students) throws InterruptedException {
+        AtomicLong remaining = new AtomicLong(students);
+        runClients(() -> {
+            while (remaining.getAndDecrement() > 0) {
+                execute(Operation.CREATE);
+            }
+        });
+    }
+
+    /**
+     * This method drives the operation mix for the warmup and then for the measured duration
+     *
+     * @param warmup   period that is driven but not recorded
+     * @param duration measured period
+     * @throws InterruptedException when interrupted while waiting for the clients
+     */
+    public void run(Duration warmup, Duration duration) throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        runClients(() -> {
+            while (System.nanoTime() < measureFrom) {
+                execute(nextOperation());
+            }
+            recording = true;
+            while (System.nanoTime() < end) {
+                execute(nextOperation());
+            }
+        });
+        recording = false;
+    }
+
+    private void runClients(Runnable client) throws InterruptedException {
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(client));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Load client failed", e.getCause());
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private Operation nextOperation() {
+        int weight = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (weight < cumulativeWeights[i])
+                return operations[i];
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * This method sends one request of the operation and records its latency. Operations that need a student
+     * create one instead while there is none to work with.
+     *
+     * @param operation operation
+     */
+    private void execute(Operation operation) {
+        String studentId = null;
+        if (operation == Operation.GET) {
+            studentId = recentStudent();
+        } else if (operation == Operation.ENROLL) {
+            studentId = unenrolled.poll();
+        } else if (operation == Operation.DELETE) {
+            studentId = enrolled.poll();
+            if (studentId == null)
+                studentId = unenrolled.poll();
+        }
+        if (studentId == null && operation != Operation.CREATE && operation != Operation.GET_ALL)
+            operation = Operation.CREATE;
+        boolean record = recording;
+        long start = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = client.send(request(operation, studentId), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            // counted as an error below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        boolean success = response != null && response.statusCode() / 100 == 2;
+        if (record) {
+            latencies.get(operation).recordValue(micros);
+            if (!success)
+                errors.get(operation).increment();
+        }
+        onResponse(operation, studentId, success, response);
+    }
+
+    private HttpRequest request(Operation operation, String studentId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .timeout(Duration.ofSeconds(30))
+                .header(AUTH_HEADER, "Bearer " + tokens.get(ThreadLocalRandom.current().nextInt(tokens.size())));
+        switch (operation) {
+            case CREATE:
+                String body = "{\"username\":\"lt-" + UUID.randomUUID() + "\",\"password\":\"" + PASSWORD + "\"}";
+                return builder.uri(URI.create(baseUrl)).header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+            case GET:
+                return builder.uri(URI.create(baseUrl + "/get/" + studentId)).GET().build();
+            case GET_ALL:
+                return builder.uri(URI.create(baseUrl + "/get/all")).GET().build();
+            case ENROLL:
+                return builder.uri(URI.create(baseUrl + "/add/student/" + studentId + "/tuition/tid-"
+                        + ThreadLocalRandom.current().nextInt(TUITIONS)))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build();
+            case DELETE:
+                return builder.uri(URI.create(baseUrl + "/delete/" + studentId)).DELETE().build();
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+    }
+
+    /**
+     * This method keeps track of the students created, enrolled and deleted by the load
+     */
+    private void onResponse(Operation operation, String studentId, boolean success,
+                            HttpResponse<String> response) {
+        switch (operation) {
+            case CREATE:
+                if (success)
+                    addCreated(response.body());
+                break;
+            case ENROLL:
+                (success ? enrolled : unenrolled).add(studentId);
+                break;
+            case DELETE:
+                if (success)
+                    forget(studentId);
+                else
+                    unenrolled.add(studentId);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void addCreated(String body) {
+        try {
+            JsonNode studentId = MAPPER.readTree(body).path("data").path("studentId");
+            if (studentId.isTextual()) {
+                String id = studentId.asText();
+                unenrolled.add(id);
+                recent.set((int) (created.getAndIncrement() % RECENT_STUDENTS), id);
+            }
+        } catch (IOException e) {
+            // a response without a student is not tracked
+        }
+    }
+
+    /**
+     * This method removes a deleted student from the students read by get, comparing by identity as every id is
+     * the same instance from creation to deletion
+     *
+     * @param studentId student id
+     */
+    private void forget(String studentId) {
+        for (int i = 0; i < RECENT_STUDENTS; i++) {
+            recent.compareAndSet(i, studentId, null);
+        }
+    }
+
+    private String recentStudent() {
+        long count = created.get();
+        if (count == 0)
+            return null;
+        return recent.get(ThreadLocalRandom.current().nextInt((int) Math.min(count, RECENT_STUDENTS)));
+    }
+
+    /**
+     * This method prints the throughput, error count and latency percentiles of every operation and of all
+     * operations together
+     *
+     * @param out      output
+     * @param duration measured period
+     */
+    public void printReport(PrintStream out, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        out.printf("%-8s %10s %10s %8s %9s %9s %9s %9s %9s%n", "op", "count", "ops/s", "errors", "p50 ms",
+                "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() == 0)
+                continue;
+            long operationErrors = errors.get(operation).sum();
+            printRow(out, operation.getOptionName(), histogram, operationErrors, seconds);
+            total.add(histogram);
+            totalErrors += operationErrors;
+        }
+        printRow(out, "total", total, totalErrors, seconds);
+    }
+
+    private void printRow(PrintStream out, String name, Histogram histogram, long errorCount, double seconds) {
+        out.printf("%-8s %10d %10.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds, errorCount, millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,229 @@
+package com.swivel.ignite.student.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.swivel.ignite.student.StudentApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Self-contained load test of the student service. Boots {@link StudentApplication} on an in-memory H2 database
+ * in MySQL mode (schema by the flyway migrations), replaces the OAuth check_token endpoint and the auth, payment
+ * and tuition services with {@link StubService}s on loopback ports, drives a mix of create / get / get all /
+ * enroll / delete requests with {@link LoadDriver} and prints throughput and latency percentiles.
+ * <p>
+ * Options are given as --name=value; see {@link #DEFAULTS}. Options starting with app. are passed on to the
+ * application, e.g. --app.student.delete.mode=outbox. --stack=reactive boots ReactiveStudentApplication instead, on
+ * the same database over R2DBC; it needs the reactive maven profile.
+ * <p>
+ * Run: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--duration=60s --concurrency=32"
+ */
+public final class LoadTest {
+
+    private static final String APP_OPTION_PREFIX = "app.";
+    private static final String RESOURCE_ID = "ignite_student";
+    private static final String TOKEN_PATH = "/oauth/token";
+    private static final String REACTIVE_STACK = "reactive";
+    private static final String REACTIVE_APPLICATION = "com.swivel.ignite.student.reactive.ReactiveStudentApplication";
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("stack", "servlet");
+        DEFAULTS.put("duration", "60s");
+        DEFAULTS.put("warmup", "15s");
+        DEFAULTS.put("concurrency", "32");
+        DEFAULTS.put("seed", "500");
+        DEFAULTS.put("tokens", "100");
+        DEFAULTS.put("mix", "create:20,get:50,getAll:5,enroll:15,delete:10");
+        DEFAULTS.put("check-token.latency", "lognormal:5:40");
+        DEFAULTS.put("check-token.error-rate", "0");
+        DEFAULTS.put("auth.latency", "lognormal:20:150");
+        DEFAULTS.put("auth.error-rate", "0");
+        DEFAULTS.put("auth.error-status", "503");
+        DEFAULTS.put("payment.latency", "lognormal:15:120");
+        DEFAULTS.put("payment.error-rate", "0");
+        DEFAULTS.put("payment.error-status", "503");
+        DEFAULTS.put("tuition.latency", "lognormal:15:120");
+        DEFAULTS.put("tuition.error-rate", "0");
+        DEFAULTS.put("tuition.error-status", "503");
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        run(parseOptions(Map.of(), args));
+    }
+
+    /**
+     * This method runs one load test: starts the stubs and the application, drives the load and prints the report
+     *
+     * @param options load test options
+     */
+    static void run(Map<String, String> options) throws IOException, InterruptedException {
+        try (StubService checkToken = stub(options, "check-token", exchange -> checkTokenResponse());
+             StubService auth = stub(options, "auth", exchange -> exchange.getRequestURI().getPath()
+                     .endsWith(TOKEN_PATH) ? clientTokenResponse() : "{\"status\":\"SUCCESS\","
+                     + "\"message\":\"Successfully registered the user\",\"data\":{\"userId\":\"uid-"
+                     + UUID.randomUUID() + "\",\"role\":\"STUDENT\"},\"displayMessage\":\"\"}");
+             StubService payment = stub(options, "payment", exchange -> "{\"status\":\"SUCCESS\","
+                     + "\"message\":\"Successfully deleted the payments\",\"data\":null,\"displayMessage\":\"\"}");
+             StubService tuition = stub(options, "tuition", exchange -> "{\"status\":\"SUCCESS\","
+                     + "\"message\":\"Successfully removed the student\",\"data\":{\"studentId\":\"sid\"},"
+                     + "\"displayMessage\":\"\"}")) {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(applicationClass(options))
+                    .run(applicationArgs(options, checkToken, auth, payment, tuition));
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                List<String> tokens = new ArrayList<>();
+                for (int i = 0; i < Integer.parseInt(options.get("tokens")); i++) {
+                    tokens.add(UUID.randomUUID().toString());
+                }
+                LoadDriver driver = new LoadDriver("http://127.0.0.1:" + port, tokens, parseMix(options.get("mix")),
+                        Integer.parseInt(options.get("concurrency")));
+                Duration duration = DurationStyle.detectAndParse(options.get("duration"));
+                System.out.println("Seeding " + options.get("seed") + " students");
+                driver.seed(Integer.parseInt(options.get("seed")));
+                System.out.println("Warming up for " + options.get("warmup") + ", measuring for "
+                        + options.get("duration") + " with " + options.get("concurrency") + " clients");
+                driver.run(DurationStyle.detectAndParse(options.get("warmup")), duration);
+                System.out.println();
+                System.out.println("Options: " + options);
+                driver.printReport(System.out, duration);
+                for (StubService stub : List.of(checkToken, auth, payment, tuition)) {
+                    System.out.printf("stub %-12s requests: %d, failed: %d%n", stub.getName(), stub.getRequests(),
+                            stub.getFailures());
+                }
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * This method returns the application arguments that point the student service to H2 and to the stubs
+     */
+    private static String[] applicationArgs(Map<String, String> options, StubService checkToken, StubService auth,
+                                            StubService payment, StubService tuition) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        String database = "loadtest-" + UUID.randomUUID();
+        properties.put("spring.profiles.active", "loadtest");
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        if (isReactive(options)) {
+            // flyway migrates the in-memory database over jdbc, the application then uses it over r2dbc
+            properties.put("spring.profiles.active", "loadtest," + REACTIVE_STACK);
+            properties.put("spring.r2dbc.url", "r2dbc:h2:mem:///" + database
+                    + "?options=MODE=MySQL;DB_CLOSE_DELAY=-1");
+            properties.put("spring.r2dbc.username", "sa");
+            properties.put("spring.r2dbc.password", "");
+        }
+        properties.put("eureka.client.enabled", "false");
+        properties.put("oauth.token-verification", "remote");
+        properties.put("security.oauth2.resource.token-info-uri", checkToken.getBaseUrl() + "/oauth/check_token");
+        properties.put("auth.baseUrl", auth.getBaseUrl());
+        properties.put("payment.baseUrl", payment.getBaseUrl());
+        properties.put("tuition.baseUrl", tuition.getBaseUrl());
+        properties.put("logging.level.com.swivel.ignite.student", "WARN");
+        properties.put("logging.file.path", "target/loadtest/logs");
+        options.forEach((name, value) -> {
+            if (name.startsWith(APP_OPTION_PREFIX))
+                properties.put(name.substring(APP_OPTION_PREFIX.length()), value);
+        });
+        return properties.entrySet().stream().map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * This method returns the application class of the stack under test
+     */
+    private static Class<?> applicationClass(Map<String, String> options) {
+        if (!isReactive(options))
+            return StudentApplication.class;
+        try {
+            return Class.forName(REACTIVE_APPLICATION);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The reactive stack is not on the classpath, run with -Ploadtest,reactive",
+                    e);
+        }
+    }
+
+    private static boolean isReactive(Map<String, String> options) {
+        return REACTIVE_STACK.equals(options.get("stack"));
+    }
+
+    private static StubService stub(Map<String, String> options, String name,
+                                    Function<HttpExchange, String> handler) throws IOException {
+        return new StubService(name, LatencyDistribution.parse(options.get(name + ".latency")),
+                Double.parseDouble(options.get(name + ".error-rate")),
+                Integer.parseInt(options.getOrDefault(name + ".error-status", "503")), handler);
+    }
+
+    /**
+     * This method returns the client credentials token of the outbox worker, which expires in an hour
+     */
+    private static String clientTokenResponse() {
+        return "{\"access_token\":\"loadtest-client\",\"token_type\":\"bearer\",\"expires_in\":3600}";
+    }
+
+    /**
+     * This method returns a check_token answer of an active admin token that expires in an hour
+     */
+    private static String checkTokenResponse() {
+        long expiry = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + TimeUnit.HOURS.toSeconds(1);
+        return "{\"exp\":" + expiry + ",\"user_name\":\"loadtest\",\"authorities\":[\"ADMIN\"],"
+                + "\"client_id\":\"ignite-client\",\"scope\":[\"read\",\"write\"],\"aud\":[\"" + RESOURCE_ID
+                + "\"],\"active\":true}";
+    }
+
+    /**
+     * This method parses the --name=value arguments on top of the defaults
+     *
+     * @param overrides scenario defaults that replace entries of {@link #DEFAULTS}
+     * @param args      command line arguments
+     * @return options
+     */
+    static Map<String, String> parseOptions(Map<String, String> overrides, String[] args) {
+        Map<String, String> options = new LinkedHashMap<>(DEFAULTS);
+        options.putAll(overrides);
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0)
+                throw new IllegalArgumentException("Expected --name=value but was: " + arg + ". Options: "
+                        + DEFAULTS);
+            String name = arg.substring(2, separator);
+            if (!DEFAULTS.containsKey(name) && !name.startsWith(APP_OPTION_PREFIX))
+                throw new IllegalArgumentException("Unknown option: " + name + ". Options: " + DEFAULTS);
+            options.put(name, arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("Expected operation:weight in mix but was: " + entry);
+            weights.put(Operation.ofOptionName(parts[0]), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
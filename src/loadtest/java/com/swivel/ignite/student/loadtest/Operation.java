@@ -0,0 +1,37 @@
+package com.swivel.ignite.student.loadtest;
+
+/**
+ * Student service operations driven by the load test, named as they are given in the mix option
+ */
+public enum Operation {
+
+    CREATE("create"),
+    GET("get"),
+    GET_ALL("getAll"),
+    ENROLL("enroll"),
+    DELETE("delete");
+
+    private final String optionName;
+
+    Operation(String optionName) {
+        this.optionName = optionName;
+    }
+
+    public String getOptionName() {
+        return optionName;
+    }
+
+    /**
+     * This method returns the operation of a mix option name
+     *
+     * @param optionName option name, e.g. getAll
+     * @return operation
+     */
+    public static Operation ofOptionName(String optionName) {
+        for (Operation operation : values()) {
+            if (operation.optionName.equalsIgnoreCase(optionName.trim()))
+                return operation;
+        }
+        throw new IllegalArgumentException("Unknown operation: " + optionName);
+    }
+}
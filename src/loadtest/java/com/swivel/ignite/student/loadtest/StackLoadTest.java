@@ -0,0 +1,49 @@
+package com.swivel.ignite.student.loadtest;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares the throughput of the servlet student service with the reactive one (WebFlux, R2DBC and WebClient)
+ * under many concurrent clients and slow downstream services. Runs {@link LoadTest} twice with the same options,
+ * first on the servlet stack and then on the reactive stack, each on a fresh application and database. The http
+ * connection pools and bulkheads of the downstream services are raised above the number of clients, so the
+ * request and downstream threads are what limits the servlet run.
+ * <p>
+ * Options are the ones of {@link LoadTest}.
+ * <p>
+ * Run: mvn -Ploadtest,reactive test-compile exec:exec -Dloadtest.main=com.swivel.ignite.student.loadtest.StackLoadTest
+ */
+public final class StackLoadTest {
+
+    private static final String STACK_OPTION = "stack";
+    private static final int CONNECTIONS = 1000;
+    private static final Map<String, String> SCENARIO = new LinkedHashMap<>();
+
+    static {
+        SCENARIO.put("concurrency", "400");
+        SCENARIO.put("mix", "create:20,get:50,enroll:15,delete:15");
+        SCENARIO.put("check-token.latency", "fixed:100");
+        SCENARIO.put("auth.latency", "fixed:100");
+        SCENARIO.put("payment.latency", "fixed:100");
+        SCENARIO.put("tuition.latency", "fixed:100");
+        for (String service : new String[]{"auth", "payment", "tuition"}) {
+            SCENARIO.put("app." + service + ".http.max-connections", String.valueOf(CONNECTIONS));
+            SCENARIO.put("app." + service + ".resilience.max-concurrent-calls", String.valueOf(CONNECTIONS));
+        }
+    }
+
+    private StackLoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = LoadTest.parseOptions(SCENARIO, args);
+        for (String stack : new String[]{"servlet", "reactive"}) {
+            System.out.println("=== " + stack + " stack ===");
+            options.put(STACK_OPTION, stack);
+            LoadTest.run(options);
+            System.out.println();
+        }
+    }
+}
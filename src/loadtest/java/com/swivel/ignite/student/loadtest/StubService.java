@@ -0,0 +1,129 @@
+package com.swivel.ignite.student.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * In-process stand-in for a downstream service, listening on a loopback port. Every request waits for a latency
+ * of the configured distribution and then fails with the configured error status at the configured error rate,
+ * or is answered with the json body produced by the handler.
+ */
+@Slf4j
+public class StubService implements AutoCloseable {
+
+    private static final String ERROR_BODY = "{\"status\":\"ERROR\",\"message\":\"Stubbed failure\",\"data\":null,"
+            + "\"displayMessage\":\"Oops!! Something went wrong. Please try again.\",\"errorCode\":5000}";
+    private final String name;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile LatencyDistribution latency;
+    private volatile double errorRate;
+    private volatile int errorStatus;
+
+    /**
+     * @param name        service name
+     * @param latency     latency distribution
+     * @param errorRate   share of requests that fail, from 0 to 1
+     * @param errorStatus status of failed requests
+     * @param handler     json response body of a successful request
+     * @throws IOException when the server can not be started
+     */
+    public StubService(String name, LatencyDistribution latency, double errorRate, int errorStatus,
+                       Function<HttpExchange, String> handler) throws IOException {
+        this.name = name;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.server.createContext("/", exchange -> handle(exchange, handler));
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    private void handle(HttpExchange exchange, Function<HttpExchange, String> handler) throws IOException {
+        requests.increment();
+        try {
+            exchange.getRequestBody().readAllBytes();
+            latency.sleep();
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                failures.increment();
+                respond(exchange, errorStatus, ERROR_BODY);
+                return;
+            }
+            respond(exchange, 200, handler.apply(exchange));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Stub {} failed to answer {}", name, exchange.getRequestURI(), e);
+            respond(exchange, 500, ERROR_BODY);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    /**
+     * This method returns the base url of the stub, e.g. http://127.0.0.1:40123
+     *
+     * @return base url
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public void setLatency(LatencyDistribution latency) {
+        this.latency = latency;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public void setErrorStatus(int errorStatus) {
+        this.errorStatus = errorStatus;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -1,14 +1,27 @@
 package com.swivel.ignite.student;
 
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
- * Student Application
+ * Student Application. The classes of the reactive stack, which the reactive profile adds to the classpath, are
+ * left out of the component scan, and so is the R2DBC connection factory, which would replace the JDBC data source.
  */
-@SpringBootApplication
+@SpringBootConfiguration
+@EnableAutoConfiguration(excludeName = "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration")
+@ComponentScan(excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.swivel\\.ignite\\.student\\.reactive\\..*")})
 @EnableEurekaClient
+@EnableScheduling
 public class StudentApplication {
 
     public static void main(String[] args) {
@@ -1,9 +1,21 @@
 package com.swivel.ignite.student.config;
 
+import com.swivel.ignite.student.tracing.TracingClientInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Base component configuration
  */
@@ -11,7 +23,87 @@ import org.springframework.web.client.RestTemplate;
 public class BaseConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @ConfigurationProperties(prefix = "auth.http")
+    public HttpClientProperties authHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "payment.http")
+    public HttpClientProperties paymentHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "tuition.http")
+    public HttpClientProperties tuitionHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "student.cache.invalidation.http")
+    public HttpClientProperties peerHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    public RestTemplate authRestTemplate(
+            @Qualifier("authHttpClientProperties") HttpClientProperties properties, MeterRegistry meterRegistry,
+            OpenTelemetry openTelemetry) {
+        return pooledRestTemplate(properties, meterRegistry, openTelemetry, "auth");
+    }
+
+    @Bean
+    public RestTemplate paymentRestTemplate(
+            @Qualifier("paymentHttpClientProperties") HttpClientProperties properties, MeterRegistry meterRegistry,
+            OpenTelemetry openTelemetry) {
+        return pooledRestTemplate(properties, meterRegistry, openTelemetry, "payment");
+    }
+
+    @Bean
+    public RestTemplate tuitionRestTemplate(
+            @Qualifier("tuitionHttpClientProperties") HttpClientProperties properties, MeterRegistry meterRegistry,
+            OpenTelemetry openTelemetry) {
+        return pooledRestTemplate(properties, meterRegistry, openTelemetry, "tuition");
+    }
+
+    @Bean
+    public RestTemplate peerRestTemplate(
+            @Qualifier("peerHttpClientProperties") HttpClientProperties properties, MeterRegistry meterRegistry,
+            OpenTelemetry openTelemetry) {
+        return pooledRestTemplate(properties, meterRegistry, openTelemetry, "student-peer");
+    }
+
+    /**
+     * This method creates a rest template backed by its own keep-alive connection pool, with its calls timed as
+     * downstream.requests of the given service and traced with client spans
+     *
+     * @param properties    pool and timeout settings
+     * @param meterRegistry meter registry
+     * @param openTelemetry open telemetry
+     * @param service       downstream service name
+     * @return rest template
+     */
+    private RestTemplate pooledRestTemplate(HttpClientProperties properties, MeterRegistry meterRegistry,
+                                            OpenTelemetry openTelemetry, String service) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                properties.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(properties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxConnections());
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                .setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis())
+                .setSocketTimeout((int) properties.getReadTimeout().toMillis())
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(properties.getIdleEviction().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new DownstreamMetricsInterceptor(meterRegistry, service));
+        restTemplate.getInterceptors().add(new TracingClientInterceptor(openTelemetry, service));
+        return restTemplate;
     }
 }
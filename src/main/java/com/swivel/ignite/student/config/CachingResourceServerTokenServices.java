@@ -0,0 +1,122 @@
+package com.swivel.ignite.student.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resource server token services that cache the result of a delegate (remote check_token) lookup.
+ * Entries live until the token expires, capped at a max TTL, in a size bounded (W-TinyLFU) cache.
+ * Concurrent lookups of the same token share a single call to the delegate.
+ */
+public class CachingResourceServerTokenServices implements ResourceServerTokenServices {
+
+    private final ResourceServerTokenServices delegate;
+    private final Clock clock;
+    private final long maxTtlNanos;
+    @Getter
+    private final Cache<String, CachedAuthentication> cache;
+
+    /**
+     * @param delegate    token services that perform the actual token lookup
+     * @param maximumSize maximum number of cached tokens
+     * @param maxTtl      maximum time a token is cached, also used when the token has no expiry
+     * @param clock       clock used to evaluate token expiry
+     * @param ticker      ticker used to measure time in the cache
+     */
+    public CachingResourceServerTokenServices(ResourceServerTokenServices delegate, long maximumSize,
+                                              Duration maxTtl, Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public OAuth2Authentication loadAuthentication(String accessToken) {
+        return cache.get(accessToken, this::introspect).toAuthentication();
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String accessToken) {
+        return delegate.readAccessToken(accessToken);
+    }
+
+    /**
+     * This method loads the authentication of a token from the delegate and works out how long it can be cached
+     *
+     * @param accessToken access token
+     * @return cached authentication
+     */
+    private CachedAuthentication introspect(String accessToken) {
+        OAuth2Authentication authentication = delegate.loadAuthentication(accessToken);
+        long ttlNanos = maxTtlNanos;
+        Long expiry = ExpiryAwareAccessTokenConverter.getExpiry(authentication);
+        if (expiry != null) {
+            long remainingMillis = TimeUnit.SECONDS.toMillis(expiry) - clock.millis();
+            ttlNanos = Math.max(0, Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        }
+        return new CachedAuthentication(authentication.getOAuth2Request(), authentication.getUserAuthentication(),
+                ttlNanos);
+    }
+
+    /**
+     * Immutable cache entry. A new authentication is handed out on every lookup, because the authentication
+     * manager sets request specific details on the instance it receives.
+     */
+    static final class CachedAuthentication {
+
+        private final OAuth2Request request;
+        private final Authentication userAuthentication;
+        private final long ttlNanos;
+
+        private CachedAuthentication(OAuth2Request request, Authentication userAuthentication, long ttlNanos) {
+            this.request = request;
+            this.userAuthentication = userAuthentication;
+            this.ttlNanos = ttlNanos;
+        }
+
+        private OAuth2Authentication toAuthentication() {
+            return new OAuth2Authentication(request, userAuthentication);
+        }
+    }
+
+    /**
+     * Expires each entry when its token expires (or after the max TTL)
+     */
+    private static final class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                                      long currentDuration) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
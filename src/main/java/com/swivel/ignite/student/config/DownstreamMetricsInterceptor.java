@@ -0,0 +1,87 @@
+package com.swivel.ignite.student.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Times every call of a downstream rest template as downstream.requests, tagged with the downstream service, the
+ * http method, the status and the outcome, and counts failed calls as downstream.errors. The uri is left out so
+ * that path variables do not multiply the time series.
+ */
+public class DownstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String TIMER_NAME = "downstream.requests";
+    static final String ERROR_COUNTER_NAME = "downstream.errors";
+    private static final String IO_ERROR_OUTCOME = "IO_ERROR";
+    private static final String IO_ERROR_STATUS = "IO_ERROR";
+    private final MeterRegistry meterRegistry;
+    private final String service;
+
+    /**
+     * @param meterRegistry meter registry
+     * @param service       downstream service name
+     */
+    public DownstreamMetricsInterceptor(MeterRegistry meterRegistry, String service) {
+        this.meterRegistry = meterRegistry;
+        this.service = service;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String method = request.getMethodValue();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getRawStatusCode();
+            record(sample, method, String.valueOf(status), getOutcome(status));
+            return response;
+        } catch (IOException | RuntimeException e) {
+            record(sample, method, IO_ERROR_STATUS, IO_ERROR_OUTCOME);
+            throw e;
+        }
+    }
+
+    /**
+     * This method records a finished call
+     *
+     * @param sample  timer sample started before the call
+     * @param method  http method
+     * @param status  http status or IO_ERROR
+     * @param outcome outcome
+     */
+    private void record(Timer.Sample sample, String method, String status, String outcome) {
+        sample.stop(Timer.builder(TIMER_NAME)
+                .description("Calls to downstream services")
+                .tags("service", service, "method", method, "status", status, "outcome", outcome)
+                .register(meterRegistry));
+        if (!"SUCCESS".equals(outcome))
+            Counter.builder(ERROR_COUNTER_NAME)
+                    .description("Failed calls to downstream services")
+                    .tags("service", service, "outcome", outcome)
+                    .register(meterRegistry).increment();
+    }
+
+    /**
+     * This method returns the outcome of an http status
+     *
+     * @param status http status code
+     * @return outcome
+     */
+    private static String getOutcome(int status) {
+        if (status >= 500)
+            return "SERVER_ERROR";
+        if (status >= 400)
+            return "CLIENT_ERROR";
+        if (status >= 300)
+            return "REDIRECTION";
+        return "SUCCESS";
+    }
+}
@@ -0,0 +1,113 @@
+package com.swivel.ignite.student.config;
+
+import io.opentelemetry.context.Context;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executor configuration
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * This method creates the default application executor (used for async mvc requests such as streamed
+     * responses). Spring boot only creates it when no other executor is defined, so it is declared here
+     * next to the dedicated executors.
+     *
+     * @param builder auto-configured task executor builder (spring.task.execution.*)
+     * @return application task executor
+     */
+    @Lazy
+    @Primary
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * This method creates the bounded executor that runs downstream microservice calls concurrently.
+     * When the pool and its queue are full the calling thread runs the call itself, so callers slow down
+     * instead of failing. Calls run in the trace context of the request that submitted them.
+     *
+     * @param poolSize      number of threads
+     * @param queueCapacity number of calls waiting for a thread
+     * @return downstream executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor downstreamExecutor(@Value("${student.downstream.pool-size}") int poolSize,
+                                                     @Value("${student.downstream.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("downstream-");
+        executor.setTaskDecorator(task -> Context.current().wrap(task));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * This method creates the executor of the outbox worker that runs the downstream actions of a polled batch
+     *
+     * @param poolSize number of threads
+     * @return outbox executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor outboxExecutor(@Value("${student.outbox.worker-pool-size}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * This method creates the executor that reloads student cache entries in the background. The student cache
+     * sheds reloads while as many as the pool size are in progress, so the queue stays short.
+     *
+     * @param poolSize number of threads
+     * @return student cache executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor studentCacheExecutor(@Value("${student.cache.pool-size}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("student-cache-");
+        return executor;
+    }
+
+    /**
+     * This method creates the executor that sends student cache invalidations to the peer instances. When the
+     * queue is full it rejects the invalidation, which the broadcaster drops, so that a burst of changes never
+     * sends invalidations from the request thread.
+     *
+     * @param poolSize number of threads
+     * @return cache invalidation executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheInvalidationExecutor(
+            @Value("${student.cache.invalidation.pool-size}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("cache-invalidation-");
+        return executor;
+    }
+}
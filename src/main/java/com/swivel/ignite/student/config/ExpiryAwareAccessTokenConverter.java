@@ -0,0 +1,42 @@
+package com.swivel.ignite.student.config;
+
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Access token converter that keeps the token expiry ("exp" claim of the check_token response)
+ * as an extension of the stored OAuth2 request, so the authentication can be cached until the token expires.
+ */
+public class ExpiryAwareAccessTokenConverter extends DefaultAccessTokenConverter {
+
+    @Override
+    public OAuth2Authentication extractAuthentication(Map<String, ?> map) {
+        OAuth2Authentication authentication = super.extractAuthentication(map);
+        Object exp = map.get(EXP);
+        if (!(exp instanceof Number))
+            return authentication;
+        OAuth2Request request = authentication.getOAuth2Request();
+        Map<String, Serializable> extensions = new HashMap<>(request.getExtensions());
+        extensions.put(EXP, ((Number) exp).longValue());
+        OAuth2Request requestWithExpiry = new OAuth2Request(request.getRequestParameters(), request.getClientId(),
+                request.getAuthorities(), request.isApproved(), request.getScope(), request.getResourceIds(),
+                request.getRedirectUri(), request.getResponseTypes(), extensions);
+        return new OAuth2Authentication(requestWithExpiry, authentication.getUserAuthentication());
+    }
+
+    /**
+     * This method returns the token expiry kept by this converter
+     *
+     * @param authentication authentication
+     * @return expiry in epoch seconds / null
+     */
+    public static Long getExpiry(OAuth2Authentication authentication) {
+        Serializable exp = authentication.getOAuth2Request().getExtensions().get(EXP);
+        return exp instanceof Number ? ((Number) exp).longValue() : null;
+    }
+}
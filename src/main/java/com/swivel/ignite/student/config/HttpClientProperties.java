@@ -0,0 +1,39 @@
+package com.swivel.ignite.student.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and timeout settings of a downstream http client
+ */
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    /**
+     * Maximum number of pooled connections to the downstream service
+     */
+    private int maxConnections = 50;
+    /**
+     * Time allowed to establish a connection
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    /**
+     * Time allowed to lease a connection from the pool
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+    /**
+     * Time allowed between two packets of a response
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+    /**
+     * Idle time after which a pooled connection is closed
+     */
+    private Duration idleEviction = Duration.ofSeconds(30);
+    /**
+     * Maximum lifetime of a pooled connection
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+}
@@ -0,0 +1,170 @@
+package com.swivel.ignite.student.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.jwt.crypto.sign.RsaVerifier;
+import org.springframework.security.jwt.crypto.sign.SignatureVerifier;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public keys used to verify the signature of JWT access tokens.
+ * Keys come either from a single configured public key or from a JWK set (file or http url) that is
+ * reloaded in the background.
+ */
+@Slf4j
+public class JwtVerificationKeys implements Closeable {
+
+    private static final String KEYS = "keys";
+    private static final String KEY_TYPE = "kty";
+    private static final String KEY_ID = "kid";
+    private static final String ALGORITHM = "alg";
+    private static final String MODULUS = "n";
+    private static final String EXPONENT = "e";
+    private static final String RSA = "RSA";
+    private static final String DEFAULT_ALGORITHM = "RS256";
+    private static final Map<String, String> SIGNATURE_ALGORITHMS;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static {
+        Map<String, String> algorithms = new HashMap<>();
+        algorithms.put("RS256", "SHA256withRSA");
+        algorithms.put("RS384", "SHA384withRSA");
+        algorithms.put("RS512", "SHA512withRSA");
+        SIGNATURE_ALGORITHMS = Collections.unmodifiableMap(algorithms);
+    }
+
+    private final String jwkSetUri;
+    private final SignatureVerifier defaultVerifier;
+    private final ScheduledExecutorService refresher;
+    private volatile Map<String, SignatureVerifier> verifiers;
+
+    private JwtVerificationKeys(String jwkSetUri, SignatureVerifier defaultVerifier,
+                                ScheduledExecutorService refresher) {
+        this.jwkSetUri = jwkSetUri;
+        this.defaultVerifier = defaultVerifier;
+        this.refresher = refresher;
+        this.verifiers = Collections.emptyMap();
+    }
+
+    /**
+     * This method creates verification keys from a single PEM encoded RSA public key
+     *
+     * @param publicKey PEM encoded public key
+     * @return verification keys
+     */
+    public static JwtVerificationKeys ofPublicKey(String publicKey) {
+        return new JwtVerificationKeys(null, new RsaVerifier(publicKey), null);
+    }
+
+    /**
+     * This method creates verification keys from a JWK set and schedules its reload
+     *
+     * @param jwkSetUri       JWK set location (file: or http(s): url)
+     * @param refreshInterval interval between reloads of the JWK set
+     * @return verification keys
+     */
+    public static JwtVerificationKeys ofJwkSet(String jwkSetUri, Duration refreshInterval) {
+        ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwk-set-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        JwtVerificationKeys keys = new JwtVerificationKeys(jwkSetUri, null, refresher);
+        keys.load();
+        long intervalMillis = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(keys::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return keys;
+    }
+
+    /**
+     * This method returns the verifier of a key
+     *
+     * @param keyId key id of the token header (may be null)
+     * @return signature verifier
+     */
+    public SignatureVerifier getVerifier(String keyId) {
+        if (defaultVerifier != null)
+            return defaultVerifier;
+        Map<String, SignatureVerifier> current = verifiers;
+        SignatureVerifier verifier = keyId == null && current.size() == 1
+                ? current.values().iterator().next() : current.get(keyId);
+        if (verifier == null)
+            throw new InvalidTokenException("No verification key found for key id: " + keyId);
+        return verifier;
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null)
+            refresher.shutdownNow();
+    }
+
+    /**
+     * This method reloads the JWK set, keeping the current keys when the reload fails
+     */
+    private void refresh() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh JWK set from: {}. Keeping the current keys", jwkSetUri, e);
+        }
+    }
+
+    /**
+     * This method loads the RSA keys of the JWK set
+     */
+    private void load() {
+        try (InputStream inputStream = new URL(jwkSetUri).openStream()) {
+            JsonNode keys = OBJECT_MAPPER.readTree(inputStream).path(KEYS);
+            Map<String, SignatureVerifier> loaded = new HashMap<>();
+            for (JsonNode key : keys) {
+                if (RSA.equals(key.path(KEY_TYPE).asText()))
+                    loaded.put(key.path(KEY_ID).asText(null), toVerifier(key));
+            }
+            if (loaded.isEmpty())
+                throw new IllegalStateException("No RSA keys found in JWK set: " + jwkSetUri);
+            verifiers = Collections.unmodifiableMap(loaded);
+            log.debug("Loaded {} verification keys from JWK set: {}", loaded.size(), jwkSetUri);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to load JWK set from: " + jwkSetUri, e);
+        }
+    }
+
+    /**
+     * This method converts a RSA JWK into a signature verifier
+     *
+     * @param key RSA JWK
+     * @return signature verifier
+     * @throws GeneralSecurityException when the key is invalid
+     */
+    private SignatureVerifier toVerifier(JsonNode key) throws GeneralSecurityException {
+        String algorithm = SIGNATURE_ALGORITHMS.get(key.path(ALGORITHM).asText(DEFAULT_ALGORITHM));
+        if (algorithm == null)
+            throw new GeneralSecurityException("Unsupported JWK algorithm: " + key.path(ALGORITHM).asText());
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        BigInteger modulus = new BigInteger(1, decoder.decode(key.path(MODULUS).asText()));
+        BigInteger exponent = new BigInteger(1, decoder.decode(key.path(EXPONENT).asText()));
+        RSAPublicKey publicKey = (RSAPublicKey) KeyFactory.getInstance(RSA)
+                .generatePublic(new RSAPublicKeySpec(modulus, exponent));
+        return new RsaVerifier(publicKey, algorithm);
+    }
+}
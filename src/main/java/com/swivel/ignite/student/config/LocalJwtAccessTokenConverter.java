@@ -0,0 +1,43 @@
+package com.swivel.ignite.student.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.security.jwt.Jwt;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.util.Map;
+
+/**
+ * JWT access token converter that verifies token signatures locally with {@link JwtVerificationKeys}.
+ * The claims are mapped by the default access token converter, so the "authorities" claim becomes the
+ * ADMIN/STUDENT authorities checked by the resource server rules.
+ */
+public class LocalJwtAccessTokenConverter extends JwtAccessTokenConverter {
+
+    private static final String KEY_ID = "kid";
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private final JwtVerificationKeys verificationKeys;
+
+    public LocalJwtAccessTokenConverter(JwtVerificationKeys verificationKeys) {
+        this.verificationKeys = verificationKeys;
+    }
+
+    @Override
+    protected Map<String, Object> decode(String token) {
+        try {
+            String keyId = JwtHelper.headers(token).get(KEY_ID);
+            Jwt jwt = JwtHelper.decodeAndVerify(token, verificationKeys.getVerifier(keyId));
+            Map<String, Object> claims = OBJECT_MAPPER.readValue(jwt.getClaims(), CLAIMS_TYPE);
+            Object exp = claims.get(EXP);
+            if (exp instanceof Integer)
+                claims.put(EXP, ((Integer) exp).longValue());
+            return claims;
+        } catch (Exception e) {
+            throw new InvalidTokenException("Cannot convert access token to JSON", e);
+        }
+    }
+}
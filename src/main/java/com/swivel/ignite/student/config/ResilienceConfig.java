@@ -0,0 +1,98 @@
+package com.swivel.ignite.student.config;
+
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
+import com.swivel.ignite.student.resilience.DownstreamResilience;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bulkheads, circuit breakers and retry budgets of the downstream microservices
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        return CircuitBreakerRegistry.ofDefaults();
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry() {
+        return BulkheadRegistry.ofDefaults();
+    }
+
+    /**
+     * This method publishes the state, failure rate and not permitted calls of every circuit breaker
+     *
+     * @param circuitBreakerRegistry circuit breaker registry
+     * @return meter binder
+     */
+    @Bean
+    public MeterBinder circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+    }
+
+    /**
+     * This method publishes the available and maximum concurrent calls of every bulkhead
+     *
+     * @param bulkheadRegistry bulkhead registry
+     * @return meter binder
+     */
+    @Bean
+    public MeterBinder bulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "auth.resilience")
+    public ResilienceProperties authResilienceProperties() {
+        return new ResilienceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "payment.resilience")
+    public ResilienceProperties paymentResilienceProperties() {
+        return new ResilienceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "tuition.resilience")
+    public ResilienceProperties tuitionResilienceProperties() {
+        return new ResilienceProperties();
+    }
+
+    @Bean
+    public DownstreamResilience authResilience(
+            @Qualifier("authResilienceProperties") ResilienceProperties properties,
+            CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry) {
+        return new DownstreamResilience("auth", ErrorResponseStatusType.AUTH_INTERNAL_SERVER_ERROR, properties,
+                circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    @Bean
+    public DownstreamResilience paymentResilience(
+            @Qualifier("paymentResilienceProperties") ResilienceProperties properties,
+            CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry) {
+        return new DownstreamResilience("payment", ErrorResponseStatusType.PAYMENT_INTERNAL_SERVER_ERROR,
+                properties, circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    @Bean
+    public DownstreamResilience tuitionResilience(
+            @Qualifier("tuitionResilienceProperties") ResilienceProperties properties,
+            CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry) {
+        return new DownstreamResilience("tuition", ErrorResponseStatusType.TUITION_INTERNAL_SERVER_ERROR,
+                properties, circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+}
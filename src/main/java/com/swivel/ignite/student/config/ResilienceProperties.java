@@ -0,0 +1,67 @@
+package com.swivel.ignite.student.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Bulkhead, circuit breaker and retry settings of a downstream service
+ */
+@Getter
+@Setter
+public class ResilienceProperties {
+
+    /**
+     * Maximum number of concurrent calls to the downstream service
+     */
+    private int maxConcurrentCalls = 25;
+    /**
+     * Time a call waits for a free bulkhead slot before it is rejected
+     */
+    private Duration maxWait = Duration.ofMillis(50);
+    /**
+     * Failure rate in percent of the sliding window at which the circuit breaker opens
+     */
+    private float failureRateThreshold = 50;
+    /**
+     * Rate in percent of calls slower than slow-call-duration at which the circuit breaker opens
+     */
+    private float slowCallRateThreshold = 80;
+    /**
+     * Duration above which a call counts as slow
+     */
+    private Duration slowCallDuration = Duration.ofSeconds(5);
+    /**
+     * Number of recent calls the failure and slow call rates are computed of
+     */
+    private int slidingWindowSize = 50;
+    /**
+     * Number of calls needed before the rates are computed
+     */
+    private int minimumCalls = 20;
+    /**
+     * Time the circuit breaker stays open before it lets trial calls through
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
+    /**
+     * Number of trial calls of a half-open circuit breaker
+     */
+    private int halfOpenCalls = 5;
+    /**
+     * Maximum number of attempts of an idempotent call
+     */
+    private int maxAttempts = 3;
+    /**
+     * Base of the exponential backoff between attempts
+     */
+    private Duration retryBackoff = Duration.ofMillis(100);
+    /**
+     * Retries allowed per call made
+     */
+    private double retryBudgetRatio = 0.1;
+    /**
+     * Retries allowed per second regardless of the number of calls
+     */
+    private double minRetriesPerSecond = 1;
+}
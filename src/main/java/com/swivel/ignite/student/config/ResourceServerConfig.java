@@ -8,6 +8,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableResourceServer;
 import org.springframework.security.oauth2.config.annotation.web.configuration.ResourceServerConfigurerAdapter;
 import org.springframework.security.oauth2.config.annotation.web.configurers.ResourceServerSecurityConfigurer;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
 
 /**
  * Resource Server Configuration
@@ -17,11 +18,15 @@ import org.springframework.security.oauth2.config.annotation.web.configurers.Res
 public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
 
     private static final String STUDENT_ENDPOINT = "/api/v1/student/**";
+    private static final String INTERNAL_CACHE_ENDPOINT = "/api/v1/internal/student/cache/**";
     private final String resourceId;
+    private final ResourceServerTokenServices tokenServices;
 
     @Autowired
-    public ResourceServerConfig(@Value("${oauth.resource-id}") String resourceId) {
+    public ResourceServerConfig(@Value("${oauth.resource-id}") String resourceId,
+                                ResourceServerTokenServices tokenServices) {
         this.resourceId = resourceId;
+        this.tokenServices = tokenServices;
     }
 
     /**
@@ -32,6 +37,7 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
     @Override
     public void configure(ResourceServerSecurityConfigurer resources) {
         resources.resourceId(resourceId);
+        resources.tokenServices(tokenServices);
         resources.authenticationEntryPoint(new CustomAuthenticationEntryPoint());
         resources.accessDeniedHandler(new CustomAccessDeniedHandler());
     }
@@ -48,8 +54,12 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
                 .antMatchers(HttpMethod.POST, STUDENT_ENDPOINT).access("hasAuthority('ADMIN')")
                 .antMatchers(HttpMethod.GET, STUDENT_ENDPOINT).access("hasAnyAuthority('ADMIN', 'STUDENT')")
                 .antMatchers(HttpMethod.DELETE, STUDENT_ENDPOINT).access("hasAuthority('ADMIN')")
+                // peers authenticate cache invalidations with the shared peer secret
+                .antMatchers(HttpMethod.POST, INTERNAL_CACHE_ENDPOINT).permitAll()
                 .antMatchers("/v2/api-docs", "/configuration/ui", "/swagger-resources/**",
                         "/configuration/**", "/swagger-ui.html", "/webjars/**").permitAll()
+                // only served on the management port, scraped by prometheus without an access token
+                .antMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated().and().cors();
     }
 }
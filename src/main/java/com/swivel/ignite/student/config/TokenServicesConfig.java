@@ -0,0 +1,104 @@
+package com.swivel.ignite.student.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.oauth2.provider.token.DefaultTokenServices;
+import org.springframework.security.oauth2.provider.token.RemoteTokenServices;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Token services configuration of the resource server.
+ * oauth.token-verification selects how access tokens are validated:
+ * remote (auth service check_token, default) or jwt (local signature verification).
+ * The token services are primary, spring boot still registers its own remoteTokenServices from
+ * security.oauth2.resource.token-info-uri.
+ */
+@Configuration
+public class TokenServicesConfig {
+
+    private static final String TOKEN_CACHE_NAME = "oauth2.token";
+    private static final String TOKEN_VERIFICATION = "oauth.token-verification";
+
+    /**
+     * This method creates the token services that validate access tokens against the auth service check_token
+     * endpoint. The lookups are cached unless the token cache is disabled.
+     *
+     * @param checkTokenUrl  check_token endpoint url
+     * @param clientId       client id
+     * @param clientSecret   client secret
+     * @param cacheEnabled   token cache enabled
+     * @param cacheSize      maximum number of cached tokens
+     * @param cacheMaxTtl    maximum time a token is cached
+     * @param meterRegistry  meter registry
+     * @return token services
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = TOKEN_VERIFICATION, havingValue = "remote", matchIfMissing = true)
+    public ResourceServerTokenServices checkTokenServices(
+            @Value("${security.oauth2.resource.token-info-uri}") String checkTokenUrl,
+            @Value("${security.oauth2.client.client-id}") String clientId,
+            @Value("${security.oauth2.client.client-secret}") String clientSecret,
+            @Value("${oauth.token-cache.enabled}") boolean cacheEnabled,
+            @Value("${oauth.token-cache.maximum-size}") long cacheSize,
+            @Value("${oauth.token-cache.max-ttl}") Duration cacheMaxTtl,
+            MeterRegistry meterRegistry) {
+        RemoteTokenServices remoteTokenServices = new RemoteTokenServices();
+        remoteTokenServices.setCheckTokenEndpointUrl(checkTokenUrl);
+        remoteTokenServices.setClientId(clientId);
+        remoteTokenServices.setClientSecret(clientSecret);
+        remoteTokenServices.setAccessTokenConverter(new ExpiryAwareAccessTokenConverter());
+        if (!cacheEnabled)
+            return remoteTokenServices;
+        CachingResourceServerTokenServices cachingTokenServices = new CachingResourceServerTokenServices(
+                remoteTokenServices, cacheSize, cacheMaxTtl, Clock.systemUTC(), Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, cachingTokenServices.getCache(), TOKEN_CACHE_NAME);
+        return cachingTokenServices;
+    }
+
+    /**
+     * This method creates the verification keys of JWT access tokens, from the JWK set when one is configured,
+     * otherwise from the configured public key
+     *
+     * @param publicKey       PEM encoded public key
+     * @param jwkSetUri       JWK set location (file: or http(s): url)
+     * @param refreshInterval interval between reloads of the JWK set
+     * @return verification keys
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = TOKEN_VERIFICATION, havingValue = "jwt")
+    public JwtVerificationKeys jwtVerificationKeys(@Value("${oauth.jwt.public-key}") String publicKey,
+                                                   @Value("${oauth.jwt.jwk-set-uri}") String jwkSetUri,
+                                                   @Value("${oauth.jwt.jwk-set-refresh-interval}")
+                                                           Duration refreshInterval) {
+        if (jwkSetUri.isEmpty())
+            return JwtVerificationKeys.ofPublicKey(publicKey);
+        return JwtVerificationKeys.ofJwkSet(jwkSetUri, refreshInterval);
+    }
+
+    /**
+     * This method creates the token services that validate signed JWT access tokens locally,
+     * without calling the auth service
+     *
+     * @param verificationKeys verification keys
+     * @return token services
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = TOKEN_VERIFICATION, havingValue = "jwt")
+    public ResourceServerTokenServices jwtTokenServices(JwtVerificationKeys verificationKeys) {
+        DefaultTokenServices tokenServices = new DefaultTokenServices();
+        tokenServices.setTokenStore(new JwtTokenStore(new LocalJwtAccessTokenConverter(verificationKeys)));
+        return tokenServices;
+    }
+}
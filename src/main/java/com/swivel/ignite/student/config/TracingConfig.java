@@ -0,0 +1,79 @@
+package com.swivel.ignite.student.config;
+
+import com.swivel.ignite.student.tracing.FileSpanExporter;
+import com.swivel.ignite.student.tracing.Tracing;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+/**
+ * Tracing configuration. Spans are sampled per trace with tracing.sampling-ratio (a sampled caller is always
+ * followed) and handed in batches to every {@link SpanExporter} bean: the built-in one selected by
+ * tracing.exporter, plus any exporter defined by the deployment.
+ */
+@Configuration
+public class TracingConfig {
+
+    private static final String LOGGING_EXPORTER = "logging";
+    private static final String FILE_EXPORTER = "file";
+
+    /**
+     * This method creates the built-in span exporter
+     *
+     * @param exporter exporter type: none, logging or file
+     * @param filePath span file of the file exporter
+     * @return span exporter
+     * @throws IOException when the span file cannot be opened
+     */
+    @Bean
+    public SpanExporter spanExporter(@Value("${tracing.exporter}") String exporter,
+                                     @Value("${tracing.file.path}") String filePath) throws IOException {
+        if (LOGGING_EXPORTER.equalsIgnoreCase(exporter))
+            return LoggingSpanExporter.create();
+        if (FILE_EXPORTER.equalsIgnoreCase(exporter))
+            return new FileSpanExporter(Paths.get(filePath));
+        return SpanExporter.composite(Collections.emptyList());
+    }
+
+    @Bean
+    public SdkTracerProvider sdkTracerProvider(@Value("${spring.application.name}") String serviceName,
+                                               @Value("${tracing.sampling-ratio}") double samplingRatio,
+                                               ObjectProvider<SpanExporter> spanExporters) {
+        SpanExporter spanExporter = SpanExporter.composite(spanExporters.orderedStream()
+                .collect(Collectors.toList()));
+        return SdkTracerProvider.builder()
+                .setResource(Resource.getDefault().merge(Resource.create(Attributes.of(Tracing.SERVICE_NAME,
+                        serviceName))))
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(samplingRatio)))
+                .addSpanProcessor(BatchSpanProcessor.builder(spanExporter).build())
+                .build();
+    }
+
+    @Bean
+    public OpenTelemetry openTelemetry(SdkTracerProvider sdkTracerProvider) {
+        return OpenTelemetrySdk.builder()
+                .setTracerProvider(sdkTracerProvider)
+                .setPropagators(ContextPropagators.create(TextMapPropagator.composite(
+                        W3CTraceContextPropagator.getInstance(), W3CBaggagePropagator.getInstance())))
+                .build();
+    }
+}
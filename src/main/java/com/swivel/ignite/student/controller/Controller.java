@@ -8,9 +8,14 @@ import com.swivel.ignite.student.enums.SuccessResponseStatusType;
 import com.swivel.ignite.student.wrapper.ErrorResponseWrapper;
 import com.swivel.ignite.student.wrapper.ResponseWrapper;
 import com.swivel.ignite.student.wrapper.RestErrorResponseWrapper;
+import com.swivel.ignite.student.wrapper.StreamingSuccessResponseWriter;
 import com.swivel.ignite.student.wrapper.SuccessResponseWrapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
 
 /**
  * Base Controller
@@ -33,6 +38,18 @@ public class Controller {
         return new ResponseEntity<>(responseWrapper, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * This method creates an empty data response for forbidden scenarios
+     *
+     * @param status error status
+     * @return forbidden error response
+     */
+    protected ResponseEntity<ResponseWrapper> getForbiddenResponse(ErrorResponseStatusType status) {
+        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, status.getMessage(),
+                null, ERROR_MESSAGE, status.getCode());
+        return new ResponseEntity<>(responseWrapper, HttpStatus.FORBIDDEN);
+    }
+
     /**
      * This method creates an empty data response for the internal server error scenarios
      *
@@ -83,4 +100,22 @@ public class Controller {
                 data, SUCCESS_MESSAGE, status.getCode());
         return new ResponseEntity<>(responseWrapper, HttpStatus.valueOf(status.getCode()));
     }
+
+    /**
+     * This method creates a streamed list response for success scenarios.
+     * The list items are written to the response as they are produced by the source.
+     *
+     * @param status        success status
+     * @param writer        streaming response writer
+     * @param listFieldName name of the list field inside data
+     * @param source        source that pushes every list item to the given consumer
+     * @return streamed success response
+     */
+    protected ResponseEntity<StreamingResponseBody> getStreamingSuccessResponse(
+            SuccessResponseStatusType status, StreamingSuccessResponseWriter writer, String listFieldName,
+            Consumer<Consumer<ResponseDto>> source) {
+        StreamingResponseBody body = outputStream -> writer.write(outputStream, status, SUCCESS_MESSAGE,
+                listFieldName, source);
+        return ResponseEntity.status(status.getCode()).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
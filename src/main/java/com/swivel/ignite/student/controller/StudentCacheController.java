@@ -0,0 +1,65 @@
+package com.swivel.ignite.student.controller;
+
+import com.swivel.ignite.student.dto.request.StudentCacheInvalidationRequestDto;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
+import com.swivel.ignite.student.enums.SuccessResponseStatusType;
+import com.swivel.ignite.student.service.StudentCache;
+import com.swivel.ignite.student.service.StudentCacheInvalidationBroadcaster;
+import com.swivel.ignite.student.wrapper.ResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
+
+/**
+ * Internal endpoints used by the peer instances of this service to keep the student cache consistent
+ */
+@RestController
+@RequestMapping("api/v1/internal/student/cache")
+@Slf4j
+public class StudentCacheController extends Controller {
+
+    private final StudentCache studentCache;
+    private final byte[] secret;
+
+    @Autowired
+    public StudentCacheController(StudentCache studentCache,
+                                  @Value("${student.cache.invalidation.secret}") String secret) {
+        this.studentCache = studentCache;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * This method evicts the students changed on a peer instance from the local cache
+     *
+     * @param requestDto cache invalidation request dto
+     * @param peerSecret shared secret of the peers
+     * @return success/ error response
+     */
+    @PostMapping(path = "/invalidate", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> invalidate(
+            @RequestBody StudentCacheInvalidationRequestDto requestDto,
+            @RequestHeader(name = StudentCacheInvalidationBroadcaster.PEER_SECRET_HEADER, required = false)
+                    String peerSecret) {
+        if (secret.length == 0 || peerSecret == null
+                || !MessageDigest.isEqual(secret, peerSecret.getBytes(StandardCharsets.UTF_8))) {
+            log.error("Rejected student cache invalidation with an invalid peer secret");
+            return getForbiddenResponse(ErrorResponseStatusType.INVALID_PEER_SECRET);
+        }
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in student cache invalidation request DTO");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        studentCache.evictLocal(requestDto.getStudentIds(), requestDto.getAuthUserIds() == null
+                ? Collections.emptySet() : requestDto.getAuthUserIds());
+        log.debug("Invalidated {} cached students", requestDto.getStudentIds().size());
+        return getSuccessResponse(SuccessResponseStatusType.INVALIDATE_STUDENT_CACHE, null);
+    }
+}
@@ -1,22 +1,31 @@
 package com.swivel.ignite.student.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.student.dto.request.StudentBulkDeleteRequestDto;
 import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentBulkResponseDto;
 import com.swivel.ignite.student.dto.response.StudentListResponseDto;
+import com.swivel.ignite.student.dto.response.StudentPageResponseDto;
 import com.swivel.ignite.student.dto.response.StudentResponseDto;
 import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.BulkItemStatusType;
 import com.swivel.ignite.student.enums.ErrorResponseStatusType;
 import com.swivel.ignite.student.enums.RoleType;
 import com.swivel.ignite.student.enums.SuccessResponseStatusType;
 import com.swivel.ignite.student.service.StudentService;
 import com.swivel.ignite.student.wrapper.ResponseWrapper;
+import com.swivel.ignite.student.wrapper.StreamingSuccessResponseWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Student Controller
@@ -26,11 +35,26 @@ import java.util.List;
 @Slf4j
 public class StudentController extends Controller {
 
+    private static final String STUDENTS = "students";
     private final StudentService studentService;
+    private final StreamingSuccessResponseWriter streamingResponseWriter;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxBulkSize;
+    private final int maxRosterTuitionIds;
 
     @Autowired
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, ObjectMapper objectMapper,
+                             @Value("${student.pagination.default-page-size}") int defaultPageSize,
+                             @Value("${student.pagination.max-page-size}") int maxPageSize,
+                             @Value("${student.bulk.max-size}") int maxBulkSize,
+                             @Value("${student.roster.max-tuition-ids}") int maxRosterTuitionIds) {
         this.studentService = studentService;
+        this.streamingResponseWriter = new StreamingSuccessResponseWriter(objectMapper);
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxBulkSize = maxBulkSize;
+        this.maxRosterTuitionIds = maxRosterTuitionIds;
     }
 
     /**
@@ -50,10 +74,32 @@ public class StudentController extends Controller {
         }
         Student student = studentService.createStudent(requestDto, token);
         StudentResponseDto responseDto = new StudentResponseDto(student);
-        log.debug("Created student {}", responseDto.toLogJson());
+        log.debug("Created student {}", responseDto.toLogArgument());
         return getSuccessResponse(SuccessResponseStatusType.CREATE_STUDENT, responseDto);
     }
 
+    /**
+     * This method creates students in bulk
+     *
+     * @param requestDtos student create request dtos
+     * @return success(outcome of each student)/ error response
+     */
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> createStudents(@RequestBody List<StudentCreateRequestDto> requestDtos,
+                                                          HttpServletRequest request) {
+        String token = request.getHeader(AUTH_HEADER);
+        if (requestDtos.isEmpty() || requestDtos.size() > maxBulkSize) {
+            log.error("Invalid number of students: {} in bulk create request", requestDtos.size());
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_BULK_SIZE);
+        }
+        requestDtos.forEach(requestDto -> requestDto.setRoleType(RoleType.STUDENT));
+        StudentBulkResponseDto responseDto = new StudentBulkResponseDto(
+                studentService.createStudents(requestDtos, token), BulkItemStatusType.CREATED);
+        log.debug("Created {} of {} students in bulk", responseDto.getSucceeded(), requestDtos.size());
+        return getSuccessResponse(SuccessResponseStatusType.BULK_CREATE_STUDENT, responseDto);
+    }
+
     /**
      * This method is used to get a student by id
      *
@@ -92,12 +138,37 @@ public class StudentController extends Controller {
     public ResponseEntity<ResponseWrapper> deleteStudent(@PathVariable(name = "studentId") String studentId,
                                                          HttpServletRequest request) {
         String token = request.getHeader(AUTH_HEADER);
-        Student student = studentService.findById(studentId);
+        Student student = studentService.findByIdForWrite(studentId);
         studentService.deleteStudent(student, token);
         log.debug("Successfully deleted the student of id: {}", studentId);
         return getSuccessResponse(SuccessResponseStatusType.DELETE_STUDENT, null);
     }
 
+    /**
+     * This method deletes students in bulk
+     *
+     * @param requestDto student bulk delete request dto
+     * @return success(outcome of each student id)/ error response
+     */
+    @PostMapping(path = "/delete/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> deleteStudents(@RequestBody StudentBulkDeleteRequestDto requestDto,
+                                                          HttpServletRequest request) {
+        String token = request.getHeader(AUTH_HEADER);
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in student bulk delete request DTO");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        if (requestDto.getStudentIds().size() > maxBulkSize) {
+            log.error("Invalid number of students: {} in bulk delete request", requestDto.getStudentIds().size());
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_BULK_SIZE);
+        }
+        StudentBulkResponseDto responseDto = new StudentBulkResponseDto(
+                studentService.deleteStudents(requestDto.getStudentIds(), token), BulkItemStatusType.DELETED);
+        log.debug("Deleted {} of {} students in bulk", responseDto.getSucceeded(), requestDto.getStudentIds().size());
+        return getSuccessResponse(SuccessResponseStatusType.BULK_DELETE_STUDENT, responseDto);
+    }
+
     /**
      * This method is used to get all students
      *
@@ -105,12 +176,78 @@ public class StudentController extends Controller {
      */
     @GetMapping(path = "/get/all", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ResponseWrapper> getAllStudents() {
-        List<Student> studentList = studentService.getAll();
-        StudentListResponseDto responseDto = new StudentListResponseDto(studentList);
+        StudentListResponseDto responseDto = new StudentListResponseDto(studentService.getAll());
         log.debug("Returned all students");
         return getSuccessResponse(SuccessResponseStatusType.RETURNED_ALL_STUDENT, responseDto);
     }
 
+    /**
+     * This method is used to stream all students.
+     * Students are read through a database cursor and written to the response one by one, so memory use does
+     * not depend on the number of students.
+     *
+     * @return success(streamed student list)/ error response
+     */
+    @GetMapping(path = "/get/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllStudents() {
+        log.debug("Streaming all students");
+        return getStreamingSuccessResponse(SuccessResponseStatusType.RETURNED_ALL_STUDENT, streamingResponseWriter,
+                STUDENTS, consumer -> studentService.streamAll(consumer::accept));
+    }
+
+    /**
+     * This method is used to get a page of students ordered by id.
+     * Pages are addressed by the opaque cursor returned with the previous page, not by offset.
+     *
+     * @param cursor cursor returned with the previous page (omit for the first page)
+     * @param size   page size (default page size when omitted), capped at the configured max page size
+     * @return success(student page)/ error response
+     */
+    @GetMapping(path = "/get/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> getStudentPage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1) {
+            log.error("Invalid page size: {} for getting students page", pageSize);
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_SIZE);
+        }
+        StudentPageResponseDto responseDto = studentService.getPage(cursor, Math.min(pageSize, maxPageSize));
+        log.debug("Returned students page of size: {}", responseDto.getStudents().size());
+        return getSuccessResponse(SuccessResponseStatusType.RETURNED_STUDENT_PAGE, responseDto);
+    }
+
+    /**
+     * This method is used to get a page of the rosters of one or more tuitions. Students are ordered by tuition
+     * and then by the date they joined it, and pages are addressed by the cursor returned with the previous page.
+     *
+     * @param tuitionIds tuition ids (repeated or comma separated)
+     * @param cursor     cursor returned with the previous page (omit for the first page)
+     * @param size       page size (default page size when omitted), capped at the configured max page size
+     * @return success(roster page)/ error response
+     */
+    @GetMapping(path = "/get/roster", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> getTuitionRoster(
+            @RequestParam(name = "tuitionId") Set<String> tuitionIds,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size) {
+        tuitionIds.removeIf(tuitionId -> tuitionId.trim().isEmpty());
+        if (tuitionIds.isEmpty() || tuitionIds.size() > maxRosterTuitionIds) {
+            log.error("Invalid number of tuition ids: {} for getting tuition roster", tuitionIds.size());
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_TUITION_ID_COUNT);
+        }
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1) {
+            log.error("Invalid page size: {} for getting tuition roster", pageSize);
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_SIZE);
+        }
+        StudentPageResponseDto responseDto = studentService.getRoster(tuitionIds, cursor,
+                Math.min(pageSize, maxPageSize));
+        log.debug("Returned roster page of size: {} for {} tuitions", responseDto.getStudents().size(),
+                tuitionIds.size());
+        return getSuccessResponse(SuccessResponseStatusType.RETURNED_TUITION_ROSTER, responseDto);
+    }
+
     /**
      * This method is used to add a tuition to a student
      *
@@ -119,7 +256,7 @@ public class StudentController extends Controller {
     @PostMapping(path = "/add/student/{studentId}/tuition/{tuitionId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ResponseWrapper> addTuitionToStudent(@PathVariable(name = "studentId") String studentId,
                                                                @PathVariable(name = "tuitionId") String tuitionId) {
-        Student student = studentService.findById(studentId);
+        Student student = studentService.findByIdForWrite(studentId);
         if (student.getTuitionId() != null) {
             log.error("Student is already enrolled in a tuition");
             return getBadRequestResponse(ErrorResponseStatusType.STUDENT_ALREADY_ENROLLED_IN_A_TUITION);
@@ -137,7 +274,7 @@ public class StudentController extends Controller {
     @PostMapping(path = "/remove/student/{studentId}/tuition/{tuitionId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ResponseWrapper> removeTuitionFromStudent(@PathVariable(name = "studentId") String studentId,
                                                                     @PathVariable(name = "tuitionId") String tuitionId) {
-        Student student = studentService.findById(studentId);
+        Student student = studentService.findByIdForWrite(studentId);
         if (student.getTuitionId() == null || !student.getTuitionId().equals(tuitionId)) {
             log.error("Student is not enrolled in the tuition");
             return getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_ENROLLED_IN_TUITION);
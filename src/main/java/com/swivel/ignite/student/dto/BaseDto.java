@@ -1,9 +1,5 @@
 package com.swivel.ignite.student.dto;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.swivel.ignite.student.exception.StudentServiceException;
-
 import java.io.Serializable;
 
 /**
@@ -17,18 +13,31 @@ public interface BaseDto extends Serializable {
      * @return json string
      */
     default String toJson() {
-        try {
-            return new ObjectMapper().writeValueAsString(this);
-        } catch (JsonProcessingException e) {
-            throw new StudentServiceException("Object to json conversion was failed.", e);
-        }
+        return DtoJsonWriters.write(DtoJsonWriters.JSON_WRITER, this);
     }
 
     /**
      * This method converts object to json string for logging purpose.
-     * PII data should be obfuscated.
+     * Fields annotated with {@link LogMasked} are masked.
      *
      * @return json string
      */
-    String toLogJson();
+    default String toLogJson() {
+        return DtoJsonWriters.write(DtoJsonWriters.LOG_WRITER, this);
+    }
+
+    /**
+     * This method returns a log argument that converts object to log json only when the message is logged,
+     * so that nothing is serialized for a disabled log level.
+     *
+     * @return log argument
+     */
+    default Object toLogArgument() {
+        return new Object() {
+            @Override
+            public String toString() {
+                return toLogJson();
+            }
+        };
+    }
 }
@@ -0,0 +1,75 @@
+package com.swivel.ignite.student.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.swivel.ignite.student.exception.StudentServiceException;
+
+import java.io.IOException;
+
+/**
+ * Shared json writers of {@link BaseDto}. Object writers are immutable and thread safe, so they are built once
+ * instead of creating an object mapper, and introspecting the dto classes again, for every conversion.
+ */
+final class DtoJsonWriters {
+
+    static final String MASK = "****";
+    static final ObjectWriter JSON_WRITER = new ObjectMapper().writer();
+    static final ObjectWriter LOG_WRITER = new ObjectMapper()
+            .setAnnotationIntrospector(new LogMaskingAnnotationIntrospector()).writer();
+
+    private DtoJsonWriters() {
+    }
+
+    /**
+     * This method converts a dto to json string with the given writer
+     *
+     * @param writer object writer
+     * @param dto    dto
+     * @return json string
+     */
+    static String write(ObjectWriter writer, BaseDto dto) {
+        try {
+            return writer.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new StudentServiceException("Object to json conversion was failed.", e);
+        }
+    }
+
+    /**
+     * Serializes the properties annotated with {@link LogMasked} as a mask
+     */
+    private static class LogMaskingAnnotationIntrospector extends JacksonAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object findSerializer(Annotated annotated) {
+            if (annotated.hasAnnotation(LogMasked.class))
+                return MaskSerializer.class;
+            return super.findSerializer(annotated);
+        }
+    }
+
+    /**
+     * Writes a mask instead of the value
+     */
+    static class MaskSerializer extends StdSerializer<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        public MaskSerializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeString(MASK);
+        }
+    }
+}
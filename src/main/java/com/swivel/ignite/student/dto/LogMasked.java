@@ -0,0 +1,15 @@
+package com.swivel.ignite.student.dto;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a DTO field that holds PII or a secret. The value is replaced by a mask in
+ * {@link BaseDto#toLogJson()}, while {@link BaseDto#toJson()} keeps it.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LogMasked {
+}
@@ -0,0 +1,25 @@
+package com.swivel.ignite.student.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * DTO for Student bulk deletion request
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StudentBulkDeleteRequestDto extends RequestDto {
+
+    private Set<String> studentIds;
+
+    @Override
+    public boolean isRequiredAvailable() {
+        return studentIds != null && !studentIds.isEmpty() && studentIds.stream().allMatch(this::isNonEmpty);
+    }
+}
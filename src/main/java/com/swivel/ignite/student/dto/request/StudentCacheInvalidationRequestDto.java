@@ -0,0 +1,27 @@
+package com.swivel.ignite.student.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * DTO for a student cache invalidation sent by a peer instance, with all students of one change
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StudentCacheInvalidationRequestDto extends RequestDto {
+
+    private Set<String> studentIds;
+    private Set<String> authUserIds;
+
+    @Override
+    public boolean isRequiredAvailable() {
+        return studentIds != null && !studentIds.isEmpty() && studentIds.stream().allMatch(this::isNonEmpty)
+                && (authUserIds == null || authUserIds.stream().allMatch(this::isNonEmpty));
+    }
+}
@@ -1,5 +1,6 @@
 package com.swivel.ignite.student.dto.request;
 
+import com.swivel.ignite.student.dto.LogMasked;
 import com.swivel.ignite.student.enums.RoleType;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,14 +17,11 @@ import lombok.Setter;
 public class StudentCreateRequestDto extends RequestDto {
 
     private RoleType roleType;
+    @LogMasked
     private String username;
+    @LogMasked
     private String password;
 
-    @Override
-    public String toLogJson() {
-        return toJson();
-    }
-
     @Override
     public boolean isRequiredAvailable() {
         return isNonEmpty(username) && isNonEmpty(password);
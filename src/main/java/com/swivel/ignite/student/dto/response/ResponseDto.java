@@ -6,9 +6,4 @@ import com.swivel.ignite.student.dto.BaseDto;
  * ResponseDto - All responseDto classes are needed to extend this class.
  */
 public class ResponseDto implements BaseDto {
-
-    @Override
-    public String toLogJson() {
-        return toJson();
-    }
 }
@@ -0,0 +1,31 @@
+package com.swivel.ignite.student.dto.response;
+
+import com.swivel.ignite.student.enums.BulkItemStatusType;
+import lombok.Getter;
+
+/**
+ * Student bulk request item outcome DTO for response
+ */
+@Getter
+public class StudentBulkItemResponseDto extends ResponseDto {
+
+    private final int index;
+    private final String username;
+    private final String studentId;
+    private final BulkItemStatusType status;
+    private final String message;
+
+    /**
+     * @param index     position of the item in the request
+     * @param username  username of the item
+     * @param studentId id of the student, null when the item failed
+     * @param status    outcome of the item
+     */
+    public StudentBulkItemResponseDto(int index, String username, String studentId, BulkItemStatusType status) {
+        this.index = index;
+        this.username = username;
+        this.studentId = studentId;
+        this.status = status;
+        this.message = status.getMessage();
+    }
+}
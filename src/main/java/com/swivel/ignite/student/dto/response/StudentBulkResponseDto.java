@@ -0,0 +1,27 @@
+package com.swivel.ignite.student.dto.response;
+
+import com.swivel.ignite.student.enums.BulkItemStatusType;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Student bulk request DTO for response
+ */
+@Getter
+public class StudentBulkResponseDto extends ResponseDto {
+
+    private final int succeeded;
+    private final int failed;
+    private final List<StudentBulkItemResponseDto> results;
+
+    /**
+     * @param results   outcome of each item in request order
+     * @param succeeded status of a successful item
+     */
+    public StudentBulkResponseDto(List<StudentBulkItemResponseDto> results, BulkItemStatusType succeeded) {
+        this.results = results;
+        this.succeeded = (int) results.stream().filter(result -> result.getStatus() == succeeded).count();
+        this.failed = results.size() - this.succeeded;
+    }
+}
@@ -1,6 +1,5 @@
 package com.swivel.ignite.student.dto.response;
 
-import com.swivel.ignite.student.entity.Student;
 import lombok.Getter;
 
 import java.util.ArrayList;
@@ -12,12 +11,9 @@ import java.util.List;
 @Getter
 public class StudentListResponseDto extends ResponseDto {
 
-    private final List<StudentResponseDto> students = new ArrayList<>();
+    private final List<StudentResponseDto> students;
 
-    public StudentListResponseDto(List<Student> students) {
-        for (Student student : students) {
-            StudentResponseDto studentResponseDto = new StudentResponseDto(student);
-            this.students.add(studentResponseDto);
-        }
+    public StudentListResponseDto(List<StudentResponseDto> students) {
+        this.students = new ArrayList<>(students);
     }
 }
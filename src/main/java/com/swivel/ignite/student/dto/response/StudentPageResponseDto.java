@@ -0,0 +1,25 @@
+package com.swivel.ignite.student.dto.response;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Student Page DTO for response
+ */
+@Getter
+public class StudentPageResponseDto extends ResponseDto {
+
+    private final List<StudentResponseDto> students;
+    private final String nextCursor;
+
+    /**
+     * @param students   students of the page
+     * @param nextCursor cursor of the next page, null for the last page
+     */
+    public StudentPageResponseDto(List<StudentResponseDto> students, String nextCursor) {
+        this.students = new ArrayList<>(students);
+        this.nextCursor = nextCursor;
+    }
+}
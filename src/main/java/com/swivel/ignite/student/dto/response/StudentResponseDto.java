@@ -1,5 +1,6 @@
 package com.swivel.ignite.student.dto.response;
 
+import com.swivel.ignite.student.dto.LogMasked;
 import com.swivel.ignite.student.entity.Student;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,6 +19,7 @@ import java.util.Date;
 public class StudentResponseDto extends ResponseDto {
 
     private String studentId;
+    @LogMasked
     private String username;
     private String tuitionId;
     private Date tuitionJoinedOn;
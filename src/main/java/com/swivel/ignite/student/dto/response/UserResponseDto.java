@@ -1,5 +1,6 @@
 package com.swivel.ignite.student.dto.response;
 
+import com.swivel.ignite.student.dto.LogMasked;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,7 +16,9 @@ import lombok.Setter;
 public class UserResponseDto extends ResponseDto {
 
     private String userId;
+    @LogMasked
     private String userName;
+    @LogMasked
     private String password;
     private String role;
 }
@@ -0,0 +1,76 @@
+package com.swivel.ignite.student.entity;
+
+import com.swivel.ignite.student.enums.OutboxActionType;
+import com.swivel.ignite.student.enums.OutboxStatusType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Outbox event entity. One event is stored per downstream action of a student deletion, in the same
+ * transaction as the local delete, and is removed once the action succeeded.
+ */
+@Entity
+@Table(name = "student_outbox", indexes = {
+        @Index(name = "idx_student_outbox_due", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_student_outbox_student", columnList = "studentId")})
+@NoArgsConstructor
+@Getter
+@Setter
+public class OutboxEvent implements Serializable {
+
+    @Transient
+    private static final String OUTBOX_EVENT_ID_PREFIX = "oid-";
+    @Transient
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    private String id;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private OutboxActionType action;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatusType status;
+    @Column(nullable = false)
+    private String studentId;
+    private String tuitionId;
+    private String username;
+    private int attempts;
+    @Column(nullable = false)
+    private Date nextAttemptAt;
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+    @Column(nullable = false)
+    private Date createdOn;
+    /**
+     * Null until the event is persisted, which lets save() tell new events apart without a select
+     */
+    @Version
+    private Long version;
+
+    public OutboxEvent(OutboxActionType action, Student student, Date now) {
+        this.id = OUTBOX_EVENT_ID_PREFIX + TimeOrderedIdGenerator.nextId();
+        this.action = action;
+        this.status = OutboxStatusType.PENDING;
+        this.studentId = student.getId();
+        this.tuitionId = student.getTuitionId();
+        this.username = student.getUsername();
+        this.nextAttemptAt = now;
+        this.createdOn = now;
+    }
+
+    /**
+     * This method records the error of a failed attempt, truncated to fit the column
+     *
+     * @param error error message
+     */
+    public void setLastError(String error) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -1,28 +1,36 @@
 package com.swivel.ignite.student.entity;
 
 import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.io.Serializable;
 import java.util.Date;
-import java.util.UUID;
 
 /**
  * Student entity
  */
 @Entity
-@Table(name = "student")
+@Table(name = "student", uniqueConstraints = @UniqueConstraint(name = Student.USERNAME_UNIQUE_CONSTRAINT,
+        columnNames = "username"), indexes = {
+        @Index(name = "idx_student_auth_user_id", columnList = "authUserId"),
+        @Index(name = "idx_student_tuition_roster", columnList = "tuitionId, tuitionJoinedOn, id")})
 @NoArgsConstructor
 @Getter
 @Setter
-public class Student implements Serializable {
+public class Student implements Persistable<String>, Serializable {
 
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_student_username";
     @Transient
     private static final String STUDENT_ID_PREFIX = "sid-";
 
+    /**
+     * "sid-" followed by a time-ordered UUID, so that new students are appended to the end of the clustered index
+     */
     @Id
     private String id;
     @Column(nullable = false)
@@ -32,10 +40,43 @@ public class Student implements Serializable {
     private Date tuitionJoinedOn;
     private String tuitionId;
     private String authUserId;
+    /**
+     * True for a student created from a request and not yet persisted. Ids are assigned by the application, so
+     * without this flag save() would merge new students and issue a select for each of them before the insert.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newStudent;
 
     public Student(StudentCreateRequestDto requestDto) {
-        this.id = STUDENT_ID_PREFIX + UUID.randomUUID();
+        this.id = STUDENT_ID_PREFIX + TimeOrderedIdGenerator.nextId();
         this.username = requestDto.getUsername();
         this.password = requestDto.getPassword();
+        this.newStudent = true;
+    }
+
+    /**
+     * Copy constructor, used to hand out cached students without sharing the cached instance
+     *
+     * @param student student
+     */
+    public Student(Student student) {
+        this.id = student.id;
+        this.username = student.username;
+        this.password = student.password;
+        this.tuitionJoinedOn = student.tuitionJoinedOn == null ? null : new Date(student.tuitionJoinedOn.getTime());
+        this.tuitionId = student.tuitionId;
+        this.authUserId = student.authUserId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newStudent;
+    }
+
+    @PostPersist
+    void markPersisted() {
+        this.newStudent = false;
     }
 }
@@ -0,0 +1,63 @@
+package com.swivel.ignite.student.entity;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered UUIDs (version 7): 48 bits of unix time in milliseconds, a 12 bit counter and 62 random
+ * bits. Ids of one node are strictly increasing, also within the same millisecond, so new rows are appended to the
+ * end of the primary key index instead of being inserted at random positions. The string form has the same
+ * shape as {@link UUID#randomUUID()}.
+ */
+public final class TimeOrderedIdGenerator {
+
+    private static final TimeOrderedIdGenerator INSTANCE = new TimeOrderedIdGenerator(System::currentTimeMillis,
+            new SecureRandom());
+    private static final int COUNTER_BITS = 12;
+    private static final long MAX_COUNTER = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 7;
+    private static final long VARIANT = 0b10L;
+    private final LongSupplier clock;
+    private final Random random;
+    private long lastMillis = -1;
+    private long counter;
+
+    TimeOrderedIdGenerator(LongSupplier clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    /**
+     * This method returns a new time-ordered id of this node
+     *
+     * @return time-ordered UUID string
+     */
+    public static String nextId() {
+        return INSTANCE.next().toString();
+    }
+
+    /**
+     * This method returns a new time-ordered UUID. The counter starts at a random value below half of its range
+     * in every millisecond; when it runs out, the time is advanced by one millisecond, so ids never go backwards,
+     * also when the clock does.
+     *
+     * @return time-ordered UUID
+     */
+    synchronized UUID next() {
+        long millis = clock.getAsLong();
+        if (millis > lastMillis) {
+            lastMillis = millis;
+            counter = random.nextInt(1 << (COUNTER_BITS - 1));
+        } else if (counter < MAX_COUNTER) {
+            counter++;
+        } else {
+            lastMillis++;
+            counter = 0;
+        }
+        long mostSignificantBits = (lastMillis << 16) | (VERSION << COUNTER_BITS) | counter;
+        long leastSignificantBits = (VARIANT << 62) | (random.nextLong() >>> 2);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
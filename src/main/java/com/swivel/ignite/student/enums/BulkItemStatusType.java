@@ -0,0 +1,28 @@
+package com.swivel.ignite.student.enums;
+
+import lombok.Getter;
+
+/**
+ * Enum values for the outcome of an item of a bulk request
+ */
+@Getter
+public enum BulkItemStatusType {
+
+    CREATED("Successfully created the student"),
+    MISSING_REQUIRED_FIELDS("Missing required fields"),
+    DUPLICATE_USERNAME("Username is repeated in the request"),
+    STUDENT_ALREADY_EXISTS("Student already exists with given username"),
+    AUTH_REGISTRATION_FAILED("Failed to register the student in auth service"),
+    SAVE_FAILED("Failed to save the student. Removed it from auth service"),
+    SAVE_AND_AUTH_DELETION_FAILED("Failed to save the student and to remove it from auth service"),
+    DELETED("Successfully deleted the student"),
+    STUDENT_NOT_FOUND("Student not found"),
+    CLEANUP_FAILED("Failed to remove the student from payment or tuition service. Student not deleted"),
+    AUTH_DELETION_FAILED("Deleted the student but failed to delete it from auth service");
+
+    private final String message;
+
+    BulkItemStatusType(String message) {
+        this.message = message;
+    }
+}
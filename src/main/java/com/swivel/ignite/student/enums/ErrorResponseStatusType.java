@@ -13,6 +13,11 @@ public enum ErrorResponseStatusType {
     STUDENT_NOT_FOUND(404, "Student not found"),
     STUDENT_NOT_ENROLLED_IN_TUITION(400, "Student not enrolled in tuition"),
     STUDENT_ALREADY_ENROLLED_IN_A_TUITION(400, "Student already enrolled in a tuition"),
+    INVALID_PAGE_CURSOR(400, "Invalid page cursor"),
+    INVALID_PAGE_SIZE(400, "Invalid page size"),
+    INVALID_BULK_SIZE(400, "Invalid number of students in bulk request"),
+    INVALID_TUITION_ID_COUNT(400, "Invalid number of tuition ids"),
+    INVALID_PEER_SECRET(403, "Invalid peer secret"),
     INTERNAL_SERVER_ERROR(500, "Internal Server Error"),
     AUTH_INTERNAL_SERVER_ERROR(500, "Auth Service - Internal Server Error"),
     TUITION_INTERNAL_SERVER_ERROR(500, "Tuition Service - Internal Server Error"),
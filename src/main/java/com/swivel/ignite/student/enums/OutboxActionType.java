@@ -0,0 +1,11 @@
+package com.swivel.ignite.student.enums;
+
+/**
+ * Enum values for the downstream action of an outbox event
+ */
+public enum OutboxActionType {
+
+    DELETE_PAYMENTS,
+    REMOVE_FROM_TUITION,
+    DELETE_AUTH_USER
+}
@@ -0,0 +1,10 @@
+package com.swivel.ignite.student.enums;
+
+/**
+ * Enum values for the status of an outbox event
+ */
+public enum OutboxStatusType {
+
+    PENDING,
+    DEAD_LETTER
+}
@@ -13,7 +13,12 @@ public enum SuccessResponseStatusType {
     DELETE_STUDENT(202, "Successfully deleted the student"),
     GET_STUDENT(200, "Successfully retrieved the student"),
     REMOVE_TUITION_STUDENT(200, "Successfully removed student from tuition"),
-    RETURNED_ALL_STUDENT(200, "Successfully returned students list");
+    RETURNED_ALL_STUDENT(200, "Successfully returned students list"),
+    RETURNED_STUDENT_PAGE(200, "Successfully returned students page"),
+    RETURNED_TUITION_ROSTER(200, "Successfully returned tuition roster page"),
+    BULK_CREATE_STUDENT(200, "Successfully processed the bulk student creation"),
+    BULK_DELETE_STUDENT(202, "Successfully processed the bulk student deletion"),
+    INVALIDATE_STUDENT_CACHE(200, "Successfully invalidated the cached student");
 
     private final int code;
     private final String message;
@@ -0,0 +1,21 @@
+package com.swivel.ignite.student.event;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Published after the changes of students are committed, so that other instances can evict their cached copies.
+ * All students changed in one transaction or bulk operation are published in one event.
+ */
+@Getter
+public class StudentChangedEvent {
+
+    private final Set<String> studentIds;
+    private final Set<String> authUserIds;
+
+    public StudentChangedEvent(Set<String> studentIds, Set<String> authUserIds) {
+        this.studentIds = studentIds;
+        this.authUserIds = authUserIds;
+    }
+}
@@ -63,6 +63,21 @@ public class CustomizedExceptionHandling extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(responseWrapper, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * This method returns an error response for invalid page cursor exceptions
+     *
+     * @param exception exception
+     * @return error response
+     */
+    @ExceptionHandler(InvalidPageCursorException.class)
+    public ResponseEntity<ResponseWrapper> handleInvalidPageCursorException(InvalidPageCursorException exception) {
+        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, ErrorResponseStatusType
+                .INVALID_PAGE_CURSOR.getMessage(), null, ERROR_MESSAGE, ErrorResponseStatusType
+                .INVALID_PAGE_CURSOR.getCode());
+        log.error(exception.getMessage());
+        return new ResponseEntity<>(responseWrapper, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * This method returns an error response for auth microservice call exceptions
      *
@@ -113,4 +128,20 @@ public class CustomizedExceptionHandling extends ResponseEntityExceptionHandler
         log.error(exception.getMessage());
         return new ResponseEntity<>(responseWrapper, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    /**
+     * This method returns an error response for downstream microservice calls rejected by the bulkhead or the
+     * circuit breaker of the microservice
+     *
+     * @param exception exception
+     * @return error response
+     */
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    public ResponseEntity<ResponseWrapper> handleDownstreamUnavailableException(
+            DownstreamUnavailableException exception) {
+        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR,
+                exception.getStatus().getMessage(), null, ERROR_MESSAGE, exception.getStatus().getCode());
+        log.error(exception.getMessage());
+        return new ResponseEntity<>(responseWrapper, HttpStatus.valueOf(exception.getStatus().getCode()));
+    }
 }
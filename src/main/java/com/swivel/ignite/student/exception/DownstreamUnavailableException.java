@@ -0,0 +1,25 @@
+package com.swivel.ignite.student.exception;
+
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
+import lombok.Getter;
+
+/**
+ * Thrown instead of calling a downstream microservice when its circuit breaker is open or its bulkhead is full
+ */
+@Getter
+public class DownstreamUnavailableException extends RuntimeException {
+
+    private final ErrorResponseStatusType status;
+
+    /**
+     * DownstreamUnavailableException with error status, error message and rejection cause
+     *
+     * @param status       error status of the downstream microservice
+     * @param errorMessage error message
+     * @param error        rejection cause
+     */
+    public DownstreamUnavailableException(ErrorResponseStatusType status, String errorMessage, Throwable error) {
+        super(errorMessage, error);
+        this.status = status;
+    }
+}
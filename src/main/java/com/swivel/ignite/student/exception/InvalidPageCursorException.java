@@ -0,0 +1,26 @@
+package com.swivel.ignite.student.exception;
+
+/**
+ * Invalid Page Cursor Exception
+ */
+public class InvalidPageCursorException extends RuntimeException {
+
+    /**
+     * Invalid Page Cursor Exception with error message.
+     *
+     * @param errorMessage error message
+     */
+    public InvalidPageCursorException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * Invalid Page Cursor Exception with error message and throwable error
+     *
+     * @param errorMessage error message
+     * @param error        error
+     */
+    public InvalidPageCursorException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
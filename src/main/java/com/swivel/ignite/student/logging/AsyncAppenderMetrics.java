@@ -0,0 +1,66 @@
+package com.swivel.ignite.student.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Publishes the queue depth and the dropped events of every {@link MeteredAsyncAppender} of the logback context
+ * as the logging.async.queue.size, logging.async.queue.remaining and logging.async.dropped metrics, tagged with
+ * the appender name.
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    private static final String APPENDER_TAG = "appender";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (MeteredAsyncAppender appender : findAppenders().values()) {
+            Gauge.builder("logging.async.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                    .tag(APPENDER_TAG, appender.getName())
+                    .description("Logging events waiting in the async appender queue")
+                    .register(registry);
+            Gauge.builder("logging.async.queue.remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+                    .tag(APPENDER_TAG, appender.getName())
+                    .description("Free slots of the async appender queue")
+                    .register(registry);
+            FunctionCounter.builder("logging.async.dropped", appender, MeteredAsyncAppender::getDroppedEventCount)
+                    .tag(APPENDER_TAG, appender.getName())
+                    .description("Logging events dropped by the async appender under pressure")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * This method returns the metered async appenders attached to any logger, by name
+     *
+     * @return appenders by name
+     */
+    Map<String, MeteredAsyncAppender> findAppenders() {
+        Map<String, MeteredAsyncAppender> appenders = new LinkedHashMap<>();
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext))
+            return appenders;
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                Appender<ILoggingEvent> appender = iterator.next();
+                if (appender instanceof MeteredAsyncAppender)
+                    appenders.putIfAbsent(appender.getName(), (MeteredAsyncAppender) appender);
+            }
+        }
+        return appenders;
+    }
+}
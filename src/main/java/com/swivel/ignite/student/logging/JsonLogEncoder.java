@@ -0,0 +1,131 @@
+package com.swivel.ignite.student.logging;
+
+import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Encodes every logging event as one line of json: timestamp, level, thread, logger, message, every MDC entry
+ * (request id, student id) and the stack trace of an exception. The line is built in a reused buffer without an
+ * intermediate tree, so the encoded bytes are the only allocation that grows with the message.
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private final ThrowableProxyConverter throwableConverter = new ThrowableProxyConverter();
+    private StringBuilder buffer = new StringBuilder(INITIAL_BUFFER_SIZE);
+
+    @Override
+    public void start() {
+        throwableConverter.setContext(getContext());
+        throwableConverter.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        throwableConverter.stop();
+        super.stop();
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    /**
+     * This method encodes a logging event as a json line
+     *
+     * @param event logging event
+     * @return utf-8 json line
+     */
+    @Override
+    public synchronized byte[] encode(ILoggingEvent event) {
+        StringBuilder json = buffer;
+        json.setLength(0);
+        json.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(event.getTimeStamp()), json);
+        json.append('"');
+        appendField(json, "level", event.getLevel().toString());
+        appendField(json, "thread", event.getThreadName());
+        appendField(json, "logger", event.getLoggerName());
+        appendField(json, "message", event.getFormattedMessage());
+        for (Map.Entry<String, String> entry : event.getMDCPropertyMap().entrySet()) {
+            appendField(json, entry.getKey(), entry.getValue());
+        }
+        if (event.getThrowableProxy() != null)
+            appendField(json, "stackTrace", throwableConverter.convert(event));
+        json.append("}\n");
+        byte[] line = json.toString().getBytes(StandardCharsets.UTF_8);
+        if (json.capacity() > MAX_RETAINED_BUFFER_SIZE)
+            buffer = new StringBuilder(INITIAL_BUFFER_SIZE);
+        return line;
+    }
+
+    /**
+     * This method appends a string field
+     *
+     * @param json  json buffer
+     * @param name  field name
+     * @param value field value
+     */
+    private static void appendField(StringBuilder json, String name, String value) {
+        json.append(",\"");
+        appendEscaped(json, name);
+        json.append("\":");
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        appendEscaped(json, value);
+        json.append('"');
+    }
+
+    /**
+     * This method appends a string with the json escapes applied
+     *
+     * @param json  json buffer
+     * @param value string
+     */
+    static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.swivel.ignite.student.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Async appender that hands events to its appenders through a bounded queue, so that logging threads do not wait
+ * for console or disk I/O. Once the remaining capacity of the queue falls below the discarding threshold, events
+ * at or below the discard level (INFO by default) are dropped and counted. WARN can be made discardable, ERROR
+ * never is: ERROR events wait for space in a full queue instead of being dropped.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder droppedEvents = new LongAdder();
+    private Level discardLevel = Level.INFO;
+
+    /**
+     * This method sets the highest level that may be dropped under pressure. ERROR is lowered to WARN.
+     *
+     * @param discardLevel level name (TRACE, DEBUG, INFO or WARN)
+     */
+    public void setDiscardLevel(String discardLevel) {
+        Level level = Level.toLevel(discardLevel, Level.INFO);
+        this.discardLevel = level.isGreaterOrEqual(Level.ERROR) ? Level.WARN : level;
+    }
+
+    /**
+     * This method keeps the appender blocking: a non-blocking appender drops every event, ERROR included,
+     * once the queue is full.
+     *
+     * @param neverBlock ignored
+     */
+    @Override
+    public void setNeverBlock(boolean neverBlock) {
+        if (neverBlock)
+            addWarn("neverBlock is not supported by " + getClass().getSimpleName() + ", ERROR events are never "
+                    + "dropped");
+    }
+
+    /**
+     * This method is called for every event while the queue is below the discarding threshold
+     *
+     * @param event logging event
+     * @return true when the event is dropped
+     */
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        if (event.getLevel().toInt() > discardLevel.toInt())
+            return false;
+        droppedEvents.increment();
+        return true;
+    }
+
+    /**
+     * This method returns the number of events dropped since the appender was created
+     *
+     * @return dropped event count
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+}
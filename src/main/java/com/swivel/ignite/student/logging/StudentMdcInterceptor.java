@@ -0,0 +1,35 @@
+package com.swivel.ignite.student.logging;
+
+import org.slf4j.MDC;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * Puts the studentId path variable of the handled request into the MDC
+ */
+public class StudentMdcInterceptor implements HandlerInterceptor {
+
+    public static final String STUDENT_ID_MDC_KEY = "studentId";
+    private static final String STUDENT_ID_PATH_VARIABLE = "studentId";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map) {
+            Object studentId = ((Map<?, ?>) variables).get(STUDENT_ID_PATH_VARIABLE);
+            if (studentId != null)
+                MDC.put(STUDENT_ID_MDC_KEY, studentId.toString());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        MDC.remove(STUDENT_ID_MDC_KEY);
+    }
+}
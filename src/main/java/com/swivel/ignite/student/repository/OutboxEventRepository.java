@@ -0,0 +1,59 @@
+package com.swivel.ignite.student.repository;
+
+import com.swivel.ignite.student.entity.OutboxEvent;
+import com.swivel.ignite.student.enums.OutboxActionType;
+import com.swivel.ignite.student.enums.OutboxStatusType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Outbox Event Repository
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, String> {
+
+    /**
+     * This method locks and returns the events of a status that are due, oldest first.
+     * Rows are locked with select ... for update, so concurrent pollers (other instances) wait for the claim
+     * of the first poller to commit and then skip the events it leased.
+     *
+     * @param status   event status
+     * @param now      current time
+     * @param pageable batch size (page number must be 0)
+     * @return due events
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "5000"))
+    @Query("select e from OutboxEvent e where e.status = :status and e.nextAttemptAt <= :now order by e.nextAttemptAt")
+    List<OutboxEvent> findDueForUpdate(@Param("status") OutboxStatusType status, @Param("now") Date now,
+                                       Pageable pageable);
+
+    /**
+     * This method returns the statuses of the events of a student other than the ones of an action
+     *
+     * @param studentId student id
+     * @param action    action to leave out
+     * @return statuses of the other events
+     */
+    @Query("select e.status from OutboxEvent e where e.studentId = :studentId and e.action <> :action")
+    List<OutboxStatusType> findStatusesOfOtherActions(@Param("studentId") String studentId,
+                                                      @Param("action") OutboxActionType action);
+
+    /**
+     * This method returns the number of events of a status
+     *
+     * @param status event status
+     * @return number of events
+     */
+    long countByStatus(OutboxStatusType status);
+}
@@ -1,10 +1,25 @@
 package com.swivel.ignite.student.repository;
 
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
 import com.swivel.ignite.student.entity.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 /**
  * Student Repository
@@ -13,12 +28,46 @@ import java.util.Optional;
 public interface StudentRepository extends JpaRepository<Student, String> {
 
     /**
-     * This method returns a student by name
+     * Rows fetched per round trip while streaming. The mysql connection enables useCursorFetch so that this is
+     * honoured with a server side cursor instead of buffering the whole result set in the driver.
+     */
+    String STREAM_FETCH_SIZE = "500";
+    /**
+     * Selects the response fields of a student straight into {@link StudentResponseDto}. Read paths use it instead
+     * of loading entities, so the password is never read, and nothing is added to the persistence context or
+     * snapshotted for dirty checking.
+     */
+    String STUDENT_RESPONSE_SELECT = "select new com.swivel.ignite.student.dto.response.StudentResponseDto("
+            + "s.id, s.username, s.tuitionId, s.tuitionJoinedOn) from Student s";
+
+    /**
+     * This method checks whether a student exists with the given username.
+     * The check is served from the unique username index without loading the student.
      *
      * @param username username
-     * @return Student/null
+     * @return true/false
+     */
+    boolean existsByUsername(String username);
+
+    /**
+     * This method returns which of the given usernames are already taken
+     *
+     * @param usernames usernames
+     * @return existing usernames
      */
-    Optional<Student> findByUsername(String username);
+    @Query("select s.username from Student s where s.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * This method deletes the students of the given ids with a single statement
+     *
+     * @param ids student ids
+     * @return number of deleted students
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Student s where s.id in :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
 
     /**
      * This method returns a student by auth id
@@ -27,4 +76,68 @@ public interface StudentRepository extends JpaRepository<Student, String> {
      * @return Student/null
      */
     Optional<Student> findByAuthUserId(String authUserId);
+
+    /**
+     * This method returns the response fields of all students
+     *
+     * @return student response dtos
+     */
+    @Query(STUDENT_RESPONSE_SELECT)
+    List<StudentResponseDto> findAllResponses();
+
+    /**
+     * This method streams the response fields of all students without materializing the full result list.
+     * The returned stream must be consumed and closed inside a transaction.
+     *
+     * @return stream of student response dtos
+     */
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query(STUDENT_RESPONSE_SELECT)
+    Stream<StudentResponseDto> streamAll();
+
+    /**
+     * This method returns the students ordered by id that come after the given id (keyset pagination).
+     * The query is served from the primary key index, so the cost does not depend on how deep the page is.
+     *
+     * @param afterId  last seen student id ("" for the first page)
+     * @param pageable limit of the page (page number must be 0)
+     * @return response dtos of the students after the given id
+     */
+    @Query(STUDENT_RESPONSE_SELECT + " where s.id > :afterId order by s.id")
+    List<StudentResponseDto> findPageAfter(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * This method returns the first students of the rosters of the given tuitions, ordered by tuition and then
+     * by join date. The query reads the tuition roster index in order, without sorting.
+     *
+     * @param tuitionIds tuition ids
+     * @param pageable   limit of the page (page number must be 0)
+     * @return response dtos of the students of the tuitions
+     */
+    @Query(STUDENT_RESPONSE_SELECT + " where s.tuitionId in :tuitionIds"
+            + " order by s.tuitionId, s.tuitionJoinedOn, s.id")
+    List<StudentResponseDto> findRoster(@Param("tuitionIds") Collection<String> tuitionIds, Pageable pageable);
+
+    /**
+     * This method returns the students of the rosters of the given tuitions that come after the given student
+     * in (tuition id, join date, id) order (keyset pagination)
+     *
+     * @param tuitionIds     tuition ids
+     * @param afterTuitionId tuition id of the last seen student
+     * @param afterJoinedOn  join date of the last seen student
+     * @param afterId        id of the last seen student
+     * @param pageable       limit of the page (page number must be 0)
+     * @return response dtos of the students of the tuitions after the given student
+     */
+    @Query(STUDENT_RESPONSE_SELECT + " where s.tuitionId in :tuitionIds and (s.tuitionId > :afterTuitionId"
+            + " or (s.tuitionId = :afterTuitionId and (s.tuitionJoinedOn > :afterJoinedOn"
+            + " or (s.tuitionJoinedOn = :afterJoinedOn and s.id > :afterId))))"
+            + " order by s.tuitionId, s.tuitionJoinedOn, s.id")
+    List<StudentResponseDto> findRosterAfter(@Param("tuitionIds") Collection<String> tuitionIds,
+                                             @Param("afterTuitionId") String afterTuitionId,
+                                             @Param("afterJoinedOn") Date afterJoinedOn,
+                                             @Param("afterId") String afterId, Pageable pageable);
 }
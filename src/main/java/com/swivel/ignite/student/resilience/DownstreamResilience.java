@@ -0,0 +1,200 @@
+package com.swivel.ignite.student.resilience;
+
+import com.swivel.ignite.student.config.ResilienceProperties;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
+import com.swivel.ignite.student.exception.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Isolates the calls to one downstream microservice. Every call takes a slot of the service's bulkhead and goes
+ * through its circuit breaker; calls are rejected right away (as {@link DownstreamUnavailableException}) while
+ * the bulkhead is full or the breaker is open, so that a slow service can not hold every request thread.
+ * I/O errors and 5xx responses count as failures of the service, 4xx responses do not. Idempotent calls that
+ * failed with an I/O error or a 502/503/504 are retried with exponential backoff while the retry budget allows.
+ * <p>
+ * Besides the resilience4j metrics of the breaker and bulkhead (resilience4j.circuitbreaker.*,
+ * resilience4j.bulkhead.*), rejected calls are counted as downstream.rejected (reason: bulkhead, circuit_breaker)
+ * and retries as downstream.retries (outcome: retried, budget_exhausted).
+ */
+@Slf4j
+public class DownstreamResilience {
+
+    public static final String REJECTED_COUNTER_NAME = "downstream.rejected";
+    public static final String RETRIES_COUNTER_NAME = "downstream.retries";
+    public static final String RETRY_BUDGET_GAUGE_NAME = "downstream.retry.budget";
+    private static final String SERVICE_TAG = "service";
+    @Getter
+    private final String service;
+    private final ErrorResponseStatusType unavailableStatus;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+    @Getter
+    private final Bulkhead bulkhead;
+    private final RetryBudget retryBudget;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final Counter bulkheadRejections;
+    private final Counter circuitBreakerRejections;
+    private final Counter retries;
+    private final Counter exhaustedRetries;
+
+    /**
+     * @param service                downstream service name
+     * @param unavailableStatus      error status of rejected calls
+     * @param properties             bulkhead, circuit breaker and retry settings
+     * @param circuitBreakerRegistry circuit breaker registry
+     * @param bulkheadRegistry       bulkhead registry
+     * @param meterRegistry          meter registry
+     */
+    public DownstreamResilience(String service, ErrorResponseStatusType unavailableStatus,
+                                ResilienceProperties properties, CircuitBreakerRegistry circuitBreakerRegistry,
+                                BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        this.service = service;
+        this.unavailableStatus = unavailableStatus;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(service, CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumCalls())
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDuration())
+                .waitDurationInOpenState(properties.getOpenDuration())
+                .permittedNumberOfCallsInHalfOpenState(properties.getHalfOpenCalls())
+                .recordException(DownstreamResilience::isFailure)
+                .build());
+        this.bulkhead = bulkheadRegistry.bulkhead(service, BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getMaxWait())
+                .build());
+        this.retryBudget = new RetryBudget(properties.getRetryBudgetRatio(), properties.getMinRetriesPerSecond(),
+                System::nanoTime);
+        this.maxAttempts = Math.max(1, properties.getMaxAttempts());
+        this.retryBackoffMillis = properties.getRetryBackoff().toMillis();
+        this.bulkheadRejections = rejectionCounter(meterRegistry, "bulkhead");
+        this.circuitBreakerRejections = rejectionCounter(meterRegistry, "circuit_breaker");
+        this.retries = retryCounter(meterRegistry, "retried");
+        this.exhaustedRetries = retryCounter(meterRegistry, "budget_exhausted");
+        Gauge.builder(RETRY_BUDGET_GAUGE_NAME, retryBudget, RetryBudget::getBalance)
+                .description("Retries left in the retry budget of the downstream service")
+                .tag(SERVICE_TAG, service)
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method makes a downstream call through the bulkhead and the circuit breaker, retrying it when it is
+     * idempotent
+     *
+     * @param idempotent true when the call can be repeated without changing the outcome
+     * @param call       downstream call
+     * @param <T>        result type
+     * @return result of the call
+     */
+    public <T> T call(boolean idempotent, Supplier<T> call) {
+        retryBudget.onCall();
+        Supplier<T> guardedCall = Bulkhead.decorateSupplier(bulkhead,
+                CircuitBreaker.decorateSupplier(circuitBreaker, call));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return guardedCall.get();
+            } catch (BulkheadFullException e) {
+                bulkheadRejections.increment();
+                throw new DownstreamUnavailableException(unavailableStatus, "Too many concurrent calls to "
+                        + service + " service", e);
+            } catch (CallNotPermittedException e) {
+                circuitBreakerRejections.increment();
+                throw new DownstreamUnavailableException(unavailableStatus, "Circuit breaker of " + service
+                        + " service is " + circuitBreaker.getState(), e);
+            } catch (RuntimeException e) {
+                if (!idempotent || attempt >= maxAttempts || !isRetryable(e))
+                    throw e;
+                if (!retryBudget.tryAcquire()) {
+                    exhaustedRetries.increment();
+                    log.warn("Retry budget of {} service exhausted, not retrying: {}", service, e.getMessage());
+                    throw e;
+                }
+                retries.increment();
+                log.debug("Retrying {} service call, attempt {} failed: {}", service, attempt, e.getMessage());
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    /**
+     * This method checks if an error is a failure of the downstream service. Client errors are answers of a
+     * healthy service.
+     *
+     * @param e error
+     * @return true/false
+     */
+    static boolean isFailure(Throwable e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    /**
+     * This method checks if a failed call can succeed when repeated: I/O errors (including timeouts) and the
+     * server errors of an overloaded or restarting service
+     *
+     * @param e error
+     * @return true/false
+     */
+    static boolean isRetryable(RuntimeException e) {
+        if (e instanceof ResourceAccessException)
+            return true;
+        if (!(e instanceof HttpServerErrorException))
+            return false;
+        HttpStatus status = ((HttpServerErrorException) e).getStatusCode();
+        return status == HttpStatus.BAD_GATEWAY || status == HttpStatus.SERVICE_UNAVAILABLE
+                || status == HttpStatus.GATEWAY_TIMEOUT;
+    }
+
+    /**
+     * This method waits before the next attempt, a random time up to the exponential backoff of the attempt
+     *
+     * @param attempt failed attempt
+     * @param failure failure of the attempt, thrown when interrupted
+     */
+    private void backoff(int attempt, RuntimeException failure) {
+        long maxMillis = retryBackoffMillis << Math.min(attempt - 1, 10);
+        if (maxMillis <= 0)
+            return;
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(maxMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+
+    private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(REJECTED_COUNTER_NAME)
+                .description("Downstream calls rejected without calling the service")
+                .tags(SERVICE_TAG, service, "reason", reason)
+                .register(meterRegistry);
+    }
+
+    private Counter retryCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(RETRIES_COUNTER_NAME)
+                .description("Retries of failed idempotent downstream calls")
+                .tags(SERVICE_TAG, service, "outcome", outcome)
+                .register(meterRegistry);
+    }
+}
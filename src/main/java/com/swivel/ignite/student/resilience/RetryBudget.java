@@ -0,0 +1,77 @@
+package com.swivel.ignite.student.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Limits retries to a share of the calls made, so that retries can not multiply the load on a downstream service
+ * that is failing. Every call deposits ratio tokens and every retry withdraws one; on top of that
+ * minRetriesPerSecond tokens are deposited every second, so that a service with little traffic can still retry.
+ * The balance is capped at the deposits of ten seconds of the minimum rate (and at least one token), which bounds
+ * a burst of retries after a quiet period.
+ */
+public class RetryBudget {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final int MAX_BALANCE_SECONDS = 10;
+    /**
+     * Tolerance for the rounding of the deposits, ten deposits of 0.1 add up to slightly less than one token
+     */
+    private static final double EPSILON = 1e-9;
+    private final double ratio;
+    private final double minRetriesPerSecond;
+    private final double maxBalance;
+    private final LongSupplier nanoClock;
+    private double balance;
+    private long lastRefillNanos;
+
+    /**
+     * @param ratio               retries allowed per call made
+     * @param minRetriesPerSecond retries allowed per second regardless of the number of calls
+     * @param nanoClock           monotonic clock in nanoseconds
+     */
+    public RetryBudget(double ratio, double minRetriesPerSecond, LongSupplier nanoClock) {
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.maxBalance = Math.max(1, minRetriesPerSecond * MAX_BALANCE_SECONDS);
+        this.nanoClock = nanoClock;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.balance = maxBalance;
+    }
+
+    /**
+     * This method deposits the share of a call made
+     */
+    public synchronized void onCall() {
+        refill();
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    /**
+     * This method withdraws a retry from the budget when there is one left
+     *
+     * @return true when the retry is allowed
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (balance < 1 - EPSILON)
+            return false;
+        balance--;
+        return true;
+    }
+
+    /**
+     * This method returns the number of retries left
+     *
+     * @return remaining retries
+     */
+    public synchronized double getBalance() {
+        refill();
+        return balance;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        balance = Math.min(maxBalance, balance + (now - lastRefillNanos) / NANOS_PER_SECOND * minRetriesPerSecond);
+        lastRefillNanos = now;
+    }
+}
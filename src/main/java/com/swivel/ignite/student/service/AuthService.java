@@ -4,7 +4,9 @@ import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
 import com.swivel.ignite.student.dto.response.UserResponseDto;
 import com.swivel.ignite.student.exception.AuthServiceHttpClientErrorException;
 import com.swivel.ignite.student.wrapper.UserResponseWrapper;
+import com.swivel.ignite.student.resilience.DownstreamResilience;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -13,12 +15,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.net.URI;
 import java.util.Objects;
 
 /**
@@ -32,16 +32,28 @@ public class AuthService {
     private static final String FAILED_TO_REGISTER_STUDENT_IN_AUTH_DB = "Failed to register student in auth db";
     private static final String FAILED_TO_DELETE_STUDENT_FROM_AUTH_DB = "Failed to delete student from auth db";
     private final RestTemplate restTemplate;
+    private final DownstreamResilience resilience;
     private final String getCreateUserUrl;
     private final String getDeleteUserUrl;
+    private final String getDeleteUserByIdUrl;
+    private final URI createUserUri;
+    private final UriTemplate deleteUserUriTemplate;
+    private final UriTemplate deleteUserByIdUriTemplate;
 
     public AuthService(@Value("${auth.baseUrl}") String baseUrl,
                        @Value("${auth.createUserUrl}") String createUserUrl,
                        @Value("${auth.deleteUserUrl}") String deleteUserUrl,
-                       RestTemplate restTemplate) {
+                       @Value("${auth.deleteUserByIdUrl}") String deleteUserByIdUrl,
+                       @Qualifier("authRestTemplate") RestTemplate restTemplate,
+                       @Qualifier("authResilience") DownstreamResilience resilience) {
         this.getCreateUserUrl = baseUrl + createUserUrl;
         this.getDeleteUserUrl = baseUrl + deleteUserUrl;
+        this.getDeleteUserByIdUrl = baseUrl + deleteUserByIdUrl;
+        this.createUserUri = URI.create(getCreateUserUrl);
+        this.deleteUserUriTemplate = new UriTemplate(getDeleteUserUrl);
+        this.deleteUserByIdUriTemplate = new UriTemplate(getDeleteUserByIdUrl);
         this.restTemplate = restTemplate;
+        this.resilience = resilience;
     }
 
     /**
@@ -58,12 +70,12 @@ public class AuthService {
         HttpEntity<StudentCreateRequestDto> entity = new HttpEntity<>(requestDto, headers);
         try {
             log.debug("Calling auth service to register the student in auth db. url: {}", getCreateUserUrl);
-            ResponseEntity<UserResponseWrapper> result = restTemplate.exchange(getCreateUserUrl, HttpMethod.POST,
-                    entity, UserResponseWrapper.class);
-            String responseBody = Objects.requireNonNull(result.getBody()).getData().toLogJson();
+            ResponseEntity<UserResponseWrapper> result = resilience.call(false, () -> restTemplate.exchange(
+                    createUserUri, HttpMethod.POST, entity, UserResponseWrapper.class));
+            UserResponseDto responseDto = Objects.requireNonNull(result.getBody()).getData();
             log.debug("Registering student in auth db was successful. statusCode: {}, response: {}", result.getStatusCode(),
-                    responseBody);
-            return Objects.requireNonNull(result.getBody()).getData();
+                    responseDto.toLogArgument());
+            return responseDto;
         } catch (HttpClientErrorException e) {
             log.error(" Error from auth microservice: {}", e.getMessage());
             throw new AuthServiceHttpClientErrorException(e.getStatusCode(), FAILED_TO_REGISTER_STUDENT_IN_AUTH_DB,
@@ -79,16 +91,38 @@ public class AuthService {
      * @throws IOException
      */
     public void deleteStudent(String username, String token) throws IOException {
-        Map<String, String> uriParam = new HashMap<>();
-        uriParam.put("username", username);
-        UriComponents builder = UriComponentsBuilder.fromHttpUrl(getDeleteUserUrl).build();
+        log.debug("Calling auth service to delete the student from auth db. url: {}", getDeleteUserUrl);
+        delete(deleteUserUriTemplate.expand(username), token);
+    }
+
+    /**
+     * This method is used to delete a student from auth db in auth microservice by the auth user id. It undoes a
+     * registration without touching another user that holds the same username.
+     *
+     * @param userId auth user id
+     * @param token  access token
+     * @throws IOException
+     */
+    public void deleteStudentById(String userId, String token) throws IOException {
+        log.debug("Calling auth service to delete the student from auth db by user id. url: {}",
+                getDeleteUserByIdUrl);
+        delete(deleteUserByIdUriTemplate.expand(userId), token);
+    }
+
+    /**
+     * This method deletes a user from auth db
+     *
+     * @param uri   delete url of the user
+     * @param token access token
+     * @throws IOException
+     */
+    private void delete(URI uri, String token) throws IOException {
         HttpHeaders headers = new HttpHeaders();
         headers.set(AUTH_HEADER, token);
         HttpEntity<String> entity = new HttpEntity<>(null, headers);
         try {
-            log.debug("Calling auth service to delete the student from auth db. url: {}", getDeleteUserUrl);
-            ResponseEntity<String> result = restTemplate.exchange(builder.toUriString(), HttpMethod.DELETE,
-                    entity, String.class, uriParam);
+            ResponseEntity<String> result = resilience.call(true, () -> restTemplate.exchange(uri, HttpMethod.DELETE,
+                    entity, String.class));
             log.debug("Deleting student from auth db was successful. statusCode: {}", result.getStatusCode());
         } catch (HttpClientErrorException e) {
             log.error(" Error from auth microservice: {}", e.getMessage());
@@ -0,0 +1,81 @@
+package com.swivel.ignite.student.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.client.token.DefaultAccessTokenRequest;
+import org.springframework.security.oauth2.client.token.grant.client.ClientCredentialsAccessTokenProvider;
+import org.springframework.security.oauth2.client.token.grant.client.ClientCredentialsResourceDetails;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Access token of this service itself, obtained from the auth service with the client credentials grant.
+ * It is used by background work that runs after the token of the request has expired (the outbox worker).
+ * The token is reused until shortly before it expires.
+ */
+@Slf4j
+@Service
+public class ClientCredentialsTokenService {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final long RENEW_BEFORE_EXPIRY_SECONDS = TimeUnit.MINUTES.toSeconds(1);
+    private final ClientCredentialsResourceDetails resourceDetails;
+    private final ClientCredentialsAccessTokenProvider tokenProvider;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile OAuth2AccessToken accessToken;
+
+    @Autowired
+    public ClientCredentialsTokenService(@Value("${auth.baseUrl}") String baseUrl,
+                                         @Value("${auth.tokenUrl}") String tokenUrl,
+                                         @Value("${security.oauth2.client.client-id}") String clientId,
+                                         @Value("${security.oauth2.client.client-secret}") String clientSecret,
+                                         @Qualifier("authRestTemplate") RestTemplate restTemplate) {
+        this.resourceDetails = new ClientCredentialsResourceDetails();
+        this.resourceDetails.setAccessTokenUri(baseUrl + tokenUrl);
+        this.resourceDetails.setClientId(clientId);
+        this.resourceDetails.setClientSecret(clientSecret);
+        this.tokenProvider = new ClientCredentialsAccessTokenProvider();
+        this.tokenProvider.setRequestFactory(restTemplate.getRequestFactory());
+    }
+
+    /**
+     * This method returns the authorization header value of the access token of this service, obtaining a new
+     * token when there is none yet or the current one is about to expire
+     *
+     * @return bearer access token
+     */
+    public String getToken() {
+        OAuth2AccessToken token = accessToken;
+        if (isUsable(token))
+            return BEARER_PREFIX + token.getValue();
+        lock.lock();
+        try {
+            token = accessToken;
+            if (!isUsable(token)) {
+                log.debug("Obtaining a client credentials token from: {}", resourceDetails.getAccessTokenUri());
+                token = tokenProvider.obtainAccessToken(resourceDetails, new DefaultAccessTokenRequest());
+                accessToken = token;
+            }
+            return BEARER_PREFIX + token.getValue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * This method checks if a token can still be used for a call
+     *
+     * @param token access token
+     * @return true/false
+     */
+    private boolean isUsable(OAuth2AccessToken token) {
+        return token != null && (token.getExpiration() == null
+                || token.getExpiresIn() > RENEW_BEFORE_EXPIRY_SECONDS);
+    }
+}
@@ -0,0 +1,188 @@
+package com.swivel.ignite.student.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs independent downstream microservice calls concurrently
+ */
+@Slf4j
+@Component
+public class DownstreamOrchestrator {
+
+    private final Executor executor;
+    private final Semaphore itemCallPermits;
+
+    /**
+     * @param executor               downstream executor
+     * @param maxConcurrentItemCalls item calls in progress at once over all {@link #runEach} callers
+     */
+    public DownstreamOrchestrator(@Qualifier("downstreamExecutor") Executor executor,
+                                  @Value("${student.downstream.max-concurrent-item-calls}")
+                                          int maxConcurrentItemCalls) {
+        this.executor = executor;
+        this.itemCallPermits = new Semaphore(maxConcurrentItemCalls, true);
+    }
+
+    /**
+     * This method runs the given calls concurrently and waits for all of them to finish.
+     * The last call runs on the calling thread. When calls fail, the failure of the first failed call
+     * (in the given order) is thrown as is, with the other failures added as suppressed exceptions,
+     * so the usual microservice error mapping still applies.
+     *
+     * @param calls downstream calls
+     * @throws IOException when a call fails to read a downstream error response
+     */
+    public void runAll(List<DownstreamCall> calls) throws IOException {
+        if (calls.isEmpty())
+            return;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(calls.size());
+        for (DownstreamCall call : calls.subList(0, calls.size() - 1)) {
+            futures.add(CompletableFuture.runAsync(() -> run(call), executor));
+        }
+        futures.add(runInline(calls.get(calls.size() - 1)));
+
+        Throwable failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                Throwable cause = unwrap(e);
+                if (failure == null)
+                    failure = cause;
+                else
+                    failure.addSuppressed(cause);
+            }
+        }
+        if (failure != null)
+            rethrow(failure);
+    }
+
+    /**
+     * This method runs a call for every item concurrently and waits for all of them to finish.
+     * Unlike {@link #runAll(List)} a failed call does not fail the others; the failures are returned instead.
+     * At most max-concurrent-item-calls calls are in progress at once, the calling thread waits for a free slot
+     * before it submits the next call. Without that limit one bulk request would fill the downstream executor
+     * and its queue, and the bulkheads of the services would reject most of its calls.
+     *
+     * @param items items
+     * @param call  downstream call of an item
+     * @param <T>   item type
+     * @return failure of each item in the given order (null when the call of the item succeeded)
+     */
+    public <T> List<Throwable> runEach(List<T> items, DownstreamItemCall<T> call) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            itemCallPermits.acquireUninterruptibly();
+            try {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        run(() -> call.call(item));
+                    } finally {
+                        itemCallPermits.release();
+                    }
+                }, executor));
+            } catch (RejectedExecutionException e) {
+                itemCallPermits.release();
+                throw e;
+            }
+        }
+        List<Throwable> failures = new ArrayList<>(items.size());
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+                failures.add(null);
+            } catch (CompletionException e) {
+                failures.add(unwrap(e));
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * This method runs a call on the calling thread
+     *
+     * @param call downstream call
+     * @return completed future
+     */
+    private CompletableFuture<Void> runInline(DownstreamCall call) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            run(call);
+            future.complete(null);
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * This method runs a call, wrapping its checked exception
+     *
+     * @param call downstream call
+     */
+    private void run(DownstreamCall call) {
+        try {
+            call.call();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * This method returns the exception thrown by a call
+     *
+     * @param e completion exception
+     * @return exception thrown by the call
+     */
+    private Throwable unwrap(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof UncheckedIOException ? cause.getCause() : cause;
+    }
+
+    /**
+     * This method rethrows the exception thrown by a call
+     *
+     * @param failure exception thrown by the call
+     * @throws IOException when the call threw an IOException
+     */
+    private void rethrow(Throwable failure) throws IOException {
+        if (failure instanceof IOException)
+            throw (IOException) failure;
+        if (failure instanceof RuntimeException)
+            throw (RuntimeException) failure;
+        throw (Error) failure;
+    }
+
+    /**
+     * Downstream microservice call
+     */
+    @FunctionalInterface
+    public interface DownstreamCall {
+
+        void call() throws IOException;
+    }
+
+    /**
+     * Downstream microservice call made for an item
+     *
+     * @param <T> item type
+     */
+    @FunctionalInterface
+    public interface DownstreamItemCall<T> {
+
+        void call(T item) throws IOException;
+    }
+}
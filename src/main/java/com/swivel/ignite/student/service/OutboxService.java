@@ -0,0 +1,163 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.entity.OutboxEvent;
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.OutboxActionType;
+import com.swivel.ignite.student.enums.OutboxStatusType;
+import com.swivel.ignite.student.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outbox Service
+ */
+@Slf4j
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long leaseMillis;
+
+    @Autowired
+    public OutboxService(OutboxEventRepository outboxEventRepository,
+                         @Value("${student.outbox.max-attempts}") int maxAttempts,
+                         @Value("${student.outbox.initial-backoff}") Duration initialBackoff,
+                         @Value("${student.outbox.max-backoff}") Duration maxBackoff,
+                         @Value("${student.outbox.lease}") Duration lease) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.leaseMillis = lease.toMillis();
+    }
+
+    /**
+     * This method stores one outbox event per downstream action of a student deletion.
+     * It must be called in the transaction that deletes the student. The auth user deletion is run by the outbox
+     * worker only after the other events of the student are complete.
+     *
+     * @param student student
+     */
+    public void enqueueDeletion(Student student) {
+        enqueueDeletions(Collections.singletonList(student));
+    }
+
+    /**
+     * This method stores the outbox events of the deletion of several students in one batch.
+     * It must be called in the transaction that deletes the students. No access token is stored, the outbox worker
+     * calls the downstream microservices with a token of its own.
+     *
+     * @param students students
+     */
+    public void enqueueDeletions(List<Student> students) {
+        Date now = new Date();
+        List<OutboxEvent> events = new ArrayList<>(students.size() * 3);
+        for (Student student : students) {
+            events.add(new OutboxEvent(OutboxActionType.DELETE_PAYMENTS, student, now));
+            if (student.getTuitionId() != null)
+                events.add(new OutboxEvent(OutboxActionType.REMOVE_FROM_TUITION, student, now));
+            events.add(new OutboxEvent(OutboxActionType.DELETE_AUTH_USER, student, now));
+        }
+        outboxEventRepository.saveAll(events);
+    }
+
+    /**
+     * This method claims a batch of due events by leasing them, so that no other poller picks them up while
+     * they are processed. An event whose lease runs out (e.g. the instance died) becomes due again.
+     *
+     * @param batchSize maximum number of events
+     * @return claimed events
+     */
+    @Transactional
+    public List<OutboxEvent> claimDue(int batchSize) {
+        Date now = new Date();
+        List<OutboxEvent> events = outboxEventRepository.findDueForUpdate(OutboxStatusType.PENDING, now,
+                PageRequest.of(0, batchSize));
+        Date leaseUntil = new Date(now.getTime() + leaseMillis);
+        events.forEach(event -> event.setNextAttemptAt(leaseUntil));
+        return events;
+    }
+
+    /**
+     * This method returns the statuses of the cleanup events (payments and tuition) of a student that are not
+     * complete yet. Completed events are removed, so an empty list means the cleanup is done.
+     *
+     * @param studentId student id
+     * @return statuses of the remaining cleanup events
+     */
+    public List<OutboxStatusType> findPendingCleanupStatuses(String studentId) {
+        return outboxEventRepository.findStatusesOfOtherActions(studentId, OutboxActionType.DELETE_AUTH_USER);
+    }
+
+    /**
+     * This method postpones an event without counting an attempt. An event blocked by a dead-lettered event is
+     * checked again after the max backoff, otherwise after the initial backoff.
+     *
+     * @param event   outbox event
+     * @param blocked true if the event waits for a dead-lettered event
+     */
+    public void defer(OutboxEvent event, boolean blocked) {
+        long delayMillis = blocked ? maxBackoffMillis : initialBackoffMillis;
+        event.setNextAttemptAt(new Date(System.currentTimeMillis() + delayMillis));
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * This method removes an event whose action succeeded
+     *
+     * @param event outbox event
+     */
+    public void complete(OutboxEvent event) {
+        outboxEventRepository.delete(event);
+    }
+
+    /**
+     * This method records a failed attempt. The event is retried with exponential backoff, or dead-lettered
+     * when the error is not retryable or the attempts are used up.
+     *
+     * @param event     outbox event
+     * @param error     error of the attempt
+     * @param retryable true if the action can succeed when retried
+     */
+    public void fail(OutboxEvent event, Exception error, boolean retryable) {
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(error.getClass().getSimpleName() + ": " + error.getMessage());
+        if (!retryable || event.getAttempts() >= maxAttempts) {
+            event.setStatus(OutboxStatusType.DEAD_LETTER);
+            log.warn("Dead-lettered outbox event of id: {}, action: {}, studentId: {} after {} attempts",
+                    event.getId(), event.getAction(), event.getStudentId(), event.getAttempts());
+        } else {
+            event.setNextAttemptAt(new Date(System.currentTimeMillis() + getBackoffMillis(event.getAttempts())));
+        }
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * This method returns the delay before the next attempt: the initial backoff doubled per failed attempt,
+     * capped at the max backoff, with jitter so that events failed together are not retried together
+     *
+     * @param attempts number of failed attempts
+     * @return delay in milliseconds
+     */
+    long getBackoffMillis(int attempts) {
+        long backoff = initialBackoffMillis << Math.min(attempts - 1, 30);
+        if (backoff <= 0 || backoff > maxBackoffMillis)
+            backoff = maxBackoffMillis;
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.entity.OutboxEvent;
+import com.swivel.ignite.student.enums.OutboxActionType;
+import com.swivel.ignite.student.enums.OutboxStatusType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Background worker that drains the student outbox: it polls due events in batches and runs their
+ * downstream actions on the outbox executor. The downstream microservices are called with the client credentials
+ * token of this service, as the token of the deleting request may have expired by then. Like the synchronous
+ * delete, the auth user is deleted only after the payments and tuition of the student have been cleaned up.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "student.delete.mode", havingValue = "outbox")
+public class OutboxWorker {
+
+    private final OutboxService outboxService;
+    private final PaymentService paymentService;
+    private final TuitionService tuitionService;
+    private final AuthService authService;
+    private final ClientCredentialsTokenService tokenService;
+    private final Executor executor;
+    private final int batchSize;
+
+    @Autowired
+    public OutboxWorker(OutboxService outboxService, PaymentService paymentService, TuitionService tuitionService,
+                        AuthService authService, ClientCredentialsTokenService tokenService,
+                        @Qualifier("outboxExecutor") Executor executor,
+                        @Value("${student.outbox.batch-size}") int batchSize) {
+        this.outboxService = outboxService;
+        this.paymentService = paymentService;
+        this.tuitionService = tuitionService;
+        this.authService = authService;
+        this.tokenService = tokenService;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * This method processes the due events. Full batches are followed by the next batch right away, so a burst
+     * of deletions is drained without waiting for the poll interval.
+     */
+    @Scheduled(fixedDelayString = "${student.outbox.poll-interval}")
+    public void poll() {
+        List<OutboxEvent> events;
+        do {
+            try {
+                events = outboxService.claimDue(batchSize);
+            } catch (DataAccessException e) {
+                log.error("Failed to claim due outbox events", e);
+                return;
+            }
+            CompletableFuture.allOf(events.stream()
+                    .map(event -> CompletableFuture.runAsync(() -> process(event), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } while (events.size() == batchSize);
+    }
+
+    /**
+     * This method runs the downstream action of an event and records the outcome
+     *
+     * @param event outbox event
+     */
+    void process(OutboxEvent event) {
+        try {
+            if (event.getAction() == OutboxActionType.DELETE_AUTH_USER && isWaitingForCleanup(event))
+                return;
+            execute(event);
+            outboxService.complete(event);
+            log.debug("Processed outbox event of id: {}, action: {}", event.getId(), event.getAction());
+        } catch (Exception e) {
+            log.error("Failed to process outbox event of id: {}, action: {}, attempt: {}. error: {}",
+                    event.getId(), event.getAction(), event.getAttempts() + 1, e.getMessage());
+            try {
+                outboxService.fail(event, e, isRetryable(e));
+            } catch (DataAccessException ex) {
+                log.error("Failed to record failure of outbox event of id: {}", event.getId(), ex);
+            }
+        }
+    }
+
+    /**
+     * This method checks if the cleanup events of the student of an auth user deletion are still pending or
+     * dead-lettered, and postpones the auth user deletion if so
+     *
+     * @param event auth user deletion event
+     * @return true if the event was postponed
+     */
+    private boolean isWaitingForCleanup(OutboxEvent event) {
+        List<OutboxStatusType> statuses = outboxService.findPendingCleanupStatuses(event.getStudentId());
+        if (statuses.isEmpty())
+            return false;
+        boolean blocked = statuses.contains(OutboxStatusType.DEAD_LETTER);
+        outboxService.defer(event, blocked);
+        log.debug("Postponed outbox event of id: {}, action: {} until the cleanup of studentId: {} is complete. "
+                + "blocked: {}", event.getId(), event.getAction(), event.getStudentId(), blocked);
+        return true;
+    }
+
+    /**
+     * This method calls the downstream microservice of an event
+     *
+     * @param event outbox event
+     * @throws IOException when the downstream error response cannot be read
+     */
+    private void execute(OutboxEvent event) throws IOException {
+        String token = tokenService.getToken();
+        switch (event.getAction()) {
+            case DELETE_PAYMENTS:
+                paymentService.deleteByStudentId(event.getStudentId(), token);
+                break;
+            case REMOVE_FROM_TUITION:
+                tuitionService.removeStudent(event.getStudentId(), event.getTuitionId(), token);
+                break;
+            case DELETE_AUTH_USER:
+                authService.deleteStudent(event.getUsername(), token);
+                break;
+            default:
+                throw new IllegalStateException("Unknown outbox action: " + event.getAction());
+        }
+    }
+
+    /**
+     * This method checks if a failed action can succeed when retried. Client errors other than timeouts and
+     * throttling will fail the same way again.
+     *
+     * @param e error
+     * @return true/false
+     */
+    private boolean isRetryable(Exception e) {
+        if (!(e instanceof HttpClientErrorException))
+            return true;
+        HttpStatus status = ((HttpClientErrorException) e).getStatusCode();
+        return status == HttpStatus.REQUEST_TIMEOUT || status == HttpStatus.TOO_MANY_REQUESTS;
+    }
+}
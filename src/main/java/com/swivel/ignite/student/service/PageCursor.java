@@ -0,0 +1,57 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.exception.InvalidPageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Opaque continuation token for keyset pagination.
+ * A cursor holds the sort key of the last row returned, so the next page can continue with
+ * {@code WHERE key > ? ORDER BY key LIMIT ?} instead of an offset.
+ */
+public final class PageCursor {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(SEPARATOR));
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private PageCursor() {
+    }
+
+    /**
+     * This method encodes the sort key of the last returned row into a cursor
+     *
+     * @param keyParts sort key parts of the last row
+     * @return cursor
+     */
+    public static String encode(String... keyParts) {
+        String value = VERSION + SEPARATOR + String.join(SEPARATOR, keyParts);
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method decodes a cursor into the sort key parts it was created from
+     *
+     * @param cursor    cursor
+     * @param partCount expected number of sort key parts
+     * @return sort key parts
+     */
+    public static String[] decode(String cursor, int partCount) {
+        String value;
+        try {
+            value = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageCursorException("Invalid page cursor: " + cursor, e);
+        }
+        String[] parts = SEPARATOR_PATTERN.split(value, -1);
+        if (parts.length != partCount + 1 || !VERSION.equals(parts[0]))
+            throw new InvalidPageCursorException("Invalid page cursor: " + cursor);
+        String[] keyParts = new String[partCount];
+        System.arraycopy(parts, 1, keyParts, 0, partCount);
+        return keyParts;
+    }
+}
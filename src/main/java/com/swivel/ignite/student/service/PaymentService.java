@@ -1,7 +1,9 @@
 package com.swivel.ignite.student.service;
 
 import com.swivel.ignite.student.exception.PaymentServiceHttpClientErrorException;
+import com.swivel.ignite.student.resilience.DownstreamResilience;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -10,12 +12,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.net.URI;
 
 /**
  * Payment Microservice
@@ -27,13 +27,18 @@ public class PaymentService {
     private static final String AUTH_HEADER = "Authorization";
     private static final String FAILED_TO_DELETE_PAYMENT_BY_STUDENT_ID = "Failed to delete payments by studentId";
     private final RestTemplate restTemplate;
+    private final DownstreamResilience resilience;
     private final String getDeleteByStudentIdUrl;
+    private final UriTemplate deleteByStudentIdUriTemplate;
 
     public PaymentService(@Value("${payment.baseUrl}") String baseUrl,
                           @Value("${payment.deleteByStudentIdUrl}") String deleteByStudentIdUrl,
-                          RestTemplate restTemplate) {
+                          @Qualifier("paymentRestTemplate") RestTemplate restTemplate,
+                          @Qualifier("paymentResilience") DownstreamResilience resilience) {
         this.getDeleteByStudentIdUrl = baseUrl + deleteByStudentIdUrl;
+        this.deleteByStudentIdUriTemplate = new UriTemplate(getDeleteByStudentIdUrl);
         this.restTemplate = restTemplate;
+        this.resilience = resilience;
     }
 
     /**
@@ -43,16 +48,14 @@ public class PaymentService {
      * @throws IOException
      */
     public void deleteByStudentId(String studentId, String token) throws IOException {
-        Map<String, String> uriParam = new HashMap<>();
-        uriParam.put("studentId", studentId);
-        UriComponents builder = UriComponentsBuilder.fromHttpUrl(getDeleteByStudentIdUrl).build();
+        URI uri = deleteByStudentIdUriTemplate.expand(studentId);
         HttpHeaders headers = new HttpHeaders();
         headers.set(AUTH_HEADER, token);
         HttpEntity<String> entity = new HttpEntity<>(null, headers);
         try {
             log.debug("Calling payment service to delete all payments by studentId. url: {}", getDeleteByStudentIdUrl);
-            ResponseEntity<String> result = restTemplate.exchange(builder.toUriString(), HttpMethod.DELETE, entity,
-                    String.class, uriParam);
+            ResponseEntity<String> result = resilience.call(true, () -> restTemplate.exchange(uri, HttpMethod.DELETE,
+                    entity, String.class));
             log.debug("Deleting all payments by student id was successful. statusCode: {}", result.getStatusCode());
         } catch (HttpClientErrorException e) {
             log.error(" Error from reg: {}", e.getMessage());
@@ -0,0 +1,258 @@
+package com.swivel.ignite.student.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.event.StudentChangedEvent;
+import com.swivel.ignite.student.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of students by id and by auth user id.
+ * An entry older than the refresh interval is still served while it is reloaded in the background; if the reload
+ * fails, times out or is shed because too many reloads are in progress, the stale entry keeps being served until it
+ * expires. A missing student is loaded on the calling thread without holding a lock of the cache, so that a load
+ * waiting for a DB connection never blocks an eviction made by a transaction that holds one. Callers always get a
+ * copy, so changing a returned student never changes the cached one. Committed changes are also published as
+ * {@link StudentChangedEvent}s, which are broadcast to the other instances.
+ */
+@Component
+public class StudentCache {
+
+    private static final String BY_ID_CACHE_NAME = "student.id";
+    private static final String BY_AUTH_USER_ID_CACHE_NAME = "student.auth-user-id";
+    private final AsyncLoadingCache<String, Student> studentsById;
+    private final AsyncLoadingCache<String, Student> studentsByAuthUserId;
+    private final StudentLoader byIdLoader;
+    private final StudentLoader byAuthUserIdLoader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public StudentCache(StudentRepository studentRepository,
+                        @Value("${student.cache.maximum-size}") long maximumSize,
+                        @Value("${student.cache.refresh-after}") Duration refreshAfter,
+                        @Value("${student.cache.expire-after}") Duration expireAfter,
+                        @Value("${student.cache.load-timeout}") Duration loadTimeout,
+                        @Value("${student.cache.pool-size}") int maxConcurrentReloads,
+                        @Qualifier("studentCacheExecutor") Executor executor,
+                        MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher) {
+        this(studentRepository, maximumSize, refreshAfter, expireAfter, loadTimeout, maxConcurrentReloads, executor,
+                meterRegistry, eventPublisher, Ticker.systemTicker());
+    }
+
+    /**
+     * @param studentRepository    student repository
+     * @param maximumSize          maximum number of students in each cache
+     * @param refreshAfter         age after which an entry is reloaded in the background on access
+     * @param expireAfter          age after which an entry is no longer served
+     * @param loadTimeout          maximum time a background reload may take
+     * @param maxConcurrentReloads maximum number of background reloads in progress, further reloads are shed
+     * @param executor             executor that runs the background reloads
+     * @param meterRegistry        registry of the cache metrics
+     * @param eventPublisher       publisher of the student changed events
+     * @param ticker               ticker used to measure time in the cache
+     */
+    StudentCache(StudentRepository studentRepository, long maximumSize, Duration refreshAfter, Duration expireAfter,
+                 Duration loadTimeout, int maxConcurrentReloads, Executor executor, MeterRegistry meterRegistry,
+                 ApplicationEventPublisher eventPublisher, Ticker ticker) {
+        this.eventPublisher = eventPublisher;
+        Semaphore reloadPermits = new Semaphore(maxConcurrentReloads);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .ticker(ticker)
+                .recordStats();
+        this.byIdLoader = new StudentLoader(id -> studentRepository.findById(id).orElse(null), loadTimeout,
+                executor, reloadPermits);
+        this.byAuthUserIdLoader = new StudentLoader(authUserId -> studentRepository.findByAuthUserId(authUserId)
+                .orElse(null), loadTimeout, executor, reloadPermits);
+        this.studentsById = builder.buildAsync(byIdLoader);
+        this.studentsByAuthUserId = builder.buildAsync(byAuthUserIdLoader);
+        CaffeineCacheMetrics.monitor(meterRegistry, studentsById.synchronous(), BY_ID_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, studentsByAuthUserId.synchronous(), BY_AUTH_USER_ID_CACHE_NAME);
+    }
+
+    /**
+     * This method returns a student by id, loading it from the DB when it is not cached
+     *
+     * @param studentId student id
+     * @return student/empty
+     */
+    public Optional<Student> findById(String studentId) {
+        return Optional.ofNullable(get(studentsById, byIdLoader, studentId)).map(Student::new);
+    }
+
+    /**
+     * This method returns a student by auth user id, loading it from the DB when it is not cached
+     *
+     * @param authUserId auth user id
+     * @return student/empty
+     */
+    public Optional<Student> findByAuthUserId(String authUserId) {
+        return Optional.ofNullable(get(studentsByAuthUserId, byAuthUserIdLoader, authUserId)).map(Student::new);
+    }
+
+    /**
+     * This method returns a cached student, or loads it on the calling thread. Only a pending future is put into
+     * the cache under its lock; concurrent callers of the same key wait for that future.
+     *
+     * @param cache  cache
+     * @param loader loader of the cache
+     * @param key    key
+     * @return student/null
+     */
+    private static Student get(AsyncLoadingCache<String, Student> cache, StudentLoader loader, String key) {
+        CompletableFuture<Student> load = new CompletableFuture<>();
+        CompletableFuture<Student> student = cache.get(key, (k, executor) -> load);
+        if (student == load) {
+            try {
+                load.complete(loader.load(key));
+            } catch (RuntimeException e) {
+                load.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return student.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * This method removes a changed student from the cache, see {@link #evict(Collection)}
+     *
+     * @param student changed student
+     */
+    public void evict(Student student) {
+        evict(Collections.singletonList(student));
+    }
+
+    /**
+     * This method removes changed students from the cache. Inside a transaction the students are removed again
+     * after commit, so that a read between the change and the commit cannot leave the old state cached.
+     * The changes are published once they are committed, in one event for all students changed in the
+     * transaction or given together.
+     *
+     * @param students changed students
+     */
+    public void evict(Collection<Student> students) {
+        if (students.isEmpty())
+            return;
+        Set<String> studentIds = new LinkedHashSet<>(students.size());
+        Set<String> authUserIds = new LinkedHashSet<>(students.size());
+        for (Student student : students) {
+            studentIds.add(student.getId());
+            if (student.getAuthUserId() != null)
+                authUserIds.add(student.getAuthUserId());
+        }
+        evictLocal(studentIds, authUserIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(new StudentChangedEvent(studentIds, authUserIds));
+            return;
+        }
+        StudentChangedEvent changes = (StudentChangedEvent) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            StudentChangedEvent transactionChanges = new StudentChangedEvent(new LinkedHashSet<>(),
+                    new LinkedHashSet<>());
+            TransactionSynchronizationManager.bindResource(this, transactionChanges);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(transactionChanges.getStudentIds(), transactionChanges.getAuthUserIds());
+                    eventPublisher.publishEvent(transactionChanges);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(StudentCache.this);
+                }
+            });
+            changes = transactionChanges;
+        }
+        changes.getStudentIds().addAll(studentIds);
+        changes.getAuthUserIds().addAll(authUserIds);
+    }
+
+    /**
+     * This method removes the entries of students from this instance only (used for changes made by peers)
+     *
+     * @param studentIds  student ids
+     * @param authUserIds auth user ids
+     */
+    public void evictLocal(Collection<String> studentIds, Collection<String> authUserIds) {
+        studentsById.synchronous().invalidateAll(studentIds);
+        studentsByAuthUserId.synchronous().invalidateAll(authUserIds);
+    }
+
+    /**
+     * Loads students from the DB. Background reloads run on the reload executor, and are shed while all reload
+     * permits are taken. A reload gives up after the load timeout; a shed or failed reload keeps the stale entry.
+     */
+    private static final class StudentLoader implements CacheLoader<String, Student> {
+
+        private final Function<String, Student> loader;
+        private final long loadTimeoutMillis;
+        private final Executor reloadExecutor;
+        private final Semaphore reloadPermits;
+
+        private StudentLoader(Function<String, Student> loader, Duration loadTimeout, Executor reloadExecutor,
+                              Semaphore reloadPermits) {
+            this.loader = loader;
+            this.loadTimeoutMillis = loadTimeout.toMillis();
+            this.reloadExecutor = reloadExecutor;
+            this.reloadPermits = reloadPermits;
+        }
+
+        @Override
+        public Student load(String key) {
+            return loader.apply(key);
+        }
+
+        @Override
+        public CompletableFuture<Student> asyncReload(String key, Student oldValue, Executor executor) {
+            if (!reloadPermits.tryAcquire())
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "Student cache reload shed, too many reloads in progress"));
+            try {
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return loader.apply(key);
+                    } finally {
+                        reloadPermits.release();
+                    }
+                }, reloadExecutor).orTimeout(loadTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                reloadPermits.release();
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.dto.request.StudentCacheInvalidationRequestDto;
+import com.swivel.ignite.student.event.StudentChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Sends committed student changes to the other instances of this service, which evict their cached copies.
+ * Peers are the instances registered in eureka under the application name plus the statically configured peer
+ * urls. Each change (a transaction or bulk operation) is sent to a peer in one request with all its students.
+ * A peer that cannot be reached, or whose invalidation is dropped because the executor is full, serves its
+ * cached copies until the entries are refreshed.
+ */
+@Slf4j
+@Component
+public class StudentCacheInvalidationBroadcaster {
+
+    public static final String INVALIDATE_PATH = "/api/v1/internal/student/cache/invalidate";
+    public static final String PEER_SECRET_HEADER = "X-Peer-Secret";
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+    private final String serviceId;
+    private final String contextPath;
+    private final Set<String> staticPeers;
+    private final String secret;
+    private final RestTemplate restTemplate;
+    private final Executor executor;
+
+    @Autowired
+    public StudentCacheInvalidationBroadcaster(DiscoveryClient discoveryClient,
+                                               ObjectProvider<Registration> registration,
+                                               @Value("${spring.application.name}") String serviceId,
+                                               @Value("${server.servlet.context-path:}") String contextPath,
+                                               @Value("${student.cache.invalidation.peers}") String[] staticPeers,
+                                               @Value("${student.cache.invalidation.secret}") String secret,
+                                               @Qualifier("peerRestTemplate") RestTemplate restTemplate,
+                                               @Qualifier("cacheInvalidationExecutor") Executor executor) {
+        this.discoveryClient = discoveryClient;
+        this.registration = registration;
+        this.serviceId = serviceId;
+        this.contextPath = contextPath;
+        this.staticPeers = new LinkedHashSet<>(Arrays.asList(staticPeers));
+        this.staticPeers.remove("");
+        this.secret = secret;
+        this.restTemplate = restTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * This method sends a committed student change to every peer, one request per peer. Nothing is sent when no
+     * peer secret is configured, as the peers would reject the invalidation. When the executor is full the
+     * invalidation of the peer is dropped instead of being sent by the committing thread.
+     *
+     * @param event student changed event
+     */
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (secret.isEmpty())
+            return;
+        StudentCacheInvalidationRequestDto requestDto = new StudentCacheInvalidationRequestDto(
+                event.getStudentIds(), event.getAuthUserIds());
+        for (URI peer : getPeers()) {
+            try {
+                executor.execute(() -> invalidate(peer, requestDto));
+            } catch (RejectedExecutionException e) {
+                log.warn("Dropped the invalidation of {} cached students on peer: {}, the executor is full",
+                        requestDto.getStudentIds().size(), peer);
+            }
+        }
+    }
+
+    /**
+     * This method returns the invalidation endpoints of the peers, excluding this instance
+     *
+     * @return peer invalidation uris
+     */
+    Set<URI> getPeers() {
+        Set<URI> peers = new LinkedHashSet<>();
+        for (String staticPeer : staticPeers) {
+            peers.add(UriComponentsBuilder.fromHttpUrl(staticPeer).path(INVALIDATE_PATH).build().toUri());
+        }
+        Registration self = registration.getIfAvailable();
+        try {
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                if (self != null && isSameInstance(self, instance))
+                    continue;
+                peers.add(UriComponentsBuilder.fromUri(instance.getUri()).path(contextPath).path(INVALIDATE_PATH)
+                        .build().toUri());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to discover the peers of {} for cache invalidation", serviceId, e);
+        }
+        return peers;
+    }
+
+    /**
+     * This method sends an invalidation to a peer
+     *
+     * @param peer       peer invalidation uri
+     * @param requestDto cache invalidation request dto
+     */
+    private void invalidate(URI peer, StudentCacheInvalidationRequestDto requestDto) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(PEER_SECRET_HEADER, secret);
+        try {
+            restTemplate.exchange(peer, HttpMethod.POST, new HttpEntity<>(requestDto, headers), String.class);
+        } catch (RestClientException e) {
+            log.warn("Failed to invalidate {} cached students on peer: {}", requestDto.getStudentIds().size(), peer,
+                    e);
+        }
+    }
+
+    /**
+     * This method checks whether a discovered instance is this instance
+     *
+     * @param self     registration of this instance
+     * @param instance discovered instance
+     * @return true/false
+     */
+    private boolean isSameInstance(Registration self, ServiceInstance instance) {
+        if (self.getInstanceId() != null && instance.getInstanceId() != null)
+            return self.getInstanceId().equals(instance.getInstanceId());
+        return self.getHost().equals(instance.getHost()) && self.getPort() == instance.getPort();
+    }
+}
@@ -1,69 +1,313 @@
 package com.swivel.ignite.student.service;
 
 import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentBulkItemResponseDto;
+import com.swivel.ignite.student.dto.response.StudentPageResponseDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
 import com.swivel.ignite.student.dto.response.UserResponseDto;
 import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.BulkItemStatusType;
+import com.swivel.ignite.student.exception.InvalidPageCursorException;
 import com.swivel.ignite.student.exception.StudentAlreadyExistsException;
 import com.swivel.ignite.student.exception.StudentNotFoundException;
 import com.swivel.ignite.student.exception.StudentServiceException;
 import com.swivel.ignite.student.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.PersistenceException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Student Service
  */
+@Slf4j
 @Service
 public class StudentService {
 
+    private static final String FIRST_PAGE_KEY = "";
+    private static final String OUTBOX_DELETE_MODE = "outbox";
+    private static final int IN_QUERY_CHUNK_SIZE = 1000;
+
     private final StudentRepository studentRepository;
     private final PaymentService paymentService;
     private final TuitionService tuitionService;
     private final AuthService authService;
+    private final DownstreamOrchestrator downstreamOrchestrator;
+    private final OutboxService outboxService;
+    private final boolean outboxDelete;
+    private final TransactionTemplate transactionTemplate;
+    private final StudentCache studentCache;
+    private final UsernameGuard usernameGuard;
 
     @Autowired
     public StudentService(StudentRepository studentRepository, PaymentService paymentService,
-                          TuitionService tuitionService, AuthService authService) {
+                          TuitionService tuitionService, AuthService authService,
+                          DownstreamOrchestrator downstreamOrchestrator, OutboxService outboxService,
+                          @Value("${student.delete.mode}") String deleteMode,
+                          PlatformTransactionManager transactionManager, StudentCache studentCache,
+                          UsernameGuard usernameGuard) {
         this.studentRepository = studentRepository;
         this.paymentService = paymentService;
         this.tuitionService = tuitionService;
         this.authService = authService;
+        this.downstreamOrchestrator = downstreamOrchestrator;
+        this.outboxService = outboxService;
+        this.outboxDelete = OUTBOX_DELETE_MODE.equalsIgnoreCase(deleteMode);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.studentCache = studentCache;
+        this.usernameGuard = usernameGuard;
     }
 
     /**
-     * This method creates a Student in the database
+     * This method creates a Student in the database. The unique username index is what rejects a duplicate
+     * student; the existence check and the username guard only keep duplicates from reaching the auth service.
+     * The insert is flushed immediately so that a duplicate key is reported as an existing student. When the
+     * insert fails, the auth user registered for the student is deleted again by its id.
      *
      * @param requestDto student create dto
      * @param token      access token
      */
-    @Transactional
     public Student createStudent(StudentCreateRequestDto requestDto, String token) {
         Student student = new Student(requestDto);
+        if (!usernameGuard.tryAcquire(student.getUsername()))
+            throw new StudentAlreadyExistsException("Student creation already in progress for username: "
+                    + student.getUsername());
         try {
             if (isStudentExists(student.getUsername()))
                 throw new StudentAlreadyExistsException("Student already exists in DB");
             UserResponseDto userResponseDto = authService.registerStudent(requestDto, token);
             student.setAuthUserId(userResponseDto.getUserId());
-            return studentRepository.save(student);
+            Student savedStudent;
+            try {
+                savedStudent = studentRepository.saveAndFlush(student);
+            } catch (DataAccessException e) {
+                deleteRegisteredStudent(student, token);
+                throw e;
+            }
+            studentCache.evict(savedStudent);
+            return savedStudent;
+        } catch (DataIntegrityViolationException e) {
+            if (isUsernameViolation(e))
+                throw new StudentAlreadyExistsException("Student already exists in DB", e);
+            throw new StudentServiceException("Failed to save student to DB", e);
         } catch (DataAccessException | IOException e) {
             throw new StudentServiceException("Failed to save student to DB", e);
+        } finally {
+            usernameGuard.release(student.getUsername());
+        }
+    }
+
+    /**
+     * This method deletes the auth user of a student that could not be saved. A failure is logged and does not
+     * hide the failure of the save.
+     *
+     * @param student student registered in auth db
+     * @param token   access token
+     */
+    private void deleteRegisteredStudent(Student student, String token) {
+        try {
+            authService.deleteStudentById(student.getAuthUserId(), token);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to delete unsaved student of auth user id: {} from auth db. error: {}",
+                    student.getAuthUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * This method checks if a constraint violation was raised by the unique username index
+     *
+     * @param e constraint violation
+     * @return true/false
+     */
+    private static boolean isUsernameViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String name = cause instanceof ConstraintViolationException
+                    ? ((ConstraintViolationException) cause).getConstraintName() : cause.getMessage();
+            if (name != null && name.toLowerCase(Locale.ROOT).contains(Student.USERNAME_UNIQUE_CONSTRAINT))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * This method creates students in bulk. Usernames are checked with one query per chunk instead of one query
+     * per student, the students are registered in auth db concurrently, and the new students are inserted in a
+     * single transaction using JDBC batches.
+     *
+     * @param requestDtos student create dtos
+     * @param token       access token
+     * @return outcome of each student in request order
+     */
+    public List<StudentBulkItemResponseDto> createStudents(List<StudentCreateRequestDto> requestDtos, String token) {
+        BulkItemStatusType[] statuses = new BulkItemStatusType[requestDtos.size()];
+        Set<String> usernames = new HashSet<>();
+        for (int i = 0; i < requestDtos.size(); i++) {
+            StudentCreateRequestDto requestDto = requestDtos.get(i);
+            if (!requestDto.isRequiredAvailable())
+                statuses[i] = BulkItemStatusType.MISSING_REQUIRED_FIELDS;
+            else if (!usernames.add(requestDto.getUsername()))
+                statuses[i] = BulkItemStatusType.DUPLICATE_USERNAME;
+        }
+        Set<String> existingUsernames = findExistingUsernames(usernames);
+        List<Integer> pendingIndexes = new ArrayList<>();
+        Student[] students = new Student[requestDtos.size()];
+        for (int i = 0; i < requestDtos.size(); i++) {
+            if (statuses[i] != null)
+                continue;
+            if (existingUsernames.contains(requestDtos.get(i).getUsername())
+                    || !usernameGuard.tryAcquire(requestDtos.get(i).getUsername())) {
+                statuses[i] = BulkItemStatusType.STUDENT_ALREADY_EXISTS;
+            } else {
+                students[i] = new Student(requestDtos.get(i));
+                pendingIndexes.add(i);
+            }
+        }
+        try {
+            registerAndSaveStudents(requestDtos, token, pendingIndexes, students, statuses);
+        } finally {
+            pendingIndexes.forEach(i -> usernameGuard.release(requestDtos.get(i).getUsername()));
+        }
+
+        List<StudentBulkItemResponseDto> results = new ArrayList<>(requestDtos.size());
+        for (int i = 0; i < requestDtos.size(); i++) {
+            results.add(new StudentBulkItemResponseDto(i, requestDtos.get(i).getUsername(),
+                    students[i] == null ? null : students[i].getId(), statuses[i]));
+        }
+        return results;
+    }
+
+    /**
+     * This method registers the pending students in auth db concurrently and inserts the registered students in a
+     * single transaction. When that transaction fails, the registered students are saved one by one instead.
+     * A student whose registration or save failed is removed from the students.
+     *
+     * @param requestDtos    student create dtos
+     * @param token          access token
+     * @param pendingIndexes indexes of the students to create
+     * @param students       students by request index
+     * @param statuses       outcome by request index
+     */
+    private void registerAndSaveStudents(List<StudentCreateRequestDto> requestDtos, String token,
+                                         List<Integer> pendingIndexes, Student[] students,
+                                         BulkItemStatusType[] statuses) {
+        List<Throwable> failures = downstreamOrchestrator.runEach(pendingIndexes, i -> students[i]
+                .setAuthUserId(authService.registerStudent(requestDtos.get(i), token).getUserId()));
+        List<Integer> registeredIndexes = new ArrayList<>(pendingIndexes.size());
+        for (int j = 0; j < pendingIndexes.size(); j++) {
+            int i = pendingIndexes.get(j);
+            if (failures.get(j) == null) {
+                statuses[i] = BulkItemStatusType.CREATED;
+                registeredIndexes.add(i);
+            } else {
+                statuses[i] = BulkItemStatusType.AUTH_REGISTRATION_FAILED;
+                students[i] = null;
+                log.error("Failed to register student of username: {} in auth db. error: {}",
+                        requestDtos.get(i).getUsername(), failures.get(j).getMessage());
+            }
+        }
+        try {
+            studentRepository.saveAll(registeredIndexes.stream().map(i -> students[i]).collect(Collectors.toList()));
+        } catch (DataAccessException e) {
+            log.error("Failed to save {} students to DB in a single transaction, saving them one by one. error: {}",
+                    registeredIndexes.size(), e.getMessage());
+            saveStudentsOneByOne(requestDtos, token, registeredIndexes, students, statuses);
+        }
+        studentCache.evict(registeredIndexes.stream().map(i -> students[i]).filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * This method saves the registered students one by one, so that one bad student does not fail the others.
+     * The students that could not be saved are deleted from auth db concurrently and removed from the students.
+     * They are deleted by their auth user id, so that a username taken by another request keeps its auth user.
+     *
+     * @param requestDtos       student create dtos
+     * @param token             access token
+     * @param registeredIndexes indexes of the students registered in auth db
+     * @param students          students by request index
+     * @param statuses          outcome by request index
+     */
+    private void saveStudentsOneByOne(List<StudentCreateRequestDto> requestDtos, String token,
+                                      List<Integer> registeredIndexes, Student[] students,
+                                      BulkItemStatusType[] statuses) {
+        List<Integer> failedIndexes = new ArrayList<>();
+        for (int i : registeredIndexes) {
+            try {
+                studentRepository.saveAndFlush(students[i]);
+            } catch (DataAccessException e) {
+                statuses[i] = e instanceof DataIntegrityViolationException
+                        && isUsernameViolation((DataIntegrityViolationException) e)
+                        ? BulkItemStatusType.STUDENT_ALREADY_EXISTS : BulkItemStatusType.SAVE_FAILED;
+                failedIndexes.add(i);
+                log.error("Failed to save student of username: {} to DB. error: {}",
+                        requestDtos.get(i).getUsername(), e.getMessage());
+            }
+        }
+        List<Throwable> failures = downstreamOrchestrator.runEach(failedIndexes, i ->
+                authService.deleteStudentById(students[i].getAuthUserId(), token));
+        for (int j = 0; j < failedIndexes.size(); j++) {
+            int i = failedIndexes.get(j);
+            students[i] = null;
+            if (failures.get(j) != null) {
+                statuses[i] = BulkItemStatusType.SAVE_AND_AUTH_DELETION_FAILED;
+                log.error("Failed to delete unsaved student of username: {} from auth db. error: {}",
+                        requestDtos.get(i).getUsername(), failures.get(j).getMessage());
+            }
         }
     }
 
     /**
-     * This method returns a student by id
+     * This method returns a student by id. Students are served from the student cache.
      *
      * @param studentId student id
      * @return Student/null
      */
     public Student findById(String studentId) {
+        try {
+            Optional<Student> optionalStudent = studentCache.findById(studentId);
+            if (!optionalStudent.isPresent())
+                throw new StudentNotFoundException("Student not found for student id: " + studentId);
+            return optionalStudent.get();
+        } catch (DataAccessException e) {
+            throw new StudentServiceException("Failed to find student by id for student id: " + studentId, e);
+        }
+    }
+
+    /**
+     * This method returns a student by id from the DB, bypassing the student cache. It is used by the write paths,
+     * so that a change is never made to a stale cached student and saved over newer columns.
+     *
+     * @param studentId student id
+     * @return Student/null
+     */
+    public Student findByIdForWrite(String studentId) {
         try {
             Optional<Student> optionalStudent = studentRepository.findById(studentId);
             if (!optionalStudent.isPresent())
@@ -75,14 +319,14 @@ public class StudentService {
     }
 
     /**
-     * This method returns a student by auth user id
+     * This method returns a student by auth user id. Students are served from the student cache.
      *
      * @param authUserId auth id
      * @return Student/null
      */
     public Student findByAuthUserId(String authUserId) {
         try {
-            Optional<Student> optionalStudent = studentRepository.findByAuthUserId(authUserId);
+            Optional<Student> optionalStudent = studentCache.findByAuthUserId(authUserId);
             if (!optionalStudent.isPresent())
                 throw new StudentNotFoundException("Student not found for auth id: " + authUserId);
             return optionalStudent.get();
@@ -92,23 +336,193 @@ public class StudentService {
     }
 
     /**
-     * This method deletes a student
+     * This method deletes a student.
+     * In outbox mode the student is deleted together with one outbox event per downstream action, and the
+     * outbox worker calls the downstream microservices later. Otherwise the payment and tuition cleanup run
+     * concurrently, and the student is deleted from the auth db only after both succeeded and the local
+     * delete went through.
      *
      * @param student student
      */
     @Transactional
     public void deleteStudent(Student student, String token) {
+        if (outboxDelete) {
+            deleteStudentWithOutbox(student);
+            return;
+        }
+        List<DownstreamOrchestrator.DownstreamCall> cleanupCalls = new ArrayList<>(2);
+        cleanupCalls.add(() -> paymentService.deleteByStudentId(student.getId(), token));
+        if (student.getTuitionId() != null)
+            cleanupCalls.add(() -> tuitionService.removeStudent(student.getId(), student.getTuitionId(), token));
         try {
-            paymentService.deleteByStudentId(student.getId(), token);
-            if (student.getTuitionId() != null)
-                tuitionService.removeStudent(student.getId(), student.getTuitionId(), token);
+            downstreamOrchestrator.runAll(cleanupCalls);
             studentRepository.delete(student);
+            studentCache.evict(student);
             authService.deleteStudent(student.getUsername(), token);
         } catch (DataAccessException | IOException e) {
             throw new StudentServiceException("Failed to delete student of id: " + student.getId(), e);
         }
     }
 
+    /**
+     * This method deletes a student and stores the outbox events of its downstream actions
+     *
+     * @param student student
+     */
+    private void deleteStudentWithOutbox(Student student) {
+        try {
+            outboxService.enqueueDeletion(student);
+            studentRepository.delete(student);
+            studentCache.evict(student);
+        } catch (DataAccessException e) {
+            throw new StudentServiceException("Failed to delete student of id: " + student.getId(), e);
+        }
+    }
+
+    /**
+     * This method deletes students in bulk. The students are loaded and deleted with one statement per chunk of
+     * ids. In outbox mode the deletion and the outbox events of all students are stored in one transaction.
+     * Otherwise the payment and tuition cleanup of all students run concurrently (bounded by the downstream
+     * executor), only the students whose cleanup succeeded are deleted, and then their auth users are deleted
+     * concurrently. No DB connection is held while the downstream microservices are called.
+     *
+     * @param studentIds student ids
+     * @param token      access token
+     * @return outcome of each distinct student id in request order
+     */
+    public List<StudentBulkItemResponseDto> deleteStudents(Collection<String> studentIds, String token) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        Map<String, Student> students = findAllById(ids);
+        Map<String, BulkItemStatusType> statuses = new HashMap<>();
+        if (outboxDelete) {
+            runInTransaction(() -> {
+                outboxService.enqueueDeletions(new ArrayList<>(students.values()));
+                deleteAllById(students.keySet());
+            });
+            studentCache.evict(students.values());
+            students.keySet().forEach(id -> statuses.put(id, BulkItemStatusType.DELETED));
+        } else {
+            List<Student> cleanedStudents = cleanUpDownstream(students.values(), token, statuses);
+            deleteAllById(cleanedStudents.stream().map(Student::getId).collect(Collectors.toList()));
+            studentCache.evict(cleanedStudents);
+            List<Throwable> failures = downstreamOrchestrator.runEach(cleanedStudents, student ->
+                    authService.deleteStudent(student.getUsername(), token));
+            for (int i = 0; i < cleanedStudents.size(); i++) {
+                Student student = cleanedStudents.get(i);
+                if (failures.get(i) == null) {
+                    statuses.put(student.getId(), BulkItemStatusType.DELETED);
+                } else {
+                    statuses.put(student.getId(), BulkItemStatusType.AUTH_DELETION_FAILED);
+                    log.error("Failed to delete student of id: {} from auth db. error: {}", student.getId(),
+                            failures.get(i).getMessage());
+                }
+            }
+        }
+
+        List<StudentBulkItemResponseDto> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Student student = students.get(ids.get(i));
+            results.add(student == null
+                    ? new StudentBulkItemResponseDto(i, null, ids.get(i), BulkItemStatusType.STUDENT_NOT_FOUND)
+                    : new StudentBulkItemResponseDto(i, student.getUsername(), student.getId(),
+                    statuses.get(student.getId())));
+        }
+        return results;
+    }
+
+    /**
+     * This method removes the payments and tuition enrolment of students concurrently
+     *
+     * @param students students
+     * @param token    access token
+     * @param statuses outcome map, updated for the students whose cleanup failed
+     * @return students whose cleanup succeeded
+     */
+    private List<Student> cleanUpDownstream(Collection<Student> students, String token,
+                                            Map<String, BulkItemStatusType> statuses) {
+        List<Student> callOwners = new ArrayList<>();
+        List<DownstreamOrchestrator.DownstreamCall> calls = new ArrayList<>();
+        for (Student student : students) {
+            callOwners.add(student);
+            calls.add(() -> paymentService.deleteByStudentId(student.getId(), token));
+            if (student.getTuitionId() != null) {
+                callOwners.add(student);
+                calls.add(() -> tuitionService.removeStudent(student.getId(), student.getTuitionId(), token));
+            }
+        }
+        List<Throwable> failures = downstreamOrchestrator.runEach(calls, DownstreamOrchestrator.DownstreamCall::call);
+        for (int i = 0; i < calls.size(); i++) {
+            if (failures.get(i) != null) {
+                statuses.put(callOwners.get(i).getId(), BulkItemStatusType.CLEANUP_FAILED);
+                log.error("Failed to clean up student of id: {} in downstream services. error: {}",
+                        callOwners.get(i).getId(), failures.get(i).getMessage());
+            }
+        }
+        return students.stream().filter(student -> !statuses.containsKey(student.getId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * This method returns the students of the given ids, loaded with one query per chunk of ids
+     *
+     * @param ids student ids
+     * @return students by id
+     */
+    private Map<String, Student> findAllById(List<String> ids) {
+        Map<String, Student> students = new LinkedHashMap<>();
+        try {
+            for (List<String> chunk : partition(ids)) {
+                studentRepository.findAllById(chunk).forEach(student -> students.put(student.getId(), student));
+            }
+            return students;
+        } catch (DataAccessException e) {
+            throw new StudentServiceException("Failed to find students by id", e);
+        }
+    }
+
+    /**
+     * This method deletes the students of the given ids with one statement per chunk of ids
+     *
+     * @param ids student ids
+     */
+    private void deleteAllById(Collection<String> ids) {
+        try {
+            for (List<String> chunk : partition(new ArrayList<>(ids))) {
+                studentRepository.deleteByIds(chunk);
+            }
+        } catch (DataAccessException e) {
+            throw new StudentServiceException("Failed to delete students", e);
+        }
+    }
+
+    /**
+     * This method runs the given action in a transaction
+     *
+     * @param action action
+     */
+    private void runInTransaction(Runnable action) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> action.run());
+        } catch (DataAccessException | TransactionException e) {
+            throw new StudentServiceException("Failed to delete students", e);
+        }
+    }
+
+    /**
+     * This method splits a list into chunks that fit in one IN query
+     *
+     * @param list list
+     * @param <T>  element type
+     * @return chunks
+     */
+    private static <T> List<List<T>> partition(List<T> list) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += IN_QUERY_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
     /**
      * This method add a tuition to a student
      *
@@ -120,6 +534,7 @@ public class StudentService {
             student.setTuitionId(tuitionId);
             student.setTuitionJoinedOn(new Date());
             studentRepository.save(student);
+            studentCache.evict(student);
         } catch (DataAccessException e) {
             throw new StudentServiceException("Failed to add tuition of id: " + tuitionId + " to student", e);
         }
@@ -135,6 +550,7 @@ public class StudentService {
             student.setTuitionId(null);
             student.setTuitionJoinedOn(null);
             studentRepository.save(student);
+            studentCache.evict(student);
         } catch (DataAccessException e) {
             throw new StudentServiceException("Failed to remove tuition from student of id: " + student.getId(), e);
         }
@@ -148,22 +564,126 @@ public class StudentService {
      */
     private boolean isStudentExists(String username) {
         try {
-            return studentRepository.findByUsername(username).isPresent();
+            return studentRepository.existsByUsername(username);
         } catch (DataAccessException e) {
             throw new StudentServiceException("Failed to check for student existence in DB for username: " + username, e);
         }
     }
 
     /**
-     * This method returns all students
+     * This method returns which of the given usernames already exist in the DB
+     *
+     * @param usernames usernames
+     * @return existing usernames
+     */
+    private Set<String> findExistingUsernames(Collection<String> usernames) {
+        Set<String> existingUsernames = new HashSet<>();
+        List<String> pending = new ArrayList<>(usernames);
+        try {
+            for (List<String> chunk : partition(pending)) {
+                existingUsernames.addAll(studentRepository.findExistingUsernames(chunk));
+            }
+            return existingUsernames;
+        } catch (DataAccessException e) {
+            throw new StudentServiceException("Failed to check for students existence in DB", e);
+        }
+    }
+
+    /**
+     * This method returns the response fields of all students, without loading the student entities
      *
-     * @return list of students
+     * @return list of student response dtos
      */
-    public List<Student> getAll() {
+    @Transactional(readOnly = true)
+    public List<StudentResponseDto> getAll() {
         try {
-            return studentRepository.findAll();
+            return studentRepository.findAllResponses();
         } catch (DataAccessException e) {
             throw new StudentServiceException("Failed to to get all students", e);
         }
     }
+
+    /**
+     * This method passes the response fields of every student to the given consumer one at a time inside a
+     * read-only transaction. The rows are not loaded as entities, so the persistence context stays empty.
+     *
+     * @param consumer student response dto consumer
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<StudentResponseDto> consumer) {
+        try (Stream<StudentResponseDto> students = studentRepository.streamAll()) {
+            students.forEach(consumer);
+        } catch (DataAccessException | PersistenceException e) {
+            throw new StudentServiceException("Failed to stream all students", e);
+        }
+    }
+
+    /**
+     * This method returns a page of students ordered by id, starting after the given cursor
+     *
+     * @param cursor page cursor (null for the first page)
+     * @param size   page size
+     * @return student page
+     */
+    @Transactional(readOnly = true)
+    public StudentPageResponseDto getPage(String cursor, int size) {
+        String afterId = cursor == null ? FIRST_PAGE_KEY : PageCursor.decode(cursor, 1)[0];
+        try {
+            List<StudentResponseDto> students = studentRepository.findPageAfter(afterId,
+                    PageRequest.of(0, size + 1));
+            if (students.size() <= size)
+                return new StudentPageResponseDto(students, null);
+            List<StudentResponseDto> page = students.subList(0, size);
+            return new StudentPageResponseDto(page, PageCursor.encode(page.get(size - 1).getStudentId()));
+        } catch (DataAccessException e) {
+            throw new StudentServiceException("Failed to get students page after id: " + afterId, e);
+        }
+    }
+
+    /**
+     * This method returns a page of the rosters of the given tuitions, ordered by tuition and then by join date,
+     * starting after the given cursor
+     *
+     * @param tuitionIds tuition ids
+     * @param cursor     page cursor (null for the first page)
+     * @param size       page size
+     * @return roster page
+     */
+    @Transactional(readOnly = true)
+    public StudentPageResponseDto getRoster(Collection<String> tuitionIds, String cursor, int size) {
+        PageRequest pageRequest = PageRequest.of(0, size + 1);
+        try {
+            List<StudentResponseDto> students;
+            if (cursor == null) {
+                students = studentRepository.findRoster(tuitionIds, pageRequest);
+            } else {
+                String[] after = PageCursor.decode(cursor, 3);
+                students = studentRepository.findRosterAfter(tuitionIds, after[0],
+                        new Date(parseCursorMillis(cursor, after[1])), after[2], pageRequest);
+            }
+            if (students.size() <= size)
+                return new StudentPageResponseDto(students, null);
+            List<StudentResponseDto> page = students.subList(0, size);
+            StudentResponseDto last = page.get(size - 1);
+            return new StudentPageResponseDto(page, PageCursor.encode(last.getTuitionId(),
+                    String.valueOf(last.getTuitionJoinedOn().getTime()), last.getStudentId()));
+        } catch (DataAccessException e) {
+            throw new StudentServiceException("Failed to get roster of tuitions: " + tuitionIds, e);
+        }
+    }
+
+    /**
+     * This method parses the epoch millis part of a page cursor
+     *
+     * @param cursor page cursor
+     * @param millis epoch millis part
+     * @return epoch millis
+     */
+    private long parseCursorMillis(String cursor, String millis) {
+        try {
+            return Long.parseLong(millis);
+        } catch (NumberFormatException e) {
+            throw new InvalidPageCursorException("Invalid page cursor: " + cursor, e);
+        }
+    }
 }
@@ -3,7 +3,9 @@ package com.swivel.ignite.student.service;
 import com.swivel.ignite.student.dto.response.StudentResponseDto;
 import com.swivel.ignite.student.exception.TuitionServiceHttpClientErrorException;
 import com.swivel.ignite.student.wrapper.StudentResponseWrapper;
+import com.swivel.ignite.student.resilience.DownstreamResilience;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -12,12 +14,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.net.URI;
 import java.util.Objects;
 
 /**
@@ -30,13 +30,18 @@ public class TuitionService {
     private static final String AUTH_HEADER = "Authorization";
     private static final String FAILED_TO_REMOVE_STUDENT_FROM_TUITION = "Failed to remove student from tuition";
     private final RestTemplate restTemplate;
+    private final DownstreamResilience resilience;
     private final String getRemoveStudentUrl;
+    private final UriTemplate removeStudentUriTemplate;
 
     public TuitionService(@Value("${tuition.baseUrl}") String baseUrl,
                           @Value("${tuition.removeStudentUrl}") String removeStudentUrl,
-                          RestTemplate restTemplate) {
+                          @Qualifier("tuitionRestTemplate") RestTemplate restTemplate,
+                          @Qualifier("tuitionResilience") DownstreamResilience resilience) {
         this.getRemoveStudentUrl = baseUrl + removeStudentUrl;
+        this.removeStudentUriTemplate = new UriTemplate(getRemoveStudentUrl);
         this.restTemplate = restTemplate;
+        this.resilience = resilience;
     }
 
     /**
@@ -47,21 +52,18 @@ public class TuitionService {
      * @throws IOException
      */
     public StudentResponseDto removeStudent(String studentId, String tuitionId, String token) throws IOException {
-        Map<String, String> uriParam = new HashMap<>();
-        uriParam.put("studentId", studentId);
-        uriParam.put("tuitionId", tuitionId);
-        UriComponents builder = UriComponentsBuilder.fromHttpUrl(getRemoveStudentUrl).build();
+        URI uri = removeStudentUriTemplate.expand(studentId, tuitionId);
         HttpHeaders headers = new HttpHeaders();
         headers.set(AUTH_HEADER, token);
         HttpEntity<String> entity = new HttpEntity<>(null, headers);
         try {
             log.debug("Calling tuition service to remove a student from tuition. url: {}", getRemoveStudentUrl);
-            ResponseEntity<StudentResponseWrapper> result = restTemplate.exchange(builder.toUriString(), HttpMethod.POST,
-                    entity, StudentResponseWrapper.class, uriParam);
-            String responseBody = Objects.requireNonNull(result.getBody()).getData().toLogJson();
+            ResponseEntity<StudentResponseWrapper> result = resilience.call(false, () -> restTemplate.exchange(uri,
+                    HttpMethod.POST, entity, StudentResponseWrapper.class));
+            StudentResponseDto responseDto = Objects.requireNonNull(result.getBody()).getData();
             log.debug("Removing student from tuition was successful. statusCode: {}, response: {}", result.getStatusCode(),
-                    responseBody);
-            return Objects.requireNonNull(result.getBody()).getData();
+                    responseDto.toLogArgument());
+            return responseDto;
         } catch (HttpClientErrorException e) {
             log.error(" Error from reg: {}", e.getMessage());
             throw new TuitionServiceHttpClientErrorException(e.getStatusCode(), FAILED_TO_REMOVE_STUDENT_FROM_TUITION,
@@ -0,0 +1,47 @@
+package com.swivel.ignite.student.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Usernames whose students are being created by this instance. A request for a username that is already being
+ * created fails fast instead of registering the same user in the auth service twice. Usernames are compared
+ * case-insensitively, like the unique username index.
+ */
+@Component
+public class UsernameGuard {
+
+    private final Set<String> usernames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * This method claims a username
+     *
+     * @param username username
+     * @return true when claimed, false when the username is already claimed
+     */
+    public boolean tryAcquire(String username) {
+        return usernames.add(normalize(username));
+    }
+
+    /**
+     * This method releases a claimed username
+     *
+     * @param username username
+     */
+    public void release(String username) {
+        usernames.remove(normalize(username));
+    }
+
+    /**
+     * This method normalizes a username
+     *
+     * @param username username
+     * @return normalized username
+     */
+    private String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,91 @@
+package com.swivel.ignite.student.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Appends finished spans to a file, one json object per line, for tracing a local run without a collector
+ */
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+    private final BufferedWriter writer;
+
+    /**
+     * @param path span file, created with its directories when missing
+     * @throws IOException when the file cannot be opened
+     */
+    public FileSpanExporter(Path path) throws IOException {
+        if (path.toAbsolutePath().getParent() != null)
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                writer.write(WRITER.writeValueAsString(toMap(span)));
+                writer.newLine();
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Failed to write {} spans to the span file", spans.size(), e);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    /**
+     * This method converts a span to the fields written to the file
+     *
+     * @param span span
+     * @return span fields
+     */
+    private static Map<String, Object> toMap(SpanData span) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("traceId", span.getTraceId());
+        fields.put("spanId", span.getSpanId());
+        fields.put("parentSpanId", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        fields.put("name", span.getName());
+        fields.put("kind", span.getKind().name());
+        fields.put("startEpochNanos", span.getStartEpochNanos());
+        fields.put("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1000);
+        fields.put("status", span.getStatus().getStatusCode().name());
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        fields.put("attributes", attributes);
+        return fields;
+    }
+}
@@ -0,0 +1,84 @@
+package com.swivel.ignite.student.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds a client span around every call of a spring data repository, named after the repository interface and
+ * method (e.g. StudentRepository.findById). The span covers the transaction the repository opens, if any.
+ * A returned stream is traced until it is returned, not until it is consumed.
+ */
+@Component
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+
+    private static final String DB_SYSTEM = "mysql";
+    private final ObjectProvider<OpenTelemetry> openTelemetry;
+
+    public RepositoryTracingPostProcessor(ObjectProvider<OpenTelemetry> openTelemetry) {
+        this.openTelemetry = openTelemetry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof Repository && bean instanceof Advised) {
+            Advised advised = (Advised) bean;
+            String repositoryName = advised.getProxiedInterfaces()[0].getSimpleName();
+            advised.addAdvice(0, new RepositoryTracingInterceptor(repositoryName));
+        }
+        return bean;
+    }
+
+    /**
+     * Opens the span of one repository call
+     */
+    private class RepositoryTracingInterceptor implements MethodInterceptor {
+
+        private final String repositoryName;
+        private Tracer tracer;
+
+        RepositoryTracingInterceptor(String repositoryName) {
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            String operation = invocation.getMethod().getName();
+            Span span = getTracer().spanBuilder(repositoryName + "." + operation)
+                    .setSpanKind(SpanKind.CLIENT)
+                    .setAttribute(Tracing.DB_SYSTEM, DB_SYSTEM)
+                    .setAttribute(Tracing.DB_OPERATION, operation)
+                    .startSpan();
+            try (Scope ignored = span.makeCurrent()) {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.recordException(e);
+                span.setStatus(StatusCode.ERROR);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+
+        /**
+         * This method returns the tracer, resolved on first use as repositories are created before it
+         *
+         * @return tracer
+         */
+        private Tracer getTracer() {
+            if (tracer == null)
+                tracer = openTelemetry.getObject().getTracer(Tracing.INSTRUMENTATION_NAME);
+            return tracer;
+        }
+    }
+}
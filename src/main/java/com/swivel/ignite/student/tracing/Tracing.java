@@ -0,0 +1,23 @@
+package com.swivel.ignite.student.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+
+/**
+ * Instrumentation name and span attribute keys (OpenTelemetry semantic conventions) of the student service
+ */
+public final class Tracing {
+
+    public static final String INSTRUMENTATION_NAME = "com.swivel.ignite.student";
+    public static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+    static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+    static final AttributeKey<String> HTTP_TARGET = AttributeKey.stringKey("http.target");
+    static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+    static final AttributeKey<String> HTTP_URL = AttributeKey.stringKey("http.url");
+    static final AttributeKey<Long> HTTP_STATUS_CODE = AttributeKey.longKey("http.status_code");
+    static final AttributeKey<String> PEER_SERVICE = AttributeKey.stringKey("peer.service");
+    static final AttributeKey<String> DB_SYSTEM = AttributeKey.stringKey("db.system");
+    static final AttributeKey<String> DB_OPERATION = AttributeKey.stringKey("db.operation");
+
+    private Tracing() {
+    }
+}
@@ -0,0 +1,68 @@
+package com.swivel.ignite.student.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Opens a client span for every call of a downstream rest template and sends the W3C trace context headers
+ * (traceparent, tracestate) with the request, so that the downstream service continues the trace.
+ */
+public class TracingClientInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final TextMapSetter<HttpRequest> HEADER_SETTER = (carrier, key, value) -> {
+        if (carrier != null)
+            carrier.getHeaders().set(key, value);
+    };
+    private final Tracer tracer;
+    private final TextMapPropagator propagator;
+    private final String service;
+
+    /**
+     * @param openTelemetry open telemetry
+     * @param service       downstream service name
+     */
+    public TracingClientInterceptor(OpenTelemetry openTelemetry, String service) {
+        this.tracer = openTelemetry.getTracer(Tracing.INSTRUMENTATION_NAME);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+        this.service = service;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String method = request.getMethodValue();
+        Span span = tracer.spanBuilder(service + " " + method)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(Tracing.PEER_SERVICE, service)
+                .setAttribute(Tracing.HTTP_METHOD, method)
+                .setAttribute(Tracing.HTTP_URL, request.getURI().toString())
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            propagator.inject(Context.current(), request, HEADER_SETTER);
+            ClientHttpResponse response = execution.execute(request, body);
+            span.setAttribute(Tracing.HTTP_STATUS_CODE, response.getRawStatusCode());
+            if (response.getRawStatusCode() >= 400)
+                span.setStatus(StatusCode.ERROR);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -23,9 +23,4 @@ public class ResponseWrapper implements BaseDto {
         this.message = message;
         this.displayMessage = displayMessage;
     }
-
-    @Override
-    public String toLogJson() {
-        return toJson();
-    }
 }
@@ -28,9 +28,4 @@ public class RestErrorResponseWrapper extends ResponseWrapper {
         this.data = data;
         this.errorCode = errorCode;
     }
-
-    @Override
-    public String toLogJson() {
-        return toJson();
-    }
 }
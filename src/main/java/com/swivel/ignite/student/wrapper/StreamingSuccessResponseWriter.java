@@ -0,0 +1,75 @@
+package com.swivel.ignite.student.wrapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.student.dto.response.ResponseDto;
+import com.swivel.ignite.student.enums.ResponseStatusType;
+import com.swivel.ignite.student.enums.SuccessResponseStatusType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Streaming success response writer.
+ * Writes the same envelope as {@link SuccessResponseWrapper} but emits the data list one item at a time,
+ * so the full list is never held in memory.
+ */
+public class StreamingSuccessResponseWriter {
+
+    private static final String STATUS = "status";
+    private static final String MESSAGE = "message";
+    private static final String DATA = "data";
+    private static final String DISPLAY_MESSAGE = "displayMessage";
+    private static final String STATUS_CODE = "statusCode";
+    private final ObjectMapper objectMapper;
+
+    public StreamingSuccessResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * This method writes a success envelope whose data object holds a single list field
+     *
+     * @param outputStream   response output stream
+     * @param status         success status
+     * @param displayMessage display message
+     * @param listFieldName  name of the list field inside data
+     * @param source         source that pushes every list item to the given consumer
+     * @throws IOException when writing to the output stream fails
+     */
+    public void write(OutputStream outputStream, SuccessResponseStatusType status, String displayMessage,
+                      String listFieldName, Consumer<Consumer<ResponseDto>> source) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeObjectField(STATUS, ResponseStatusType.SUCCESS);
+            generator.writeStringField(MESSAGE, status.getMessage());
+            generator.writeObjectFieldStart(DATA);
+            generator.writeArrayFieldStart(listFieldName);
+            source.accept(item -> writeItem(generator, item));
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeStringField(DISPLAY_MESSAGE, displayMessage);
+            generator.writeNumberField(STATUS_CODE, status.getCode());
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * This method writes a single list item
+     *
+     * @param generator json generator
+     * @param item      list item
+     */
+    private void writeItem(JsonGenerator generator, ResponseDto item) {
+        try {
+            generator.writeObject(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
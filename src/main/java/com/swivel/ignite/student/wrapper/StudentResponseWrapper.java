@@ -17,9 +17,4 @@ public class StudentResponseWrapper implements BaseDto {
     private String message;
     private StudentResponseDto data;
     private String displayMessage;
-
-    @Override
-    public String toLogJson() {
-        return toJson();
-    }
 }
@@ -17,9 +17,4 @@ public class UserResponseWrapper implements BaseDto {
     private String message;
     private UserResponseDto data;
     private String displayMessage;
-
-    @Override
-    public String toLogJson() {
-        return toJson();
-    }
 }
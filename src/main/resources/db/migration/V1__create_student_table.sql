@@ -0,0 +1,12 @@
+-- Student table as previously generated by hibernate (ddl-auto: update). Existing databases are baselined at this
+-- version, so every later change has to go into a later migration.
+CREATE TABLE student
+(
+    id                VARCHAR(255) NOT NULL,
+    username          VARCHAR(255) NOT NULL,
+    password          VARCHAR(255) NOT NULL,
+    tuition_joined_on DATETIME,
+    tuition_id        VARCHAR(255),
+    auth_user_id      VARCHAR(255),
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,5 @@
+-- Lookups by auth user id (get by auth user id, student cache loads)
+CREATE INDEX idx_student_auth_user_id ON student (auth_user_id);
+
+-- Tuition rosters: the students of a tuition in join order. Also serves every lookup by tuition id.
+CREATE INDEX idx_student_tuition_roster ON student (tuition_id, tuition_joined_on, id);
@@ -0,0 +1,2 @@
+-- One student per username. Duplicate usernames of an existing database have to be removed before upgrading.
+ALTER TABLE student ADD CONSTRAINT uk_student_username UNIQUE (username);
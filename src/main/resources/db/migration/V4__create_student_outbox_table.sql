@@ -0,0 +1,19 @@
+-- Downstream actions of student deletions in outbox mode
+CREATE TABLE student_outbox
+(
+    id              VARCHAR(255)  NOT NULL,
+    action          VARCHAR(32)   NOT NULL,
+    status          VARCHAR(16)   NOT NULL,
+    student_id      VARCHAR(255)  NOT NULL,
+    tuition_id      VARCHAR(255),
+    username        VARCHAR(255),
+    token           VARCHAR(4096),
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at DATETIME      NOT NULL,
+    last_error      VARCHAR(1000),
+    created_on      DATETIME      NOT NULL,
+    version         BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_student_outbox_due ON student_outbox (status, next_attempt_at);
@@ -0,0 +1,3 @@
+-- The outbox worker calls the downstream services with a client credentials token of its own; access tokens of
+-- the deleting requests are no longer stored
+ALTER TABLE student_outbox DROP COLUMN token;
@@ -0,0 +1,2 @@
+-- The auth user deletion of a student waits for the other outbox events of the student
+CREATE INDEX idx_student_outbox_student ON student_outbox (student_id);
@@ -0,0 +1,31 @@
+package com.swivel.ignite.student.reactive;
+
+import com.swivel.ignite.student.service.UsernameGuard;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Reactive Student Application. Serves the student API on WebFlux with R2DBC and WebClient. Only the classes of
+ * the reactive package are scanned; the JDBC data source is replaced by R2DBC (flyway keeps migrating the schema
+ * over its own JDBC connection) and the servlet resource server by the reactive one.
+ */
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class},
+        excludeName = "org.springframework.boot.autoconfigure.security.oauth2.OAuth2AutoConfiguration")
+@EnableEurekaClient
+@Import(UsernameGuard.class)
+public class ReactiveStudentApplication {
+
+    public static final String REACTIVE_PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveStudentApplication.class).profiles(REACTIVE_PROFILE).run(args);
+    }
+}
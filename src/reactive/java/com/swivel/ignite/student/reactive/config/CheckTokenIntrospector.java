@@ -0,0 +1,166 @@
+package com.swivel.ignite.student.reactive.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.Getter;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.DefaultOAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.server.resource.introspection.BadOpaqueTokenException;
+import org.springframework.security.oauth2.server.resource.introspection.OAuth2IntrospectionException;
+import org.springframework.security.oauth2.server.resource.introspection.ReactiveOpaqueTokenIntrospector;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates access tokens against the check_token endpoint of the auth service, like the remote token services
+ * of the servlet application, and caches the result until the token expires (capped at a max TTL).
+ */
+public class CheckTokenIntrospector implements ReactiveOpaqueTokenIntrospector {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> CLAIMS_TYPE =
+            new ParameterizedTypeReference<Map<String, Object>>() {
+            };
+    private static final String TOKEN = "token";
+    private static final String ERROR = "error";
+    private static final String ACTIVE = "active";
+    private static final String AUDIENCE = "aud";
+    private static final String AUTHORITIES = "authorities";
+    private static final String EXPIRES_AT = "exp";
+    private static final String ISSUED_AT = "iat";
+    private final WebClient webClient;
+    private final URI checkTokenUri;
+    private final String clientId;
+    private final String clientSecret;
+    private final String resourceId;
+    private final Clock clock;
+    private final long maxTtlNanos;
+    @Getter
+    private final Cache<String, OAuth2AuthenticatedPrincipal> cache;
+
+    /**
+     * @param webClient     web client
+     * @param checkTokenUri check_token endpoint url
+     * @param clientId      client id
+     * @param clientSecret  client secret
+     * @param resourceId    resource id that tokens must be issued for
+     * @param maximumSize   maximum number of cached tokens
+     * @param maxTtl        maximum time a token is cached, also used when the token has no expiry
+     * @param clock         clock used to evaluate token expiry
+     */
+    public CheckTokenIntrospector(WebClient webClient, URI checkTokenUri, String clientId, String clientSecret,
+                                  String resourceId, long maximumSize, Duration maxTtl, Clock clock) {
+        this.webClient = webClient;
+        this.checkTokenUri = checkTokenUri;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.resourceId = resourceId;
+        this.clock = clock;
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .ticker(Ticker.systemTicker())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Mono<OAuth2AuthenticatedPrincipal> introspect(String token) {
+        OAuth2AuthenticatedPrincipal cachedPrincipal = cache.getIfPresent(token);
+        if (cachedPrincipal != null)
+            return Mono.just(cachedPrincipal);
+        return webClient.post().uri(checkTokenUri)
+                .headers(headers -> headers.setBasicAuth(clientId, clientSecret))
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(TOKEN, token))
+                .retrieve()
+                .bodyToMono(CLAIMS_TYPE)
+                .onErrorMap(e -> e instanceof WebClientResponseException
+                        && ((WebClientResponseException) e).getStatusCode().is4xxClientError()
+                        ? new BadOpaqueTokenException("Invalid access token")
+                        : new OAuth2IntrospectionException("Failed to check access token: " + e.getMessage(), e))
+                .map(this::toPrincipal)
+                .doOnNext(principal -> cache.put(token, principal));
+    }
+
+    /**
+     * This method validates the check_token claims and converts them into a principal. Expiry claims are
+     * converted to instants, as the resource server expects.
+     *
+     * @param claims check_token claims
+     * @return principal
+     */
+    private OAuth2AuthenticatedPrincipal toPrincipal(Map<String, Object> claims) {
+        if (claims.containsKey(ERROR) || Boolean.FALSE.equals(claims.get(ACTIVE)))
+            throw new BadOpaqueTokenException("Invalid access token");
+        Object audience = claims.get(AUDIENCE);
+        Collection<?> audiences = audience instanceof Collection ? (Collection<?>) audience
+                : audience == null ? Collections.emptyList() : Collections.singletonList(audience);
+        if (!audiences.isEmpty() && !audiences.contains(resourceId))
+            throw new BadOpaqueTokenException("Invalid access token, does not contain resource id: " + resourceId);
+        Map<String, Object> attributes = new HashMap<>(claims);
+        convertEpochSeconds(attributes, EXPIRES_AT);
+        convertEpochSeconds(attributes, ISSUED_AT);
+        Instant expiry = (Instant) attributes.get(EXPIRES_AT);
+        if (expiry != null && !expiry.isAfter(clock.instant()))
+            throw new BadOpaqueTokenException("Access token expired");
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        Object claimedAuthorities = claims.get(AUTHORITIES);
+        if (claimedAuthorities instanceof Collection)
+            ((Collection<?>) claimedAuthorities).forEach(authority -> authorities.add(
+                    new SimpleGrantedAuthority(String.valueOf(authority))));
+        return new DefaultOAuth2AuthenticatedPrincipal(attributes, authorities);
+    }
+
+    private static void convertEpochSeconds(Map<String, Object> attributes, String name) {
+        Object value = attributes.get(name);
+        if (value instanceof Number)
+            attributes.put(name, Instant.ofEpochSecond(((Number) value).longValue()));
+    }
+
+    /**
+     * Expires each entry when its token expires (or after the max TTL)
+     */
+    private final class TokenExpiry implements Expiry<String, OAuth2AuthenticatedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, OAuth2AuthenticatedPrincipal value, long currentTime) {
+            Instant expiry = value.getAttribute(EXPIRES_AT);
+            if (expiry == null)
+                return maxTtlNanos;
+            long remainingNanos = Duration.between(clock.instant(), expiry).toNanos();
+            return Math.max(0, Math.min(maxTtlNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, OAuth2AuthenticatedPrincipal value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, OAuth2AuthenticatedPrincipal value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.swivel.ignite.student.reactive.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class customizes oauth exception responses on resource server endpoints, with the same body as the
+ * servlet entry point and access denied handler
+ */
+public class ReactiveErrorResponseWriter implements ServerAuthenticationEntryPoint, ServerAccessDeniedHandler {
+
+    private static final String ERROR_CODE = "errorCode";
+    private static final String STATUS = "status";
+    private static final String ERROR_STATUS = "ERROR";
+    private static final String MESSAGE = "message";
+    private static final String DISPLAY_MESSAGE = "displayMessage";
+    private static final String ERROR_MESSAGE = "Oops!! Something went wrong. Please try again.";
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException exception) {
+        return write(exchange.getResponse(), exception.getMessage());
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException exception) {
+        return write(exchange.getResponse(), exception.getMessage());
+    }
+
+    /**
+     * This method writes the error response
+     *
+     * @param response response
+     * @param message  exception message
+     * @return completion of the write
+     */
+    private Mono<Void> write(ServerHttpResponse response, String message) {
+        Map<Object, Object> map = new HashMap<>();
+        map.put(STATUS, ERROR_STATUS);
+        map.put(MESSAGE, message);
+        map.put(DISPLAY_MESSAGE, ERROR_MESSAGE);
+        map.put(ERROR_CODE, HttpStatus.UNAUTHORIZED.value());
+
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = mapper.writeValueAsBytes(map);
+            return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+}
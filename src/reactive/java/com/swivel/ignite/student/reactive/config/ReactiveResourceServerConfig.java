@@ -0,0 +1,89 @@
+package com.swivel.ignite.student.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.server.resource.introspection.ReactiveOpaqueTokenIntrospector;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Resource Server Configuration of the reactive stack. Access tokens are validated with the check_token endpoint
+ * of the auth service (remote verification) and cached like in the servlet stack.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveResourceServerConfig {
+
+    private static final String STUDENT_ENDPOINT = "/api/v1/student/**";
+    private static final String ADMIN = "ADMIN";
+    private static final String STUDENT = "STUDENT";
+
+    /**
+     * This method creates the introspector that validates access tokens with the auth service
+     *
+     * @param webClientBuilder web client builder
+     * @param checkTokenUri    check_token endpoint url
+     * @param clientId         client id
+     * @param clientSecret     client secret
+     * @param resourceId       resource id
+     * @param cacheEnabled     true to cache check_token results
+     * @param cacheSize        maximum number of cached tokens
+     * @param cacheMaxTtl      maximum time a token is cached
+     * @return token introspector
+     */
+    @Bean
+    public ReactiveOpaqueTokenIntrospector tokenIntrospector(
+            WebClient.Builder webClientBuilder,
+            @Value("${security.oauth2.resource.token-info-uri}") URI checkTokenUri,
+            @Value("${security.oauth2.client.client-id}") String clientId,
+            @Value("${security.oauth2.client.client-secret}") String clientSecret,
+            @Value("${oauth.resource-id}") String resourceId,
+            @Value("${oauth.token-cache.enabled}") boolean cacheEnabled,
+            @Value("${oauth.token-cache.maximum-size}") long cacheSize,
+            @Value("${oauth.token-cache.max-ttl}") Duration cacheMaxTtl) {
+        return new CheckTokenIntrospector(webClientBuilder.build(), checkTokenUri, clientId, clientSecret,
+                resourceId, cacheEnabled ? cacheSize : 0, cacheMaxTtl, Clock.systemUTC());
+    }
+
+    /**
+     * This method configures the web security of the resource server
+     *
+     * @param http              http
+     * @param tokenIntrospector  token introspector
+     * @return security filter chain
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         ReactiveOpaqueTokenIntrospector tokenIntrospector) {
+        ReactiveErrorResponseWriter errorResponseWriter = new ReactiveErrorResponseWriter();
+        http.csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .authorizeExchange()
+                .pathMatchers(HttpMethod.POST, STUDENT_ENDPOINT).hasAuthority(ADMIN)
+                .pathMatchers(HttpMethod.GET, STUDENT_ENDPOINT).hasAnyAuthority(ADMIN, STUDENT)
+                .pathMatchers(HttpMethod.DELETE, STUDENT_ENDPOINT).hasAuthority(ADMIN)
+                // only served on the management port, scraped by prometheus without an access token
+                .pathMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
+                .anyExchange().authenticated()
+                .and()
+                .exceptionHandling()
+                .authenticationEntryPoint(errorResponseWriter)
+                .accessDeniedHandler(errorResponseWriter)
+                .and()
+                .oauth2ResourceServer()
+                .authenticationEntryPoint(errorResponseWriter)
+                .accessDeniedHandler(errorResponseWriter)
+                .opaqueToken()
+                .introspector(tokenIntrospector);
+        return http.build();
+    }
+}
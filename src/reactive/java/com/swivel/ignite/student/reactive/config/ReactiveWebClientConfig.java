@@ -0,0 +1,80 @@
+package com.swivel.ignite.student.reactive.config;
+
+import com.swivel.ignite.student.config.HttpClientProperties;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Web clients of the downstream microservices. Every service has its own connection pool with the settings of
+ * {@code *.http}, so the pools limit the concurrent calls to each service like the rest templates of the servlet
+ * application do.
+ */
+@Configuration
+public class ReactiveWebClientConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "auth.http")
+    public HttpClientProperties authHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "payment.http")
+    public HttpClientProperties paymentHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "tuition.http")
+    public HttpClientProperties tuitionHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    public WebClient authWebClient(@Qualifier("authHttpClientProperties") HttpClientProperties properties,
+                                   WebClient.Builder builder) {
+        return pooledWebClient(properties, builder, "auth");
+    }
+
+    @Bean
+    public WebClient paymentWebClient(@Qualifier("paymentHttpClientProperties") HttpClientProperties properties,
+                                      WebClient.Builder builder) {
+        return pooledWebClient(properties, builder, "payment");
+    }
+
+    @Bean
+    public WebClient tuitionWebClient(@Qualifier("tuitionHttpClientProperties") HttpClientProperties properties,
+                                      WebClient.Builder builder) {
+        return pooledWebClient(properties, builder, "tuition");
+    }
+
+    /**
+     * This method creates a web client backed by its own connection pool. Calls are timed as http.client.requests
+     * by the auto-configured builder.
+     *
+     * @param properties pool and timeout settings
+     * @param builder    auto-configured web client builder
+     * @param service    downstream service name
+     * @return web client
+     */
+    private WebClient pooledWebClient(HttpClientProperties properties, WebClient.Builder builder, String service) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(service)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleEviction())
+                .maxLifeTime(properties.getTimeToLive())
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .tcpConfiguration(tcpClient -> tcpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                        (int) properties.getConnectTimeout().toMillis()))
+                .responseTimeout(properties.getReadTimeout());
+        return builder.clone().clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+}
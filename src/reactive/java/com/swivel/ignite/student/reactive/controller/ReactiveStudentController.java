@@ -0,0 +1,218 @@
+package com.swivel.ignite.student.reactive.controller;
+
+import com.swivel.ignite.student.controller.Controller;
+import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentListResponseDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
+import com.swivel.ignite.student.enums.RoleType;
+import com.swivel.ignite.student.enums.SuccessResponseStatusType;
+import com.swivel.ignite.student.reactive.service.ReactiveStudentService;
+import com.swivel.ignite.student.wrapper.ResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Reactive Student Controller. Serves the paths and response envelopes of
+ * {@link com.swivel.ignite.student.controller.StudentController}, except the bulk and streaming endpoints.
+ */
+@RestController
+@RequestMapping("api/v1/student")
+@Slf4j
+public class ReactiveStudentController extends Controller {
+
+    private final ReactiveStudentService studentService;
+    private final int maxPageSize;
+    private final int maxRosterTuitionIds;
+
+    public ReactiveStudentController(ReactiveStudentService studentService,
+                                     @Value("${student.pagination.max-page-size}") int maxPageSize,
+                                     @Value("${student.roster.max-tuition-ids}") int maxRosterTuitionIds) {
+        this.studentService = studentService;
+        this.maxPageSize = maxPageSize;
+        this.maxRosterTuitionIds = maxRosterTuitionIds;
+    }
+
+    /**
+     * This method creates a new student
+     *
+     * @param requestDto student create request dto
+     * @param token      access token
+     * @return success(student response)/ error response
+     */
+    @PostMapping(path = "", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResponseWrapper>> createStudent(
+            @RequestBody StudentCreateRequestDto requestDto,
+            @RequestHeader(name = AUTH_HEADER, required = false) String token) {
+        requestDto.setRoleType(RoleType.STUDENT);
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in tuition create request DTO for creating student");
+            return Mono.just(getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS));
+        }
+        return studentService.createStudent(requestDto, token).map(student -> {
+            StudentResponseDto responseDto = new StudentResponseDto(student);
+            log.debug("Created student {}", responseDto.toLogArgument());
+            return getSuccessResponse(SuccessResponseStatusType.CREATE_STUDENT, responseDto);
+        });
+    }
+
+    /**
+     * This method is used to get a student by id
+     *
+     * @param studentId student id
+     * @return success(student)/ error response
+     */
+    @GetMapping(path = "/get/{studentId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResponseWrapper>> getStudentById(@PathVariable(name = "studentId") String studentId) {
+        return studentService.findById(studentId).map(student -> {
+            log.debug("Retrieved student of id: {}", studentId);
+            return getSuccessResponse(SuccessResponseStatusType.GET_STUDENT, new StudentResponseDto(student));
+        });
+    }
+
+    /**
+     * This method is used to get a student by auth user id
+     *
+     * @param authUserId auth id
+     * @return success(student)/ error response
+     */
+    @GetMapping(path = "/auth/get/{authUserId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResponseWrapper>> getStudentByAuthUserId(
+            @PathVariable(name = "authUserId") String authUserId) {
+        return studentService.findByAuthUserId(authUserId).map(student -> {
+            log.debug("Retrieved student of auth id: {}", authUserId);
+            return getSuccessResponse(SuccessResponseStatusType.GET_STUDENT, new StudentResponseDto(student));
+        });
+    }
+
+    /**
+     * This method deletes a student by id
+     *
+     * @param studentId student id
+     * @param token     access token
+     * @return success/ error response
+     */
+    @DeleteMapping(path = "/delete/{studentId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResponseWrapper>> deleteStudent(
+            @PathVariable(name = "studentId") String studentId,
+            @RequestHeader(name = AUTH_HEADER, required = false) String token) {
+        return studentService.findById(studentId)
+                .flatMap(student -> studentService.deleteStudent(student, token))
+                .then(Mono.fromSupplier(() -> {
+                    log.debug("Successfully deleted the student of id: {}", studentId);
+                    return getSuccessResponse(SuccessResponseStatusType.DELETE_STUDENT, null);
+                }));
+    }
+
+    /**
+     * This method is used to get all students
+     *
+     * @return success(student list)/ error response
+     */
+    @GetMapping(path = "/get/all", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResponseWrapper>> getAllStudents() {
+        return studentService.getAll().collectList().map(students -> {
+            log.debug("Returned all students");
+            return getSuccessResponse(SuccessResponseStatusType.RETURNED_ALL_STUDENT,
+                    new StudentListResponseDto(students));
+        });
+    }
+
+    /**
+     * This method is used to get a page of students ordered by id.
+     * Pages are addressed by the opaque cursor returned with the previous page, not by offset.
+     *
+     * @param cursor cursor returned with the previous page (omit for the first page)
+     * @param size   page size, capped at the configured max page size
+     * @return success(student page)/ error response
+     */
+    @GetMapping(path = "/get/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResponseWrapper>> getStudentPage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "${student.pagination.default-page-size}") int size) {
+        if (size < 1) {
+            log.error("Invalid page size: {} for getting students page", size);
+            return Mono.just(getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_SIZE));
+        }
+        return studentService.getPage(cursor, Math.min(size, maxPageSize)).map(responseDto -> {
+            log.debug("Returned students page of size: {}", responseDto.getStudents().size());
+            return getSuccessResponse(SuccessResponseStatusType.RETURNED_STUDENT_PAGE, responseDto);
+        });
+    }
+
+    /**
+     * This method is used to get a page of the rosters of one or more tuitions. Students are ordered by tuition
+     * and then by the date they joined it, and pages are addressed by the cursor returned with the previous page.
+     *
+     * @param tuitionIds tuition ids (repeated or comma separated)
+     * @param cursor     cursor returned with the previous page (omit for the first page)
+     * @param size       page size, capped at the configured max page size
+     * @return success(roster page)/ error response
+     */
+    @GetMapping(path = "/get/roster", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResponseWrapper>> getTuitionRoster(
+            @RequestParam(name = "tuitionId") Set<String> tuitionIds,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "${student.pagination.default-page-size}") int size) {
+        tuitionIds.removeIf(tuitionId -> tuitionId.trim().isEmpty());
+        if (tuitionIds.isEmpty() || tuitionIds.size() > maxRosterTuitionIds) {
+            log.error("Invalid number of tuition ids: {} for getting tuition roster", tuitionIds.size());
+            return Mono.just(getBadRequestResponse(ErrorResponseStatusType.INVALID_TUITION_ID_COUNT));
+        }
+        if (size < 1) {
+            log.error("Invalid page size: {} for getting tuition roster", size);
+            return Mono.just(getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_SIZE));
+        }
+        return studentService.getRoster(tuitionIds, cursor, Math.min(size, maxPageSize)).map(responseDto -> {
+            log.debug("Returned roster page of size: {} for {} tuitions", responseDto.getStudents().size(),
+                    tuitionIds.size());
+            return getSuccessResponse(SuccessResponseStatusType.RETURNED_TUITION_ROSTER, responseDto);
+        });
+    }
+
+    /**
+     * This method is used to add a tuition to a student
+     *
+     * @return success/ error response
+     */
+    @PostMapping(path = "/add/student/{studentId}/tuition/{tuitionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResponseWrapper>> addTuitionToStudent(
+            @PathVariable(name = "studentId") String studentId, @PathVariable(name = "tuitionId") String tuitionId) {
+        return studentService.findById(studentId).flatMap(student -> {
+            if (student.getTuitionId() != null) {
+                log.error("Student is already enrolled in a tuition");
+                return Mono.just(getBadRequestResponse(ErrorResponseStatusType.STUDENT_ALREADY_ENROLLED_IN_A_TUITION));
+            }
+            return studentService.addTuition(student, tuitionId).then(Mono.fromSupplier(() -> {
+                log.debug("Successfully added the tuition to student");
+                return getSuccessResponse(SuccessResponseStatusType.ADD_TUITION_STUDENT, null);
+            }));
+        });
+    }
+
+    /**
+     * This method is used to remove a tuition from a student
+     *
+     * @return success/ error response
+     */
+    @PostMapping(path = "/remove/student/{studentId}/tuition/{tuitionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResponseWrapper>> removeTuitionFromStudent(
+            @PathVariable(name = "studentId") String studentId, @PathVariable(name = "tuitionId") String tuitionId) {
+        return studentService.findById(studentId).flatMap(student -> {
+            if (student.getTuitionId() == null || !student.getTuitionId().equals(tuitionId)) {
+                log.error("Student is not enrolled in the tuition");
+                return Mono.just(getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_ENROLLED_IN_TUITION));
+            }
+            return studentService.removeTuition(student).then(Mono.fromSupplier(() -> {
+                log.debug("Successfully removed the tuition from student");
+                return getSuccessResponse(SuccessResponseStatusType.REMOVE_TUITION_STUDENT, null);
+            }));
+        });
+    }
+}
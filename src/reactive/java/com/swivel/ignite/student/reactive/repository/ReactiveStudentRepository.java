@@ -0,0 +1,222 @@
+package com.swivel.ignite.student.reactive.repository;
+
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.entity.Student;
+import io.r2dbc.spi.Row;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * R2DBC counterpart of {@link com.swivel.ignite.student.repository.StudentRepository}. The statements are the
+ * SQL of the JPA queries, so they are served from the same indexes; read paths select the response fields only.
+ */
+@Repository
+public class ReactiveStudentRepository {
+
+    private static final String STUDENT_SELECT = "SELECT id, username, password, tuition_joined_on, tuition_id,"
+            + " auth_user_id FROM student";
+    private static final String STUDENT_RESPONSE_SELECT = "SELECT id, username, tuition_id, tuition_joined_on"
+            + " FROM student";
+    private static final String ROSTER_ORDER = " ORDER BY tuition_id, tuition_joined_on, id LIMIT :limit";
+    private final DatabaseClient databaseClient;
+
+    public ReactiveStudentRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * This method checks whether a student exists with the given username
+     *
+     * @param username username
+     * @return true/false
+     */
+    public Mono<Boolean> existsByUsername(String username) {
+        return databaseClient.execute("SELECT id FROM student WHERE username = :username")
+                .bind("username", username)
+                .map(row -> row.get("id", String.class))
+                .first()
+                .hasElement();
+    }
+
+    /**
+     * This method returns a student by id
+     *
+     * @param id student id
+     * @return student/empty
+     */
+    public Mono<Student> findById(String id) {
+        return databaseClient.execute(STUDENT_SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveStudentRepository::toStudent)
+                .first();
+    }
+
+    /**
+     * This method returns a student by auth id
+     *
+     * @param authUserId auth id
+     * @return student/empty
+     */
+    public Mono<Student> findByAuthUserId(String authUserId) {
+        return databaseClient.execute(STUDENT_SELECT + " WHERE auth_user_id = :authUserId")
+                .bind("authUserId", authUserId)
+                .map(ReactiveStudentRepository::toStudent)
+                .first();
+    }
+
+    /**
+     * This method returns the response fields of all students
+     *
+     * @return student response dtos
+     */
+    public Flux<StudentResponseDto> findAllResponses() {
+        return databaseClient.execute(STUDENT_RESPONSE_SELECT)
+                .map(ReactiveStudentRepository::toResponseDto)
+                .all();
+    }
+
+    /**
+     * This method returns the students ordered by id that come after the given id (keyset pagination)
+     *
+     * @param afterId last seen student id ("" for the first page)
+     * @param limit   maximum number of students
+     * @return response dtos of the students after the given id
+     */
+    public Flux<StudentResponseDto> findPageAfter(String afterId, int limit) {
+        return databaseClient.execute(STUDENT_RESPONSE_SELECT + " WHERE id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveStudentRepository::toResponseDto)
+                .all();
+    }
+
+    /**
+     * This method returns the first students of the rosters of the given tuitions, ordered by tuition and then
+     * by join date
+     *
+     * @param tuitionIds tuition ids
+     * @param limit      maximum number of students
+     * @return response dtos of the students of the tuitions
+     */
+    public Flux<StudentResponseDto> findRoster(Collection<String> tuitionIds, int limit) {
+        return databaseClient.execute(STUDENT_RESPONSE_SELECT + " WHERE tuition_id IN (:tuitionIds)" + ROSTER_ORDER)
+                .bind("tuitionIds", tuitionIds)
+                .bind("limit", limit)
+                .map(ReactiveStudentRepository::toResponseDto)
+                .all();
+    }
+
+    /**
+     * This method returns the students of the rosters of the given tuitions that come after the given student
+     * in (tuition id, join date, id) order (keyset pagination)
+     *
+     * @param tuitionIds     tuition ids
+     * @param afterTuitionId tuition id of the last seen student
+     * @param afterJoinedOn  join date of the last seen student
+     * @param afterId        id of the last seen student
+     * @param limit          maximum number of students
+     * @return response dtos of the students of the tuitions after the given student
+     */
+    public Flux<StudentResponseDto> findRosterAfter(Collection<String> tuitionIds, String afterTuitionId,
+                                                    Date afterJoinedOn, String afterId, int limit) {
+        return databaseClient.execute(STUDENT_RESPONSE_SELECT + " WHERE tuition_id IN (:tuitionIds)"
+                        + " AND (tuition_id > :afterTuitionId OR (tuition_id = :afterTuitionId"
+                        + " AND (tuition_joined_on > :afterJoinedOn OR (tuition_joined_on = :afterJoinedOn"
+                        + " AND id > :afterId))))" + ROSTER_ORDER)
+                .bind("tuitionIds", tuitionIds)
+                .bind("afterTuitionId", afterTuitionId)
+                .bind("afterJoinedOn", toLocalDateTime(afterJoinedOn))
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveStudentRepository::toResponseDto)
+                .all();
+    }
+
+    /**
+     * This method inserts a new student
+     *
+     * @param student student
+     * @return inserted student
+     */
+    public Mono<Student> insert(Student student) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.execute("INSERT INTO student (id, username,"
+                        + " password, tuition_joined_on, tuition_id, auth_user_id) VALUES (:id, :username, :password,"
+                        + " :tuitionJoinedOn, :tuitionId, :authUserId)")
+                .bind("id", student.getId())
+                .bind("username", student.getUsername())
+                .bind("password", student.getPassword());
+        spec = bindNullable(spec, "tuitionJoinedOn", toLocalDateTime(student.getTuitionJoinedOn()),
+                LocalDateTime.class);
+        spec = bindNullable(spec, "tuitionId", student.getTuitionId(), String.class);
+        spec = bindNullable(spec, "authUserId", student.getAuthUserId(), String.class);
+        return spec.fetch().rowsUpdated().thenReturn(student);
+    }
+
+    /**
+     * This method sets the tuition of a student
+     *
+     * @param id              student id
+     * @param tuitionId       tuition id (null to remove the tuition)
+     * @param tuitionJoinedOn tuition join date (null to remove the tuition)
+     * @return number of updated students
+     */
+    public Mono<Integer> updateTuition(String id, String tuitionId, Date tuitionJoinedOn) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.execute("UPDATE student SET tuition_id = :tuitionId,"
+                + " tuition_joined_on = :tuitionJoinedOn WHERE id = :id").bind("id", id);
+        spec = bindNullable(spec, "tuitionId", tuitionId, String.class);
+        spec = bindNullable(spec, "tuitionJoinedOn", toLocalDateTime(tuitionJoinedOn), LocalDateTime.class);
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * This method deletes a student by id
+     *
+     * @param id student id
+     * @return number of deleted students
+     */
+    public Mono<Integer> deleteById(String id) {
+        return databaseClient.execute("DELETE FROM student WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                                  String name, Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static Student toStudent(Row row) {
+        Student student = new Student();
+        student.setId(row.get("id", String.class));
+        student.setUsername(row.get("username", String.class));
+        student.setPassword(row.get("password", String.class));
+        student.setTuitionJoinedOn(toDate(row.get("tuition_joined_on", LocalDateTime.class)));
+        student.setTuitionId(row.get("tuition_id", String.class));
+        student.setAuthUserId(row.get("auth_user_id", String.class));
+        return student;
+    }
+
+    private static StudentResponseDto toResponseDto(Row row) {
+        return new StudentResponseDto(row.get("id", String.class), row.get("username", String.class),
+                row.get("tuition_id", String.class), toDate(row.get("tuition_joined_on", LocalDateTime.class)));
+    }
+
+    /**
+     * DATETIME columns hold the local time of the application, like the dates written through JDBC
+     */
+    private static Date toDate(LocalDateTime dateTime) {
+        return dateTime == null ? null : Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
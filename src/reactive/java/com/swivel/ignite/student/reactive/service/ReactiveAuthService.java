@@ -0,0 +1,107 @@
+package com.swivel.ignite.student.reactive.service;
+
+import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.UserResponseDto;
+import com.swivel.ignite.student.exception.AuthServiceHttpClientErrorException;
+import com.swivel.ignite.student.exception.StudentServiceException;
+import com.swivel.ignite.student.wrapper.UserResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriTemplate;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Auth Microservice, called with a non-blocking web client
+ */
+@Slf4j
+@Service
+public class ReactiveAuthService {
+
+    private static final String FAILED_TO_REGISTER_STUDENT_IN_AUTH_DB = "Failed to register student in auth db";
+    private static final String FAILED_TO_DELETE_STUDENT_FROM_AUTH_DB = "Failed to delete student from auth db";
+    private final WebClient webClient;
+    private final String getCreateUserUrl;
+    private final String getDeleteUserUrl;
+    private final URI createUserUri;
+    private final UriTemplate deleteUserUriTemplate;
+
+    public ReactiveAuthService(@Value("${auth.baseUrl}") String baseUrl,
+                               @Value("${auth.createUserUrl}") String createUserUrl,
+                               @Value("${auth.deleteUserUrl}") String deleteUserUrl,
+                               @Qualifier("authWebClient") WebClient webClient) {
+        this.getCreateUserUrl = baseUrl + createUserUrl;
+        this.getDeleteUserUrl = baseUrl + deleteUserUrl;
+        this.createUserUri = URI.create(getCreateUserUrl);
+        this.deleteUserUriTemplate = new UriTemplate(getDeleteUserUrl);
+        this.webClient = webClient;
+    }
+
+    /**
+     * This method is used to register a student in auth db in auth microservice
+     *
+     * @param requestDto StudentCreateRequestDto
+     * @param token      access token
+     * @return UserResponseDto
+     */
+    public Mono<UserResponseDto> registerStudent(StudentCreateRequestDto requestDto, String token) {
+        log.debug("Calling auth service to register the student in auth db. url: {}", getCreateUserUrl);
+        return webClient.post().uri(createUserUri)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .bodyValue(requestDto)
+                .retrieve()
+                .bodyToMono(UserResponseWrapper.class)
+                .map(UserResponseWrapper::getData)
+                .doOnNext(responseDto -> log.debug("Registering student in auth db was successful. response: {}",
+                        responseDto.toLogArgument()))
+                .onErrorMap(e -> toAuthServiceException(e, FAILED_TO_REGISTER_STUDENT_IN_AUTH_DB));
+    }
+
+    /**
+     * This method is used to delete a student from auth db in auth microservice
+     *
+     * @param username username
+     * @param token    access token
+     * @return completion
+     */
+    public Mono<Void> deleteStudent(String username, String token) {
+        log.debug("Calling auth service to delete the student from auth db. url: {}", getDeleteUserUrl);
+        return webClient.delete().uri(deleteUserUriTemplate.expand(username))
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .retrieve()
+                .toBodilessEntity()
+                .doOnNext(result -> log.debug("Deleting student from auth db was successful. statusCode: {}",
+                        result.getStatusCode()))
+                .then()
+                .onErrorMap(e -> toAuthServiceException(e, FAILED_TO_DELETE_STUDENT_FROM_AUTH_DB));
+    }
+
+    /**
+     * This method maps client error responses of the auth microservice to the exception of the servlet
+     * application, and every other failure to a student service exception
+     *
+     * @param e       error
+     * @param message error message
+     * @return mapped error
+     */
+    private Throwable toAuthServiceException(Throwable e, String message) {
+        if (!(e instanceof WebClientResponseException) || !((WebClientResponseException) e).getStatusCode()
+                .is4xxClientError())
+            return new StudentServiceException(message + ": " + e.getMessage(), e);
+        WebClientResponseException responseException = (WebClientResponseException) e;
+        log.error(" Error from auth microservice: {}", e.getMessage());
+        try {
+            return new AuthServiceHttpClientErrorException(responseException.getStatusCode(), message,
+                    responseException.getResponseBodyAsString(), responseException.getStatusText(), responseException);
+        } catch (IOException ioException) {
+            return new StudentServiceException(message + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.swivel.ignite.student.reactive.service;
+
+import com.swivel.ignite.student.exception.PaymentServiceHttpClientErrorException;
+import com.swivel.ignite.student.exception.StudentServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriTemplate;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/**
+ * Payment Microservice, called with a non-blocking web client
+ */
+@Slf4j
+@Service
+public class ReactivePaymentService {
+
+    private static final String FAILED_TO_DELETE_PAYMENT_BY_STUDENT_ID = "Failed to delete payments by studentId";
+    private final WebClient webClient;
+    private final String getDeleteByStudentIdUrl;
+    private final UriTemplate deleteByStudentIdUriTemplate;
+
+    public ReactivePaymentService(@Value("${payment.baseUrl}") String baseUrl,
+                                  @Value("${payment.deleteByStudentIdUrl}") String deleteByStudentIdUrl,
+                                  @Qualifier("paymentWebClient") WebClient webClient) {
+        this.getDeleteByStudentIdUrl = baseUrl + deleteByStudentIdUrl;
+        this.deleteByStudentIdUriTemplate = new UriTemplate(getDeleteByStudentIdUrl);
+        this.webClient = webClient;
+    }
+
+    /**
+     * This method deletes the payments of a student in payment microservice
+     *
+     * @param studentId student id
+     * @param token     access token
+     * @return completion
+     */
+    public Mono<Void> deleteByStudentId(String studentId, String token) {
+        log.debug("Calling payment service to delete all payments by studentId. url: {}", getDeleteByStudentIdUrl);
+        return webClient.delete().uri(deleteByStudentIdUriTemplate.expand(studentId))
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .retrieve()
+                .toBodilessEntity()
+                .doOnNext(result -> log.debug("Deleting all payments by student id was successful. statusCode: {}",
+                        result.getStatusCode()))
+                .then()
+                .onErrorMap(this::toPaymentServiceException);
+    }
+
+    /**
+     * This method maps client error responses of the payment microservice to the exception of the servlet
+     * application, and every other failure to a student service exception
+     *
+     * @param e error
+     * @return mapped error
+     */
+    private Throwable toPaymentServiceException(Throwable e) {
+        if (!(e instanceof WebClientResponseException) || !((WebClientResponseException) e).getStatusCode()
+                .is4xxClientError())
+            return new StudentServiceException(FAILED_TO_DELETE_PAYMENT_BY_STUDENT_ID + ": " + e.getMessage(), e);
+        WebClientResponseException responseException = (WebClientResponseException) e;
+        log.error(" Error from payment microservice: {}", e.getMessage());
+        try {
+            return new PaymentServiceHttpClientErrorException(responseException.getStatusCode(),
+                    FAILED_TO_DELETE_PAYMENT_BY_STUDENT_ID, responseException.getResponseBodyAsString(),
+                    responseException);
+        } catch (IOException ioException) {
+            return new StudentServiceException(FAILED_TO_DELETE_PAYMENT_BY_STUDENT_ID + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.swivel.ignite.student.reactive.service;
+
+import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentPageResponseDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.dto.response.UserResponseDto;
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.exception.InvalidPageCursorException;
+import com.swivel.ignite.student.exception.StudentAlreadyExistsException;
+import com.swivel.ignite.student.exception.StudentNotFoundException;
+import com.swivel.ignite.student.exception.StudentServiceException;
+import com.swivel.ignite.student.reactive.repository.ReactiveStudentRepository;
+import com.swivel.ignite.student.service.PageCursor;
+import com.swivel.ignite.student.service.UsernameGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@link com.swivel.ignite.student.service.StudentService}. Nothing blocks: the database
+ * is read over R2DBC and the downstream microservices are called with web clients, so a small event loop serves
+ * every request. Students are deleted synchronously (student.delete.mode sync) and read without the student cache.
+ */
+@Slf4j
+@Service
+public class ReactiveStudentService {
+
+    private static final String FIRST_PAGE_KEY = "";
+
+    private final ReactiveStudentRepository studentRepository;
+    private final ReactivePaymentService paymentService;
+    private final ReactiveTuitionService tuitionService;
+    private final ReactiveAuthService authService;
+    private final UsernameGuard usernameGuard;
+
+    public ReactiveStudentService(ReactiveStudentRepository studentRepository,
+                                  ReactivePaymentService paymentService, ReactiveTuitionService tuitionService,
+                                  ReactiveAuthService authService, UsernameGuard usernameGuard) {
+        this.studentRepository = studentRepository;
+        this.paymentService = paymentService;
+        this.tuitionService = tuitionService;
+        this.authService = authService;
+        this.usernameGuard = usernameGuard;
+    }
+
+    /**
+     * This method creates a Student in the database. The unique username index is what rejects a duplicate
+     * student; the existence check and the username guard only keep duplicates from reaching the auth service.
+     *
+     * @param requestDto student create dto
+     * @param token      access token
+     * @return created student
+     */
+    public Mono<Student> createStudent(StudentCreateRequestDto requestDto, String token) {
+        return Mono.defer(() -> {
+            Student student = new Student(requestDto);
+            if (!usernameGuard.tryAcquire(student.getUsername()))
+                return Mono.<Student>error(new StudentAlreadyExistsException(
+                        "Student creation already in progress for username: " + student.getUsername()));
+            return studentRepository.existsByUsername(student.getUsername())
+                    .flatMap(exists -> {
+                        if (exists)
+                            return Mono.<UserResponseDto>error(new StudentAlreadyExistsException(
+                                    "Student already exists in DB"));
+                        return authService.registerStudent(requestDto, token);
+                    })
+                    .flatMap(userResponseDto -> {
+                        student.setAuthUserId(userResponseDto.getUserId());
+                        return studentRepository.insert(student);
+                    })
+                    .onErrorMap(DataIntegrityViolationException.class,
+                            e -> new StudentAlreadyExistsException("Student already exists in DB", e))
+                    .onErrorMap(DataAccessException.class,
+                            e -> new StudentServiceException("Failed to save student to DB", e))
+                    .doFinally(signal -> usernameGuard.release(student.getUsername()));
+        });
+    }
+
+    /**
+     * This method returns a student by id
+     *
+     * @param studentId student id
+     * @return student
+     */
+    public Mono<Student> findById(String studentId) {
+        return studentRepository.findById(studentId)
+                .onErrorMap(DataAccessException.class, e -> new StudentServiceException(
+                        "Failed to find student by id for student id: " + studentId, e))
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new StudentNotFoundException(
+                        "Student not found for student id: " + studentId))));
+    }
+
+    /**
+     * This method returns a student by auth user id
+     *
+     * @param authUserId auth id
+     * @return student
+     */
+    public Mono<Student> findByAuthUserId(String authUserId) {
+        return studentRepository.findByAuthUserId(authUserId)
+                .onErrorMap(DataAccessException.class, e -> new StudentServiceException(
+                        "Failed to find student by id for auth id: " + authUserId, e))
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new StudentNotFoundException(
+                        "Student not found for auth id: " + authUserId))));
+    }
+
+    /**
+     * This method deletes a student. The payment and tuition cleanup run concurrently, and the student is deleted
+     * from the auth db only after both succeeded and the local delete went through.
+     *
+     * @param student student
+     * @param token   access token
+     * @return completion
+     */
+    public Mono<Void> deleteStudent(Student student, String token) {
+        List<Mono<?>> cleanupCalls = new ArrayList<>(2);
+        cleanupCalls.add(paymentService.deleteByStudentId(student.getId(), token));
+        if (student.getTuitionId() != null)
+            cleanupCalls.add(tuitionService.removeStudent(student.getId(), student.getTuitionId(), token));
+        return Mono.when(cleanupCalls)
+                .then(studentRepository.deleteById(student.getId())
+                        .onErrorMap(DataAccessException.class, e -> new StudentServiceException(
+                                "Failed to delete student of id: " + student.getId(), e)))
+                .then(Mono.defer(() -> authService.deleteStudent(student.getUsername(), token)));
+    }
+
+    /**
+     * This method adds a tuition to a student
+     *
+     * @param student   student
+     * @param tuitionId tuition id
+     * @return completion
+     */
+    public Mono<Void> addTuition(Student student, String tuitionId) {
+        return studentRepository.updateTuition(student.getId(), tuitionId, new Date())
+                .onErrorMap(DataAccessException.class, e -> new StudentServiceException(
+                        "Failed to add tuition of id: " + tuitionId + " to student", e))
+                .then();
+    }
+
+    /**
+     * This method removes a student from tuition
+     *
+     * @param student student
+     * @return completion
+     */
+    public Mono<Void> removeTuition(Student student) {
+        return studentRepository.updateTuition(student.getId(), null, null)
+                .onErrorMap(DataAccessException.class, e -> new StudentServiceException(
+                        "Failed to remove tuition from student of id: " + student.getId(), e))
+                .then();
+    }
+
+    /**
+     * This method returns the response fields of all students, without loading the student entities
+     *
+     * @return student response dtos
+     */
+    public Flux<StudentResponseDto> getAll() {
+        return studentRepository.findAllResponses()
+                .onErrorMap(DataAccessException.class, e -> new StudentServiceException(
+                        "Failed to to get all students", e));
+    }
+
+    /**
+     * This method returns a page of students ordered by id, starting after the given cursor
+     *
+     * @param cursor page cursor (null for the first page)
+     * @param size   page size
+     * @return student page
+     */
+    public Mono<StudentPageResponseDto> getPage(String cursor, int size) {
+        return Mono.defer(() -> {
+            String afterId = cursor == null ? FIRST_PAGE_KEY : PageCursor.decode(cursor, 1)[0];
+            return studentRepository.findPageAfter(afterId, size + 1).collectList()
+                    .map(students -> {
+                        if (students.size() <= size)
+                            return new StudentPageResponseDto(students, null);
+                        List<StudentResponseDto> page = students.subList(0, size);
+                        return new StudentPageResponseDto(page, PageCursor.encode(page.get(size - 1)
+                                .getStudentId()));
+                    })
+                    .onErrorMap(DataAccessException.class, e -> new StudentServiceException(
+                            "Failed to get students page after id: " + afterId, e));
+        });
+    }
+
+    /**
+     * This method returns a page of the rosters of the given tuitions, ordered by tuition and then by join date,
+     * starting after the given cursor
+     *
+     * @param tuitionIds tuition ids
+     * @param cursor     page cursor (null for the first page)
+     * @param size       page size
+     * @return roster page
+     */
+    public Mono<StudentPageResponseDto> getRoster(Collection<String> tuitionIds, String cursor, int size) {
+        return Mono.defer(() -> {
+            Flux<StudentResponseDto> students;
+            if (cursor == null) {
+                students = studentRepository.findRoster(tuitionIds, size + 1);
+            } else {
+                String[] after = PageCursor.decode(cursor, 3);
+                students = studentRepository.findRosterAfter(tuitionIds, after[0],
+                        new Date(parseCursorMillis(cursor, after[1])), after[2], size + 1);
+            }
+            return students.collectList()
+                    .map(list -> {
+                        if (list.size() <= size)
+                            return new StudentPageResponseDto(list, null);
+                        List<StudentResponseDto> page = list.subList(0, size);
+                        StudentResponseDto last = page.get(size - 1);
+                        return new StudentPageResponseDto(page, PageCursor.encode(last.getTuitionId(),
+                                String.valueOf(last.getTuitionJoinedOn().getTime()), last.getStudentId()));
+                    })
+                    .onErrorMap(DataAccessException.class, e -> new StudentServiceException(
+                            "Failed to get roster of tuitions: " + tuitionIds, e));
+        });
+    }
+
+    /**
+     * This method parses the epoch millis part of a page cursor
+     *
+     * @param cursor page cursor
+     * @param millis epoch millis part
+     * @return epoch millis
+     */
+    private long parseCursorMillis(String cursor, String millis) {
+        try {
+            return Long.parseLong(millis);
+        } catch (NumberFormatException e) {
+            throw new InvalidPageCursorException("Invalid page cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.swivel.ignite.student.reactive.service;
+
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.exception.StudentServiceException;
+import com.swivel.ignite.student.exception.TuitionServiceHttpClientErrorException;
+import com.swivel.ignite.student.wrapper.StudentResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriTemplate;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/**
+ * Tuition Microservice, called with a non-blocking web client
+ */
+@Slf4j
+@Service
+public class ReactiveTuitionService {
+
+    private static final String FAILED_TO_REMOVE_STUDENT_FROM_TUITION = "Failed to remove student from tuition";
+    private final WebClient webClient;
+    private final String getRemoveStudentUrl;
+    private final UriTemplate removeStudentUriTemplate;
+
+    public ReactiveTuitionService(@Value("${tuition.baseUrl}") String baseUrl,
+                                  @Value("${tuition.removeStudentUrl}") String removeStudentUrl,
+                                  @Qualifier("tuitionWebClient") WebClient webClient) {
+        this.getRemoveStudentUrl = baseUrl + removeStudentUrl;
+        this.removeStudentUriTemplate = new UriTemplate(getRemoveStudentUrl);
+        this.webClient = webClient;
+    }
+
+    /**
+     * This method removes a student from tuition in tuition microservice
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id
+     * @param token     access token
+     * @return student of the tuition microservice
+     */
+    public Mono<StudentResponseDto> removeStudent(String studentId, String tuitionId, String token) {
+        log.debug("Calling tuition service to remove a student from tuition. url: {}", getRemoveStudentUrl);
+        return webClient.post().uri(removeStudentUriTemplate.expand(studentId, tuitionId))
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .retrieve()
+                .bodyToMono(StudentResponseWrapper.class)
+                .map(StudentResponseWrapper::getData)
+                .doOnNext(responseDto -> log.debug("Removing student from tuition was successful. response: {}",
+                        responseDto.toLogArgument()))
+                .onErrorMap(this::toTuitionServiceException);
+    }
+
+    /**
+     * This method maps client error responses of the tuition microservice to the exception of the servlet
+     * application, and every other failure to a student service exception
+     *
+     * @param e error
+     * @return mapped error
+     */
+    private Throwable toTuitionServiceException(Throwable e) {
+        if (!(e instanceof WebClientResponseException) || !((WebClientResponseException) e).getStatusCode()
+                .is4xxClientError())
+            return new StudentServiceException(FAILED_TO_REMOVE_STUDENT_FROM_TUITION + ": " + e.getMessage(), e);
+        WebClientResponseException responseException = (WebClientResponseException) e;
+        log.error(" Error from tuition microservice: {}", e.getMessage());
+        try {
+            return new TuitionServiceHttpClientErrorException(responseException.getStatusCode(),
+                    FAILED_TO_REMOVE_STUDENT_FROM_TUITION, responseException.getResponseBodyAsString(),
+                    responseException);
+        } catch (IOException ioException) {
+            return new StudentServiceException(FAILED_TO_REMOVE_STUDENT_FROM_TUITION + ": " + e.getMessage(), e);
+        }
+    }
+}
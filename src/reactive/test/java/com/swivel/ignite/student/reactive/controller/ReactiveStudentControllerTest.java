@@ -0,0 +1,223 @@
+package com.swivel.ignite.student.reactive.controller;
+
+import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
+import com.swivel.ignite.student.enums.SuccessResponseStatusType;
+import com.swivel.ignite.student.exception.StudentAlreadyExistsException;
+import com.swivel.ignite.student.exception.StudentNotFoundException;
+import com.swivel.ignite.student.exception.StudentServiceException;
+import com.swivel.ignite.student.reactive.exception.ReactiveExceptionHandling;
+import com.swivel.ignite.student.reactive.service.ReactiveStudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link ReactiveStudentController} class
+ */
+class ReactiveStudentControllerTest {
+
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String TOKEN = "Bearer 123456789";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String STUDENT_NAME = "Mohamed Nawaz";
+    private static final String STUDENT_PASSWORD = "123456789";
+    private static final String SUCCESS_STATUS = "SUCCESS";
+    private static final String ERROR_STATUS = "ERROR";
+    private static final String CREATE_STUDENT_URI = "/api/v1/student";
+    private static final String GET_STUDENT_BY_ID_URI = "/api/v1/student/get/{studentId}";
+    private static final String DELETE_STUDENT_URI = "/api/v1/student/delete/{studentId}";
+    private static final String GET_ALL_STUDENT_URI = "/api/v1/student/get/all";
+    private static final String ADD_TUITION_TO_STUDENT_URI = "/api/v1/student/add/student/{studentId}/tuition/{tuitionId}";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_ROSTER_TUITION_IDS = 2;
+    private WebTestClient webTestClient;
+    @Mock
+    private ReactiveStudentService studentService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        webTestClient = WebTestClient.bindToController(new ReactiveStudentController(studentService, MAX_PAGE_SIZE,
+                MAX_ROSTER_TUITION_IDS)).controllerAdvice(new ReactiveExceptionHandling()).build();
+    }
+
+    /**
+     * Start of tests for createStudent method
+     */
+    @Test
+    void Should_ReturnOk_When_CreatingStudent() {
+        when(studentService.createStudent(any(StudentCreateRequestDto.class), eq(TOKEN)))
+                .thenReturn(Mono.just(getSampleStudent()));
+
+        webTestClient.post().uri(CREATE_STUDENT_URI).header(AUTH_HEADER, TOKEN)
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(getSampleStudentCreateRequestDto().toJson())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(SUCCESS_STATUS)
+                .jsonPath("$.message").isEqualTo(SuccessResponseStatusType.CREATE_STUDENT.getMessage())
+                .jsonPath("$.data.studentId").isEqualTo(STUDENT_ID);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_CreatingStudentForMissingRequiredFields() {
+        StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
+        requestDto.setUsername("");
+
+        webTestClient.post().uri(CREATE_STUDENT_URI).header(AUTH_HEADER, TOKEN)
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(requestDto.toJson())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(ERROR_STATUS)
+                .jsonPath("$.errorCode").isEqualTo(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS.getCode());
+        verify(studentService, never()).createStudent(any(), any());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_CreatingStudentForExistingUsername() {
+        when(studentService.createStudent(any(StudentCreateRequestDto.class), eq(TOKEN)))
+                .thenReturn(Mono.error(new StudentAlreadyExistsException("ERROR")));
+
+        webTestClient.post().uri(CREATE_STUDENT_URI).header(AUTH_HEADER, TOKEN)
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(getSampleStudentCreateRequestDto().toJson())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(ErrorResponseStatusType.STUDENT_ALREADY_EXISTS.getCode());
+    }
+
+    /**
+     * Start of tests for getStudentById method
+     */
+    @Test
+    void Should_ReturnOk_When_GettingStudentById() {
+        when(studentService.findById(STUDENT_ID)).thenReturn(Mono.just(getSampleStudent()));
+
+        webTestClient.get().uri(GET_STUDENT_BY_ID_URI, STUDENT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(SUCCESS_STATUS)
+                .jsonPath("$.message").isEqualTo(SuccessResponseStatusType.GET_STUDENT.getMessage())
+                .jsonPath("$.data.studentId").isEqualTo(STUDENT_ID);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingStudentByIdForNotFound() {
+        when(studentService.findById(STUDENT_ID)).thenReturn(Mono.error(new StudentNotFoundException("ERROR")));
+
+        webTestClient.get().uri(GET_STUDENT_BY_ID_URI, STUDENT_ID)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(ERROR_STATUS)
+                .jsonPath("$.errorCode").isEqualTo(ErrorResponseStatusType.STUDENT_NOT_FOUND.getCode());
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_GettingStudentByIdFailed() {
+        when(studentService.findById(STUDENT_ID)).thenReturn(Mono.error(new StudentServiceException("ERROR")));
+
+        webTestClient.get().uri(GET_STUDENT_BY_ID_URI, STUDENT_ID)
+                .exchange()
+                .expectStatus().is5xxServerError()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getCode());
+    }
+
+    /**
+     * Start of tests for deleteStudent method
+     */
+    @Test
+    void Should_ReturnOk_When_DeletingStudent() {
+        Student student = getSampleStudent();
+        when(studentService.findById(STUDENT_ID)).thenReturn(Mono.just(student));
+        when(studentService.deleteStudent(student, TOKEN)).thenReturn(Mono.empty());
+
+        webTestClient.delete().uri(DELETE_STUDENT_URI, STUDENT_ID).header(AUTH_HEADER, TOKEN)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo(SuccessResponseStatusType.DELETE_STUDENT.getMessage());
+        verify(studentService, times(1)).deleteStudent(student, TOKEN);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_DeletingStudentForNotFound() {
+        when(studentService.findById(STUDENT_ID)).thenReturn(Mono.error(new StudentNotFoundException("ERROR")));
+
+        webTestClient.delete().uri(DELETE_STUDENT_URI, STUDENT_ID).header(AUTH_HEADER, TOKEN)
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(studentService, never()).deleteStudent(any(), any());
+    }
+
+    /**
+     * Start of tests for getAllStudents method
+     */
+    @Test
+    void Should_ReturnOk_When_GettingAllStudents() {
+        when(studentService.getAll()).thenReturn(Flux.just(new StudentResponseDto(getSampleStudent())));
+
+        webTestClient.get().uri(GET_ALL_STUDENT_URI)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(SUCCESS_STATUS)
+                .jsonPath("$.data.students[0].studentId").isEqualTo(STUDENT_ID);
+    }
+
+    /**
+     * Start of tests for addTuitionToStudent method
+     */
+    @Test
+    void Should_ReturnOk_When_AddingTuitionToStudent() {
+        Student student = getSampleStudent();
+        when(studentService.findById(STUDENT_ID)).thenReturn(Mono.just(student));
+        when(studentService.addTuition(student, TUITION_ID)).thenReturn(Mono.empty());
+
+        webTestClient.post().uri(ADD_TUITION_TO_STUDENT_URI, STUDENT_ID, TUITION_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(SUCCESS_STATUS);
+        verify(studentService, times(1)).addTuition(student, TUITION_ID);
+    }
+
+    /**
+     * This method returns a sample student create request dto
+     *
+     * @return StudentCreateRequestDto
+     */
+    private StudentCreateRequestDto getSampleStudentCreateRequestDto() {
+        StudentCreateRequestDto requestDto = new StudentCreateRequestDto();
+        requestDto.setUsername(STUDENT_NAME);
+        requestDto.setPassword(STUDENT_PASSWORD);
+        return requestDto;
+    }
+
+    /**
+     * This method returns a sample student
+     *
+     * @return Student
+     */
+    private Student getSampleStudent() {
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        student.setUsername(STUDENT_NAME);
+        return student;
+    }
+}
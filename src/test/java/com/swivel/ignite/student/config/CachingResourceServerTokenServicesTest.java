@@ -0,0 +1,140 @@
+package com.swivel.ignite.student.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.AccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link CachingResourceServerTokenServices} class
+ */
+class CachingResourceServerTokenServicesTest {
+
+    private static final String TOKEN = "123456789";
+    private static final String CLIENT_ID = "ignite-client";
+    private static final String USER_NAME = "Mohamed Nawaz";
+    private static final long NOW_SECONDS = 1_000_000L;
+    private static final Duration MAX_TTL = Duration.ofSeconds(60);
+    private final AtomicLong tickerNanos = new AtomicLong();
+    @Mock
+    private ResourceServerTokenServices delegate;
+    private CachingResourceServerTokenServices tokenServices;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        Clock clock = Clock.fixed(Instant.ofEpochSecond(NOW_SECONDS), ZoneOffset.UTC);
+        tokenServices = new CachingResourceServerTokenServices(delegate, 100, MAX_TTL, clock, tickerNanos::get);
+    }
+
+    @Test
+    void Should_CallDelegateOnce_When_LoadingSameTokenTwice() {
+        when(delegate.loadAuthentication(TOKEN)).thenReturn(getSampleAuthentication(NOW_SECONDS + 30));
+
+        OAuth2Authentication first = tokenServices.loadAuthentication(TOKEN);
+        OAuth2Authentication second = tokenServices.loadAuthentication(TOKEN);
+        verify(delegate, times(1)).loadAuthentication(TOKEN);
+        assertNotSame(first, second);
+        assertEquals(USER_NAME, second.getName());
+        assertEquals(1, tokenServices.getCache().stats().hitCount());
+        assertEquals(1, tokenServices.getCache().stats().missCount());
+    }
+
+    @Test
+    void Should_CallDelegateAgain_When_TokenExpired() {
+        when(delegate.loadAuthentication(TOKEN)).thenReturn(getSampleAuthentication(NOW_SECONDS + 10));
+
+        tokenServices.loadAuthentication(TOKEN);
+        tickerNanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        tokenServices.loadAuthentication(TOKEN);
+        verify(delegate, times(2)).loadAuthentication(TOKEN);
+    }
+
+    @Test
+    void Should_CallDelegateAgain_When_MaxTtlElapsed() {
+        when(delegate.loadAuthentication(TOKEN)).thenReturn(getSampleAuthentication(NOW_SECONDS + 3600));
+
+        tokenServices.loadAuthentication(TOKEN);
+        tickerNanos.addAndGet(MAX_TTL.toNanos() - 1);
+        tokenServices.loadAuthentication(TOKEN);
+        verify(delegate, times(1)).loadAuthentication(TOKEN);
+        tickerNanos.addAndGet(2);
+        tokenServices.loadAuthentication(TOKEN);
+        verify(delegate, times(2)).loadAuthentication(TOKEN);
+    }
+
+    @Test
+    void Should_NotCacheToken_When_TokenIsInvalid() {
+        when(delegate.loadAuthentication(TOKEN)).thenThrow(new InvalidTokenException(TOKEN));
+
+        assertThrows(InvalidTokenException.class, () -> tokenServices.loadAuthentication(TOKEN));
+        assertThrows(InvalidTokenException.class, () -> tokenServices.loadAuthentication(TOKEN));
+        verify(delegate, times(2)).loadAuthentication(TOKEN);
+    }
+
+    @Test
+    void Should_CallDelegateOnce_When_LoadingSameTokenConcurrently() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.loadAuthentication(TOKEN)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return getSampleAuthentication(NOW_SECONDS + 30);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<OAuth2Authentication> first = executor.submit(() -> tokenServices.loadAuthentication(TOKEN));
+            started.await(5, TimeUnit.SECONDS);
+            Future<OAuth2Authentication> second = executor.submit(() -> tokenServices.loadAuthentication(TOKEN));
+            release.countDown();
+            assertEquals(USER_NAME, first.get(5, TimeUnit.SECONDS).getName());
+            assertEquals(USER_NAME, second.get(5, TimeUnit.SECONDS).getName());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).loadAuthentication(TOKEN);
+    }
+
+    /**
+     * This method returns a sample authentication as loaded from check_token
+     *
+     * @param expiry token expiry in epoch seconds
+     * @return OAuth2Authentication
+     */
+    private OAuth2Authentication getSampleAuthentication(long expiry) {
+        Map<String, Serializable> extensions = new HashMap<>();
+        extensions.put(AccessTokenConverter.EXP, expiry);
+        OAuth2Request request = new OAuth2Request(Collections.emptyMap(), CLIENT_ID,
+                AuthorityUtils.createAuthorityList("ADMIN"), true, Collections.emptySet(), Collections.emptySet(),
+                null, null, extensions);
+        UsernamePasswordAuthenticationToken userAuthentication = new UsernamePasswordAuthenticationToken(USER_NAME,
+                "N/A", AuthorityUtils.createAuthorityList("ADMIN"));
+        return new OAuth2Authentication(request, userAuthentication);
+    }
+}
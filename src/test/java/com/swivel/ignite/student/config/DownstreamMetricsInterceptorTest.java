@@ -0,0 +1,70 @@
+package com.swivel.ignite.student.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link DownstreamMetricsInterceptor} class
+ */
+class DownstreamMetricsInterceptorTest {
+
+    private static final String SERVICE = "tuition";
+    private static final URI URI = java.net.URI.create("http://localhost/api/v1/tuition/remove/sid-1/tid-1");
+    private MeterRegistry meterRegistry;
+    private DownstreamMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new DownstreamMetricsInterceptor(meterRegistry, SERVICE);
+    }
+
+    /**
+     * Start of tests for intercept method
+     */
+    @Test
+    void Should_TimeCallWithoutError_When_DownstreamReturnsSuccess() throws IOException {
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, URI), new byte[0],
+                (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+        Timer timer = meterRegistry.find(DownstreamMetricsInterceptor.TIMER_NAME)
+                .tags("service", SERVICE, "method", "POST", "status", "200", "outcome", "SUCCESS").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertNull(meterRegistry.find(DownstreamMetricsInterceptor.ERROR_COUNTER_NAME).counter());
+    }
+
+    @Test
+    void Should_CountServerError_When_DownstreamReturnsServerError() throws IOException {
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, URI), new byte[0],
+                (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE));
+        assertEquals(1, meterRegistry.find(DownstreamMetricsInterceptor.TIMER_NAME)
+                .tags("status", "503", "outcome", "SERVER_ERROR").timer().count());
+        assertEquals(1, meterRegistry.find(DownstreamMetricsInterceptor.ERROR_COUNTER_NAME)
+                .tags("service", SERVICE, "outcome", "SERVER_ERROR").counter().count());
+    }
+
+    @Test
+    void Should_CountIoErrorAndRethrow_When_DownstreamIsUnreachable() {
+        assertThrows(ConnectException.class, () -> interceptor.intercept(
+                new MockClientHttpRequest(HttpMethod.POST, URI), new byte[0], (request, body) -> {
+                    throw new ConnectException("Connection refused");
+                }));
+        assertEquals(1, meterRegistry.find(DownstreamMetricsInterceptor.TIMER_NAME)
+                .tags("outcome", "IO_ERROR").timer().count());
+        assertEquals(1, meterRegistry.find(DownstreamMetricsInterceptor.ERROR_COUNTER_NAME)
+                .tags("outcome", "IO_ERROR").counter().count());
+    }
+}
@@ -0,0 +1,126 @@
+package com.swivel.ignite.student.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.jwt.crypto.sign.RsaSigner;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.DefaultTokenServices;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This class tests {@link LocalJwtAccessTokenConverter} with JWK set based {@link JwtVerificationKeys}
+ */
+class LocalJwtAccessTokenConverterTest {
+
+    private static final String KEY_ID = "key-1";
+    private static final String USER_NAME = "admin";
+    private KeyPair keyPair;
+    private JwtVerificationKeys verificationKeys;
+    private DefaultTokenServices tokenServices;
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        Path jwkSet = tempDir.resolve("jwks.json");
+        Files.write(jwkSet, getJwkSet((RSAPublicKey) keyPair.getPublic()).getBytes(StandardCharsets.UTF_8));
+
+        verificationKeys = JwtVerificationKeys.ofJwkSet(jwkSet.toUri().toString(), Duration.ofMinutes(5));
+        tokenServices = new DefaultTokenServices();
+        tokenServices.setTokenStore(new JwtTokenStore(new LocalJwtAccessTokenConverter(verificationKeys)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        verificationKeys.close();
+    }
+
+    @Test
+    void Should_MapAuthoritiesClaim_When_TokenSignatureIsValid() {
+        OAuth2Authentication authentication = tokenServices.loadAuthentication(getSignedToken(KEY_ID));
+
+        assertEquals(USER_NAME, authentication.getName());
+        assertEquals(Collections.singletonList("ADMIN"), authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).collect(Collectors.toList()));
+    }
+
+    @Test
+    void Should_ThrowInvalidTokenException_When_TokenSignatureIsTampered() {
+        String token = getSignedToken(KEY_ID);
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        assertThrows(InvalidTokenException.class, () -> tokenServices.loadAuthentication(tampered));
+    }
+
+    @Test
+    void Should_ThrowInvalidTokenException_When_KeyIdIsUnknown() {
+        String token = getSignedToken("unknown-key");
+
+        assertThrows(InvalidTokenException.class, () -> tokenServices.loadAuthentication(token));
+    }
+
+    /**
+     * This method returns a signed access token
+     *
+     * @param keyId key id of the token header
+     * @return encoded token
+     */
+    private String getSignedToken(String keyId) {
+        long expiry = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 60;
+        String claims = "{\"exp\":" + expiry + ",\"user_name\":\"" + USER_NAME + "\",\"authorities\":[\"ADMIN\"],"
+                + "\"client_id\":\"ignite-client\",\"scope\":[\"read\"],\"aud\":[\"ignite_student\"]}";
+        return JwtHelper.encode(claims, new RsaSigner((RSAPrivateKey) keyPair.getPrivate()),
+                Collections.singletonMap("kid", keyId)).getEncoded();
+    }
+
+    /**
+     * This method returns a JWK set holding the given public key
+     *
+     * @param publicKey public key
+     * @return JWK set json
+     */
+    private String getJwkSet(RSAPublicKey publicKey) {
+        return "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"" + KEY_ID + "\",\"alg\":\"RS256\",\"n\":\""
+                + toBase64Url(publicKey.getModulus()) + "\",\"e\":\"" + toBase64Url(publicKey.getPublicExponent())
+                + "\"}]}";
+    }
+
+    /**
+     * This method encodes an unsigned big integer as base64url
+     *
+     * @param value value
+     * @return base64url value
+     */
+    private String toBase64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0)
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
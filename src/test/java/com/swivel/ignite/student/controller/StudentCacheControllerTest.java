@@ -0,0 +1,105 @@
+package com.swivel.ignite.student.controller;
+
+import com.swivel.ignite.student.dto.request.StudentCacheInvalidationRequestDto;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
+import com.swivel.ignite.student.enums.SuccessResponseStatusType;
+import com.swivel.ignite.student.service.StudentCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * This class tests {@link StudentCacheController} class
+ */
+class StudentCacheControllerTest {
+
+    private static final String PEER_SECRET_HEADER = "X-Peer-Secret";
+    private static final String SECRET = "peer-secret";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String USER_ID = "uid-123456789";
+    private static final String SUCCESS_STATUS = "SUCCESS";
+    private static final String ERROR_STATUS = "ERROR";
+    private static final String INVALIDATE_URI = "/api/v1/internal/student/cache/invalidate";
+    private MockMvc mockMvc;
+    @Mock
+    private StudentCache studentCache;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StudentCacheController(studentCache, SECRET)).build();
+    }
+
+    /**
+     * Start of tests for invalidate method
+     */
+    @Test
+    void Should_EvictStudentLocally_When_InvalidatingWithPeerSecret() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(INVALIDATE_URI)
+                        .header(PEER_SECRET_HEADER, SECRET)
+                        .content(new StudentCacheInvalidationRequestDto(Set.of(STUDENT_ID), Set.of(USER_ID)).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.INVALIDATE_STUDENT_CACHE
+                        .getMessage()));
+        verify(studentCache, times(1)).evictLocal(Set.of(STUDENT_ID), Set.of(USER_ID));
+    }
+
+    @Test
+    void Should_EvictStudentsLocally_When_InvalidatingWithoutAuthUserIds() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(INVALIDATE_URI)
+                        .header(PEER_SECRET_HEADER, SECRET)
+                        .content(new StudentCacheInvalidationRequestDto(Set.of(STUDENT_ID), null).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        verify(studentCache, times(1)).evictLocal(Set.of(STUDENT_ID), Set.of());
+    }
+
+    @Test
+    void Should_ReturnForbidden_When_InvalidatingWithInvalidPeerSecret() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(INVALIDATE_URI)
+                        .header(PEER_SECRET_HEADER, "invalid")
+                        .content(new StudentCacheInvalidationRequestDto(Set.of(STUDENT_ID), Set.of(USER_ID)).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PEER_SECRET.getCode()));
+        verify(studentCache, never()).evictLocal(any(), any());
+    }
+
+    @Test
+    void Should_ReturnForbidden_When_InvalidatingWithoutConfiguredPeerSecret() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(new StudentCacheController(studentCache, "")).build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post(INVALIDATE_URI)
+                        .header(PEER_SECRET_HEADER, "")
+                        .content(new StudentCacheInvalidationRequestDto(Set.of(STUDENT_ID), Set.of(USER_ID)).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+        verify(studentCache, never()).evictLocal(any(), any());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_InvalidatingForMissingRequiredFields() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(INVALIDATE_URI)
+                        .header(PEER_SECRET_HEADER, SECRET)
+                        .content(new StudentCacheInvalidationRequestDto(Set.of(""), Set.of(USER_ID)).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS
+                        .getCode()));
+        verify(studentCache, never()).evictLocal(any(), any());
+    }
+}
@@ -1,7 +1,13 @@
 package com.swivel.ignite.student.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.student.dto.request.StudentBulkDeleteRequestDto;
 import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentBulkItemResponseDto;
+import com.swivel.ignite.student.dto.response.StudentPageResponseDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
 import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.BulkItemStatusType;
 import com.swivel.ignite.student.enums.ErrorResponseStatusType;
 import com.swivel.ignite.student.enums.SuccessResponseStatusType;
 import com.swivel.ignite.student.exception.*;
@@ -12,15 +18,20 @@ import org.mockito.Mock;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -45,6 +56,16 @@ class StudentControllerTest {
     private static final String GET_STUDENT_BY_AUTH_USER_ID_URI = "/api/v1/student/auth/get/{authUserId}";
     private static final String DELETE_STUDENT_URI = "/api/v1/student/delete/{studentId}";
     private static final String GET_ALL_STUDENT_URI = "/api/v1/student/get/all";
+    private static final String STREAM_ALL_STUDENT_URI = "/api/v1/student/get/all/stream";
+    private static final String GET_STUDENT_PAGE_URI = "/api/v1/student/get/page";
+    private static final String NEXT_CURSOR = "MXxzaWQtMTIzNDU2Nzg5";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 2;
+    private static final int MAX_ROSTER_TUITION_IDS = 2;
+    private static final String GET_TUITION_ROSTER_URI = "/api/v1/student/get/roster";
+    private static final String CREATE_STUDENTS_URI = "/api/v1/student/bulk";
+    private static final String DELETE_STUDENTS_URI = "/api/v1/student/delete/bulk";
     private static final String ADD_TUITION_TO_STUDENT_URI = "/api/v1/student/add/student/{studentId}/tuition/{tuitionId}";
     private static final String REMOVE_TUITION_FROM_STUDENT_URI = "/api/v1/student/remove/student/{studentId}/tuition/{tuitionId}";
     private MockMvc mockMvc;
@@ -54,7 +75,8 @@ class StudentControllerTest {
     @BeforeEach
     void setUp() {
         initMocks(this);
-        StudentController studentController = new StudentController(studentService);
+        StudentController studentController = new StudentController(studentService, new ObjectMapper(),
+                DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE, MAX_BULK_SIZE, MAX_ROSTER_TUITION_IDS);
         mockMvc = MockMvcBuilders.standaloneSetup(studentController)
                 .setControllerAdvice(new CustomizedExceptionHandling())
                 .build();
@@ -158,6 +180,43 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for bulk create students
+     * Api context: /api/v1/student/bulk
+     */
+    @Test
+    void Should_ReturnOk_When_CreatingStudentsInBulk() throws Exception {
+        List<StudentBulkItemResponseDto> results = new ArrayList<>();
+        results.add(new StudentBulkItemResponseDto(0, STUDENT_NAME, STUDENT_ID, BulkItemStatusType.CREATED));
+        results.add(new StudentBulkItemResponseDto(1, STUDENT_NAME, null, BulkItemStatusType.DUPLICATE_USERNAME));
+        when(studentService.createStudents(anyList(), anyString())).thenReturn(results);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(CREATE_STUDENTS_URI)
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(getSampleStudentCreateRequestsJson(2))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.BULK_CREATE_STUDENT.getMessage()))
+                .andExpect(jsonPath("$.data.succeeded").value(1))
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.results[0].studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.results[1].status").value(BulkItemStatusType.DUPLICATE_USERNAME.name()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_CreatingStudentsInBulkForTooManyStudents() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(CREATE_STUDENTS_URI)
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(getSampleStudentCreateRequestsJson(MAX_BULK_SIZE + 1))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.INVALID_BULK_SIZE.getMessage()));
+        verify(studentService, never()).createStudents(anyList(), anyString());
+    }
+
     /**
      * Start of tests for get student by id
      * Api context: /api/v1/student/get/{studentId}
@@ -268,7 +327,7 @@ class StudentControllerTest {
      */
     @Test
     void Should_ReturnOk_When_DeletingStudentIsSuccessful() throws Exception {
-        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.findByIdForWrite(anyString())).thenReturn(getSampleStudent());
         doNothing().when(studentService).deleteStudent(any(Student.class), anyString());
 
         String uri = DELETE_STUDENT_URI.replace("{studentId}", STUDENT_ID);
@@ -286,7 +345,7 @@ class StudentControllerTest {
 
     @Test
     void Should_ReturnBadRequest_When_DeletingStudentForStudentNotFound() throws Exception {
-        when(studentService.findById(anyString())).thenThrow(new StudentNotFoundException(ERROR));
+        when(studentService.findByIdForWrite(anyString())).thenThrow(new StudentNotFoundException(ERROR));
 
         String uri = DELETE_STUDENT_URI.replace("{studentId}", STUDENT_ID);
         mockMvc.perform(MockMvcRequestBuilders.delete(uri)
@@ -302,7 +361,7 @@ class StudentControllerTest {
 
     @Test
     void Should_ReturnInternalServerError_When_DeletingStudentForFailedToRemoveStudentFromTuition() throws Exception {
-        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.findByIdForWrite(anyString())).thenReturn(getSampleStudent());
         doThrow(new TuitionServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
                 .when(studentService).deleteStudent(any(Student.class), anyString());
 
@@ -322,7 +381,7 @@ class StudentControllerTest {
 
     @Test
     void Should_ReturnInternalServerError_When_DeletingStudentForFailedToDeleteAllPaymentsByStudent() throws Exception {
-        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.findByIdForWrite(anyString())).thenReturn(getSampleStudent());
         doThrow(new PaymentServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
                 .when(studentService).deleteStudent(any(Student.class), anyString());
 
@@ -342,7 +401,7 @@ class StudentControllerTest {
 
     @Test
     void Should_ReturnInternalServerError_When_DeletingStudentForFailedToDeleteStudentInAuthDb() throws Exception {
-        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.findByIdForWrite(anyString())).thenReturn(getSampleStudent());
         doThrow(new AuthServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
                 .when(studentService).deleteStudent(any(Student.class), anyString());
 
@@ -362,7 +421,7 @@ class StudentControllerTest {
 
     @Test
     void Should_ReturnInternalServerError_When_DeletingStudentIsFailed() throws Exception {
-        when(studentService.findById(anyString())).thenThrow(new StudentServiceException(ERROR));
+        when(studentService.findByIdForWrite(anyString())).thenThrow(new StudentServiceException(ERROR));
 
         String uri = DELETE_STUDENT_URI.replace("{studentId}", STUDENT_ID);
         mockMvc.perform(MockMvcRequestBuilders.delete(uri)
@@ -378,13 +437,57 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for bulk delete students
+     * Api context: /api/v1/student/delete/bulk
+     */
+    @Test
+    void Should_ReturnAccepted_When_DeletingStudentsInBulk() throws Exception {
+        List<StudentBulkItemResponseDto> results = new ArrayList<>();
+        results.add(new StudentBulkItemResponseDto(0, STUDENT_NAME, STUDENT_ID, BulkItemStatusType.DELETED));
+        when(studentService.deleteStudents(anyCollection(), anyString())).thenReturn(results);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(DELETE_STUDENTS_URI)
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentBulkDeleteRequestDto(Set.of(STUDENT_ID)).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.BULK_DELETE_STUDENT.getMessage()))
+                .andExpect(jsonPath("$.data.succeeded").value(1))
+                .andExpect(jsonPath("$.data.results[0].status").value(BulkItemStatusType.DELETED.name()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_DeletingStudentsInBulkForMissingStudentIds() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(DELETE_STUDENTS_URI)
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentBulkDeleteRequestDto(Collections.emptySet()).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS
+                        .getMessage()));
+        verify(studentService, never()).deleteStudents(anyCollection(), anyString());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_DeletingStudentsInBulkForTooManyStudents() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(DELETE_STUDENTS_URI)
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentBulkDeleteRequestDto(Set.of("sid-1", "sid-2", "sid-3")).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.INVALID_BULK_SIZE.getMessage()));
+        verify(studentService, never()).deleteStudents(anyCollection(), anyString());
+    }
+
     /**
      * Start of tests for getAllStudents
      * Api context: /api/v1/student/get/all
      */
     @Test
     void Should_ReturnOk_When_GettingAllStudentIsSuccessful() throws Exception {
-        when(studentService.getAll()).thenReturn(getSampleStudentList());
+        when(studentService.getAll()).thenReturn(getSampleStudentResponseDtoList());
 
         mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_STUDENT_URI)
                         .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
@@ -415,13 +518,167 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for streamAllStudents
+     * Api context: /api/v1/student/get/all/stream
+     */
+    @Test
+    void Should_ReturnOk_When_StreamingAllStudentIsSuccessful() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<StudentResponseDto> consumer = invocation.getArgument(0);
+            getSampleStudentResponseDtoList().forEach(consumer);
+            return null;
+        }).when(studentService).streamAll(any());
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(STREAM_ALL_STUDENT_URI)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.RETURNED_ALL_STUDENT
+                        .getMessage()))
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.RETURNED_ALL_STUDENT
+                        .getCode()))
+                .andExpect(jsonPath("$.data.students[0].studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
+    }
+
+    /**
+     * Start of tests for getStudentPage
+     * Api context: /api/v1/student/get/page
+     */
+    @Test
+    void Should_ReturnOk_When_GettingStudentPageIsSuccessful() throws Exception {
+        when(studentService.getPage(null, DEFAULT_PAGE_SIZE))
+                .thenReturn(new StudentPageResponseDto(getSampleStudentResponseDtoList(), NEXT_CURSOR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_STUDENT_PAGE_URI)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.RETURNED_STUDENT_PAGE
+                        .getMessage()))
+                .andExpect(jsonPath("$.data.students[0].studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.nextCursor").value(NEXT_CURSOR))
+                .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
+    }
+
+    @Test
+    void Should_CapPageSize_When_GettingStudentPageForSizeAboveMaxPageSize() throws Exception {
+        when(studentService.getPage(NEXT_CURSOR, MAX_PAGE_SIZE))
+                .thenReturn(new StudentPageResponseDto(getSampleStudentResponseDtoList(), null));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_STUDENT_PAGE_URI)
+                        .param("cursor", NEXT_CURSOR)
+                        .param("size", "100000")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+        verify(studentService).getPage(NEXT_CURSOR, MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingStudentPageForInvalidPageSize() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_STUDENT_PAGE_URI)
+                        .param("size", "0")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.INVALID_PAGE_SIZE.getMessage()))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PAGE_SIZE.getCode()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingStudentPageForInvalidCursor() throws Exception {
+        when(studentService.getPage(anyString(), anyInt())).thenThrow(new InvalidPageCursorException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_STUDENT_PAGE_URI)
+                        .param("cursor", ERROR)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.INVALID_PAGE_CURSOR.getMessage()))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PAGE_CURSOR.getCode()));
+    }
+
+    /**
+     * Start of tests for getTuitionRoster
+     * Api context: /api/v1/student/get/roster
+     */
+    @Test
+    void Should_ReturnOk_When_GettingTuitionRosterIsSuccessful() throws Exception {
+        when(studentService.getRoster(Set.of(TUITION_ID, "tid-2"), null, DEFAULT_PAGE_SIZE))
+                .thenReturn(new StudentPageResponseDto(getSampleStudentResponseDtoList(), NEXT_CURSOR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_ROSTER_URI)
+                        .param("tuitionId", TUITION_ID, "tid-2")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.RETURNED_TUITION_ROSTER
+                        .getMessage()))
+                .andExpect(jsonPath("$.data.students[0].studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.nextCursor").value(NEXT_CURSOR));
+    }
+
+    @Test
+    void Should_CapPageSize_When_GettingTuitionRosterForSizeAboveMaxPageSize() throws Exception {
+        when(studentService.getRoster(Set.of(TUITION_ID), NEXT_CURSOR, MAX_PAGE_SIZE))
+                .thenReturn(new StudentPageResponseDto(getSampleStudentResponseDtoList(), null));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_ROSTER_URI)
+                        .param("tuitionId", TUITION_ID)
+                        .param("cursor", NEXT_CURSOR)
+                        .param("size", "100000")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+        verify(studentService).getRoster(Set.of(TUITION_ID), NEXT_CURSOR, MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingTuitionRosterForTooManyTuitionIds() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_ROSTER_URI)
+                        .param("tuitionId", "tid-1", "tid-2", "tid-3")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_TUITION_ID_COUNT
+                        .getCode()));
+        verify(studentService, never()).getRoster(any(), any(), anyInt());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingTuitionRosterForBlankTuitionId() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_ROSTER_URI)
+                        .param("tuitionId", " ")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_TUITION_ID_COUNT
+                        .getCode()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingTuitionRosterForInvalidPageSize() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_ROSTER_URI)
+                        .param("tuitionId", TUITION_ID)
+                        .param("size", "0")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PAGE_SIZE.getCode()));
+    }
+
     /**
      * Start of tests for add tuition to student
      * Api context: /api/v1/student/add/student/{studentId}/tuition/{tuitionId}
      */
     @Test
     void Should_ReturnOk_When_AddingTuitionToStudentIsSuccessful() throws Exception {
-        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.findByIdForWrite(anyString())).thenReturn(getSampleStudent());
         doNothing().when(studentService).addTuition(any(Student.class), anyString());
 
         String uri = ADD_TUITION_TO_STUDENT_URI.replace("{studentId}", STUDENT_ID)
@@ -444,7 +701,7 @@ class StudentControllerTest {
         Student student = getSampleStudent();
         student.setTuitionId(TUITION_ID);
 
-        when(studentService.findById(anyString())).thenReturn(student);
+        when(studentService.findByIdForWrite(anyString())).thenReturn(student);
 
         String uri = ADD_TUITION_TO_STUDENT_URI.replace("{studentId}", STUDENT_ID)
                 .replace("{tuitionId}", TUITION_ID);
@@ -462,7 +719,7 @@ class StudentControllerTest {
 
     @Test
     void Should_ReturnInternalServerError_When_AddingTuitionToStudentIsFailed() throws Exception {
-        when(studentService.findById(anyString())).thenThrow(new StudentServiceException(ERROR));
+        when(studentService.findByIdForWrite(anyString())).thenThrow(new StudentServiceException(ERROR));
 
         String uri = ADD_TUITION_TO_STUDENT_URI.replace("{studentId}", STUDENT_ID)
                 .replace("{tuitionId}", TUITION_ID);
@@ -487,7 +744,7 @@ class StudentControllerTest {
         Student student = getSampleStudent();
         student.setTuitionId(TUITION_ID);
 
-        when(studentService.findById(anyString())).thenReturn(student);
+        when(studentService.findByIdForWrite(anyString())).thenReturn(student);
         doNothing().when(studentService).removeTuition(any(Student.class));
 
         String uri = REMOVE_TUITION_FROM_STUDENT_URI.replace("{studentId}", STUDENT_ID)
@@ -507,7 +764,7 @@ class StudentControllerTest {
 
     @Test
     void Should_ReturnBadRequest_When_RemovingTuitionFromStudentForStudentNotEnrolledInTuition() throws Exception {
-        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.findByIdForWrite(anyString())).thenReturn(getSampleStudent());
 
         String uri = REMOVE_TUITION_FROM_STUDENT_URI.replace("{studentId}", STUDENT_ID)
                 .replace("{tuitionId}", TUITION_ID);
@@ -525,7 +782,7 @@ class StudentControllerTest {
 
     @Test
     void Should_ReturnInternalServerError_When_RemovingTuitionFromStudentIsFailed() throws Exception {
-        when(studentService.findById(anyString())).thenThrow(new StudentServiceException(ERROR));
+        when(studentService.findByIdForWrite(anyString())).thenThrow(new StudentServiceException(ERROR));
 
         String uri = REMOVE_TUITION_FROM_STUDENT_URI.replace("{studentId}", STUDENT_ID)
                 .replace("{tuitionId}", TUITION_ID);
@@ -541,6 +798,20 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * This method returns a sample bulk create request json
+     *
+     * @param count number of students
+     * @return json array of StudentCreateRequestDto
+     */
+    private String getSampleStudentCreateRequestsJson(int count) {
+        List<String> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(getSampleStudentCreateRequestDto().toJson());
+        }
+        return "[" + String.join(",", requests) + "]";
+    }
+
     /**
      * This method returns a sample StudentCreateRequestDto
      *
@@ -566,13 +837,13 @@ class StudentControllerTest {
     }
 
     /**
-     * This method returns a sample student list
+     * This method returns a sample student response dto list
      *
-     * @return
+     * @return StudentResponseDto List
      */
-    private List<Student> getSampleStudentList() {
-        List<Student> studentList = new ArrayList<>();
-        studentList.add(getSampleStudent());
-        return studentList;
+    private List<StudentResponseDto> getSampleStudentResponseDtoList() {
+        List<StudentResponseDto> responseDtos = new ArrayList<>();
+        responseDtos.add(new StudentResponseDto(getSampleStudent()));
+        return responseDtos;
     }
 }
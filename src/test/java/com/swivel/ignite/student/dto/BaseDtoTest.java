@@ -0,0 +1,92 @@
+package com.swivel.ignite.student.dto;
+
+import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.ResponseDto;
+import com.swivel.ignite.student.dto.response.UserResponseDto;
+import com.swivel.ignite.student.enums.RoleType;
+import com.swivel.ignite.student.wrapper.UserResponseWrapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link BaseDto} interface
+ */
+class BaseDtoTest {
+
+    private static final String USER_ID = "uid-123456789";
+    private static final String STUDENT_NAME = "Mohamed Nawaz";
+    private static final String STUDENT_PASSWORD = "secret-password";
+
+    /**
+     * Start of tests for toJson method
+     */
+    @Test
+    void Should_KeepMaskedFields_When_ConvertingToJson() {
+        String json = getSampleStudentCreateRequestDto().toJson();
+        assertTrue(json.contains("\"username\":\"" + STUDENT_NAME + "\""));
+        assertTrue(json.contains("\"password\":\"" + STUDENT_PASSWORD + "\""));
+    }
+
+    /**
+     * Start of tests for toLogJson method
+     */
+    @Test
+    void Should_MaskPiiFields_When_ConvertingToLogJson() {
+        String json = getSampleStudentCreateRequestDto().toLogJson();
+        assertFalse(json.contains(STUDENT_NAME));
+        assertFalse(json.contains(STUDENT_PASSWORD));
+        assertTrue(json.contains("\"password\":\"" + DtoJsonWriters.MASK + "\""));
+        assertTrue(json.contains("\"roleType\":\"" + RoleType.STUDENT + "\""));
+    }
+
+    @Test
+    void Should_MaskPiiFieldsOfNestedDto_When_ConvertingWrapperToLogJson() {
+        UserResponseWrapper wrapper = new UserResponseWrapper();
+        wrapper.setData(new UserResponseDto(USER_ID, STUDENT_NAME, STUDENT_PASSWORD, RoleType.STUDENT.name()));
+
+        String json = wrapper.toLogJson();
+        assertTrue(json.contains("\"userId\":\"" + USER_ID + "\""));
+        assertFalse(json.contains(STUDENT_NAME));
+        assertFalse(json.contains(STUDENT_PASSWORD));
+    }
+
+    @Test
+    void Should_WriteNull_When_ConvertingNullMaskedFieldToLogJson() {
+        StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
+        requestDto.setPassword(null);
+
+        assertTrue(requestDto.toLogJson().contains("\"password\":null"));
+    }
+
+    /**
+     * Start of tests for toLogArgument method
+     */
+    @Test
+    void Should_ConvertToLogJsonOnlyWhenLogged_When_GettingLogArgument() {
+        AtomicInteger conversions = new AtomicInteger();
+        ResponseDto responseDto = new ResponseDto() {
+            @Override
+            public String toLogJson() {
+                conversions.incrementAndGet();
+                return "{}";
+            }
+        };
+
+        Object logArgument = responseDto.toLogArgument();
+        assertEquals(0, conversions.get());
+        assertEquals("{}", logArgument.toString());
+        assertEquals(1, conversions.get());
+    }
+
+    /**
+     * This method returns a sample StudentCreateRequestDto
+     *
+     * @return StudentCreateRequestDto
+     */
+    private StudentCreateRequestDto getSampleStudentCreateRequestDto() {
+        return new StudentCreateRequestDto(RoleType.STUDENT, STUDENT_NAME, STUDENT_PASSWORD);
+    }
+}
@@ -0,0 +1,80 @@
+package com.swivel.ignite.student.entity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests {@link TimeOrderedIdGenerator} class
+ */
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW_MILLIS = 1_700_000_000_000L;
+    private final AtomicLong clockMillis = new AtomicLong(NOW_MILLIS);
+    private TimeOrderedIdGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new TimeOrderedIdGenerator(clockMillis::get, new Random(42));
+    }
+
+    /**
+     * Start of tests for next method
+     */
+    @Test
+    void Should_ReturnVersion7Uuid_When_GeneratingId() {
+        UUID id = generator.next();
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW_MILLIS, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void Should_ReturnIncreasingIds_When_GeneratingIdsInSameMillisecond() {
+        assertIncreasing(10_000);
+    }
+
+    @Test
+    void Should_ReturnIncreasingIds_When_ClockGoesBackwards() {
+        String first = generator.next().toString();
+        clockMillis.addAndGet(-1000);
+        assertTrue(generator.next().toString().compareTo(first) > 0);
+    }
+
+    @Test
+    void Should_ReturnIncreasingIds_When_ClockAdvances() {
+        String first = generator.next().toString();
+        clockMillis.incrementAndGet();
+        String second = generator.next().toString();
+        assertTrue(second.compareTo(first) > 0);
+    }
+
+    /**
+     * Start of tests for nextId method
+     */
+    @Test
+    void Should_ReturnUuidString_When_GeneratingId() {
+        String id = TimeOrderedIdGenerator.nextId();
+        assertEquals(id, UUID.fromString(id).toString());
+    }
+
+    /**
+     * This method checks that the generated ids are strictly increasing in string order
+     *
+     * @param count number of ids
+     */
+    private void assertIncreasing(int count) {
+        String previous = generator.next().toString();
+        for (int i = 1; i < count; i++) {
+            String current = generator.next().toString();
+            assertTrue(current.compareTo(previous) > 0, previous + " >= " + current);
+            previous = current;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.swivel.ignite.student.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link JsonLogEncoder} class
+ */
+class JsonLogEncoderTest {
+
+    private static final String REQUEST_ID = "req-123456789";
+    private static final String STUDENT_ID = "sid-123456789";
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoggerContext loggerContext = new LoggerContext();
+    private JsonLogEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new JsonLogEncoder();
+        encoder.setContext(loggerContext);
+        encoder.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.stop();
+    }
+
+    /**
+     * Start of tests for encode method
+     */
+    @Test
+    void Should_EncodeEventWithMdcAsOneJsonLine_When_Encoding() throws IOException {
+        LoggingEvent event = getSampleEvent(Level.INFO, "Retrieved student of id: {}", null,
+                Map.of(RequestMdcFilter.REQUEST_ID_MDC_KEY, REQUEST_ID, StudentMdcInterceptor.STUDENT_ID_MDC_KEY,
+                        STUDENT_ID), STUDENT_ID);
+
+        String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+        assertTrue(line.endsWith("}\n"));
+        assertEquals(1, line.split("\n").length);
+        JsonNode json = objectMapper.readTree(line);
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("Retrieved student of id: " + STUDENT_ID, json.get("message").asText());
+        assertEquals(REQUEST_ID, json.get("requestId").asText());
+        assertEquals(STUDENT_ID, json.get("studentId").asText());
+        assertEquals(JsonLogEncoderTest.class.getName(), json.get("logger").asText());
+        assertEquals("1970-01-01T00:00:01Z", json.get("timestamp").asText());
+    }
+
+    @Test
+    void Should_EscapeQuotesAndControlCharacters_When_Encoding() throws IOException {
+        String message = "quote \" backslash \\ newline \n tab \t bell \u0007";
+        LoggingEvent event = getSampleEvent(Level.WARN, message, null, Map.of());
+
+        JsonNode json = objectMapper.readTree(encoder.encode(event));
+        assertEquals(message, json.get("message").asText());
+    }
+
+    @Test
+    void Should_IncludeStackTrace_When_EncodingEventWithException() throws IOException {
+        LoggingEvent event = getSampleEvent(Level.ERROR, "Failed", new IllegalStateException("boom"), Map.of());
+
+        JsonNode json = objectMapper.readTree(encoder.encode(event));
+        assertTrue(json.get("stackTrace").asText().contains("java.lang.IllegalStateException: boom"));
+    }
+
+    /**
+     * This method returns a sample logging event at time 1000 ms
+     *
+     * @param level     level
+     * @param message   message pattern
+     * @param throwable exception
+     * @param mdc       mdc properties
+     * @param arguments message arguments
+     * @return logging event
+     */
+    private LoggingEvent getSampleEvent(Level level, String message, Throwable throwable, Map<String, String> mdc,
+                                        Object... arguments) {
+        LoggingEvent event = new LoggingEvent(JsonLogEncoderTest.class.getName(),
+                loggerContext.getLogger(JsonLogEncoderTest.class), level, message, throwable, arguments);
+        event.setTimeStamp(1000L);
+        event.setMDCPropertyMap(mdc);
+        return event;
+    }
+}
@@ -0,0 +1,96 @@
+package com.swivel.ignite.student.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link MeteredAsyncAppender} class
+ */
+class MeteredAsyncAppenderTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private MeteredAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        appender = new MeteredAsyncAppender();
+        appender.setContext(loggerContext);
+    }
+
+    /**
+     * Start of tests for isDiscardable method
+     */
+    @Test
+    void Should_DiscardAndCountDebugAndInfo_When_QueueIsUnderPressure() {
+        assertTrue(appender.isDiscardable(getSampleEvent(Level.DEBUG)));
+        assertTrue(appender.isDiscardable(getSampleEvent(Level.INFO)));
+        assertFalse(appender.isDiscardable(getSampleEvent(Level.WARN)));
+        assertFalse(appender.isDiscardable(getSampleEvent(Level.ERROR)));
+        assertEquals(2, appender.getDroppedEventCount());
+    }
+
+    @Test
+    void Should_NeverDiscardError_When_DiscardLevelIsError() {
+        appender.setDiscardLevel("ERROR");
+
+        assertTrue(appender.isDiscardable(getSampleEvent(Level.WARN)));
+        assertFalse(appender.isDiscardable(getSampleEvent(Level.ERROR)));
+        assertEquals(1, appender.getDroppedEventCount());
+    }
+
+    @Test
+    void Should_DiscardOnlyDebug_When_DiscardLevelIsDebug() {
+        appender.setDiscardLevel("DEBUG");
+
+        assertTrue(appender.isDiscardable(getSampleEvent(Level.DEBUG)));
+        assertFalse(appender.isDiscardable(getSampleEvent(Level.INFO)));
+    }
+
+    /**
+     * Start of tests for setNeverBlock method
+     */
+    @Test
+    void Should_KeepBlocking_When_SettingNeverBlock() {
+        appender.setNeverBlock(true);
+
+        assertFalse(appender.isNeverBlock());
+    }
+
+    /**
+     * Start of tests for append method
+     */
+    @Test
+    void Should_DeliverEveryEvent_When_QueueHasCapacity() {
+        ListAppender<ILoggingEvent> target = new ListAppender<>();
+        target.setContext(loggerContext);
+        target.start();
+        appender.addAppender(target);
+        appender.setQueueSize(16);
+        appender.start();
+
+        for (int i = 0; i < 10; i++) {
+            appender.doAppend(getSampleEvent(Level.INFO));
+        }
+        appender.stop();
+        assertEquals(10, target.list.size());
+        assertEquals(0, appender.getDroppedEventCount());
+    }
+
+    /**
+     * This method returns a sample logging event
+     *
+     * @param level level
+     * @return logging event
+     */
+    private LoggingEvent getSampleEvent(Level level) {
+        return new LoggingEvent(MeteredAsyncAppenderTest.class.getName(),
+                loggerContext.getLogger(MeteredAsyncAppenderTest.class), level, "message", null, null);
+    }
+}
@@ -0,0 +1,322 @@
+package com.swivel.ignite.student.repository;
+
+import com.swivel.ignite.student.entity.Student;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class applies the schema migrations to H2 in MySQL mode, validates the entities against them and checks
+ * with EXPLAIN that the queries generated for the student lookups of {@link StudentRepository} are served from an
+ * index. It also upgrades a database that only holds the student table created by hibernate before the
+ * migrations were introduced.
+ */
+class StudentSchemaTest {
+
+    private static final String USER = "sa";
+    private static final String TABLE_SCAN = "tableScan";
+    private static final int STUDENT_COUNT = 1000;
+    private static final List<String> STATEMENTS = new ArrayList<>();
+    private String url;
+    private Connection connection;
+    private AnnotationConfigApplicationContext context;
+    private StudentRepository studentRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:h2:mem:student-schema-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        connection = DriverManager.getConnection(url, USER, "");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (context != null)
+            context.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+        connection.close();
+    }
+
+    /**
+     * Start of tests for the migrations
+     */
+    @Test
+    void Should_ApplyLaterMigrations_When_MigratingLegacySchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table student (id varchar(255) not null, username varchar(255) not null, "
+                    + "password varchar(255) not null, tuition_joined_on datetime, tuition_id varchar(255), "
+                    + "auth_user_id varchar(255), primary key (id))");
+            statement.execute("insert into student (id, username, password) values ('sid-1', 'username-1', "
+                    + "'password')");
+        }
+
+        migrate();
+        startContext();
+        assertTrue(studentRepository.existsByUsername("username-1"));
+        assertTrue(tableExists("STUDENT_OUTBOX"));
+        assertTrue(indexExists("IDX_STUDENT_AUTH_USER_ID"));
+        assertTrue(indexExists("IDX_STUDENT_TUITION_ROSTER"));
+        assertTrue(indexExists("IDX_STUDENT_OUTBOX_STUDENT"));
+        assertThrows(SQLException.class, () -> insertStudent("sid-2", "username-1"));
+    }
+
+    @Test
+    void Should_RejectDuplicateUsername_When_SavingStudent() throws SQLException {
+        migrate();
+        startContext();
+        insertStudent("sid-1", "username-1");
+
+        Student student = new Student();
+        student.setId("sid-2");
+        student.setUsername("username-1");
+        student.setPassword("password");
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () ->
+                studentRepository.saveAndFlush(student));
+        assertTrue(exception.getMostSpecificCause().getMessage().toLowerCase(Locale.ROOT)
+                .contains(Student.USERNAME_UNIQUE_CONSTRAINT), exception.getMostSpecificCause().getMessage());
+    }
+
+    /**
+     * Start of tests for the query plans of the repository queries
+     */
+    @Test
+    void Should_UseUsernameIndex_When_CheckingUsernameExists() throws SQLException {
+        migrateWithSampleStudents();
+
+        STATEMENTS.clear();
+        studentRepository.existsByUsername("username-500");
+        String plan = explainLastQuery("username-500", 1);
+        assertTrue(plan.contains("UK_STUDENT_USERNAME"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void Should_UseAuthUserIdIndex_When_FindingStudentByAuthUserId() throws SQLException {
+        migrateWithSampleStudents();
+
+        STATEMENTS.clear();
+        studentRepository.findByAuthUserId("uid-500");
+        String plan = explainLastQuery("uid-500");
+        assertTrue(plan.contains("IDX_STUDENT_AUTH_USER_ID"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void Should_UseTuitionRosterIndex_When_FindingRoster() throws SQLException {
+        migrateWithSampleStudents();
+
+        STATEMENTS.clear();
+        studentRepository.findRoster(Set.of("tid-5"), PageRequest.of(0, 20));
+        String plan = explainLastQuery("tid-5", 20);
+        assertTrue(plan.contains("IDX_STUDENT_TUITION_ROSTER"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void Should_UseTuitionRosterIndex_When_FindingRosterAfterStudent() throws SQLException {
+        migrateWithSampleStudents();
+        Timestamp joinedOn = new Timestamp(500_000L);
+
+        STATEMENTS.clear();
+        studentRepository.findRosterAfter(Set.of("tid-5"), "tid-5", new Date(joinedOn.getTime()), "sid-500",
+                PageRequest.of(0, 20));
+        String plan = explainLastQuery("tid-5", "tid-5", "tid-5", joinedOn, joinedOn, "sid-500", 20);
+        assertTrue(plan.contains("IDX_STUDENT_TUITION_ROSTER"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void Should_UsePrimaryKey_When_FindingPageAfterStudent() throws SQLException {
+        migrateWithSampleStudents();
+
+        STATEMENTS.clear();
+        studentRepository.findPageAfter("sid-500", PageRequest.of(0, 20));
+        String plan = explainLastQuery("sid-500", 20);
+        assertTrue(plan.contains("PRIMARY_KEY"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    private void migrate() {
+        Flyway.configure().dataSource(url, USER, "").baselineOnMigrate(true).baselineVersion("1").load()
+                .migrate();
+    }
+
+    private void migrateWithSampleStudents() throws SQLException {
+        migrate();
+        insertSampleStudents();
+        startContext();
+    }
+
+    /**
+     * This method starts the repositories on the migrated database. Hibernate validates the entities against the
+     * schema, like on application startup.
+     */
+    private void startContext() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean("url", String.class, () -> url);
+        context.register(SchemaTestConfig.class);
+        context.refresh();
+        studentRepository = context.getBean(StudentRepository.class);
+    }
+
+    /**
+     * This method returns the query plan of the last query hibernate generated, with the given parameters
+     *
+     * @param parameters query parameters
+     * @return query plan
+     * @throws SQLException when the query is invalid
+     */
+    private String explainLastQuery(Object... parameters) throws SQLException {
+        assertFalse(STATEMENTS.isEmpty(), "No query was generated");
+        String query = STATEMENTS.get(STATEMENTS.size() - 1);
+        try (PreparedStatement statement = connection.prepareStatement("explain " + query)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    private boolean tableExists(String table) throws SQLException {
+        try (ResultSet resultSet = connection.getMetaData().getTables(null, null, table, null)) {
+            return resultSet.next();
+        }
+    }
+
+    private boolean indexExists(String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select 1 from information_schema.indexes where index_name = ?")) {
+            statement.setString(1, index);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private void insertStudent(String id, String username) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into student (id, username, password) values (?, ?, 'password')")) {
+            statement.setString(1, id);
+            statement.setString(2, username);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * This method inserts sample students spread over 10 tuitions, so that the planner sees a non trivial table
+     *
+     * @throws SQLException when the insert fails
+     */
+    private void insertSampleStudents() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("insert into student (id, username, "
+                + "password, tuition_joined_on, tuition_id, auth_user_id) values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < STUDENT_COUNT; i++) {
+                statement.setString(1, "sid-" + i);
+                statement.setString(2, "username-" + i);
+                statement.setString(3, "password");
+                statement.setTimestamp(4, new Timestamp(i * 1000L));
+                statement.setString(5, "tid-" + i % 10);
+                statement.setString(6, "uid-" + i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze");
+        }
+    }
+
+    /**
+     * Records the sql statements generated by hibernate
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    /**
+     * Repositories on the migrated database, with the naming strategies of the application. Not annotated with
+     * configuration, so that the component scan of the application does not pick it up from the test classpath.
+     */
+    @EnableJpaRepositories(basePackageClasses = StudentRepository.class)
+    static class SchemaTestConfig {
+
+        @Bean(destroyMethod = "close")
+        public HikariDataSource dataSource(String url) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(url);
+            dataSource.setUsername(USER);
+            dataSource.setMaximumPoolSize(2);
+            return dataSource;
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("hibernate.dialect", H2Dialect.class.getName());
+            properties.put("hibernate.hbm2ddl.auto", "validate");
+            properties.put("hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName());
+            properties.put("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+            properties.put("hibernate.session_factory.statement_inspector", RecordingStatementInspector.class
+                    .getName());
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(Student.class.getPackage().getName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(properties);
+            return factory;
+        }
+
+        @Bean
+        public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
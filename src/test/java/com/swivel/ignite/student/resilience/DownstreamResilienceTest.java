@@ -0,0 +1,183 @@
+package com.swivel.ignite.student.resilience;
+
+import com.swivel.ignite.student.config.ResilienceProperties;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
+import com.swivel.ignite.student.exception.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link DownstreamResilience} class
+ */
+class DownstreamResilienceTest {
+
+    private static final String SERVICE = "payment";
+    private static final String RESULT = "ok";
+    private MeterRegistry meterRegistry;
+    private ResilienceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ResilienceProperties();
+        properties.setRetryBackoff(Duration.ZERO);
+        properties.setMinimumCalls(4);
+        properties.setSlidingWindowSize(4);
+    }
+
+    /**
+     * Start of tests for call method
+     */
+    @Test
+    void Should_RetryIdempotentCall_When_ServiceIsUnavailable() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = getResilience().call(true, () -> {
+            if (attempts.incrementAndGet() < 3)
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            return RESULT;
+        });
+        assertEquals(RESULT, result);
+        assertEquals(3, attempts.get());
+        assertEquals(2, meterRegistry.find(DownstreamResilience.RETRIES_COUNTER_NAME)
+                .tags("service", SERVICE, "outcome", "retried").counter().count());
+    }
+
+    @Test
+    void Should_NotRetry_When_CallIsNotIdempotent() {
+        AtomicInteger attempts = new AtomicInteger();
+        DownstreamResilience resilience = getResilience();
+
+        assertThrows(ResourceAccessException.class, () -> resilience.call(false, () -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Read timed out");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void Should_NotRetry_When_ServiceReturnsClientError() {
+        AtomicInteger attempts = new AtomicInteger();
+        DownstreamResilience resilience = getResilience();
+
+        assertThrows(HttpClientErrorException.class, () -> resilience.call(true, () -> {
+            attempts.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void Should_StopRetrying_When_RetryBudgetIsExhausted() {
+        properties.setMaxAttempts(100);
+        properties.setMinRetriesPerSecond(0);
+        AtomicInteger attempts = new AtomicInteger();
+        DownstreamResilience resilience = getResilience();
+
+        assertThrows(ResourceAccessException.class, () -> resilience.call(true, () -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Connection refused");
+        }));
+        assertEquals(2, attempts.get());
+        assertEquals(1, meterRegistry.find(DownstreamResilience.RETRIES_COUNTER_NAME)
+                .tags("outcome", "budget_exhausted").counter().count());
+    }
+
+    @Test
+    void Should_OpenCircuitBreakerAndFailFast_When_ServiceKeepsFailing() {
+        properties.setMaxAttempts(1);
+        AtomicInteger attempts = new AtomicInteger();
+        DownstreamResilience resilience = getResilience();
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpServerErrorException.class, () -> resilience.call(true, () -> {
+                attempts.incrementAndGet();
+                throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+            }));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, resilience.getCircuitBreaker().getState());
+        DownstreamUnavailableException exception = assertThrows(DownstreamUnavailableException.class,
+                () -> resilience.call(true, () -> RESULT));
+        assertEquals(ErrorResponseStatusType.PAYMENT_INTERNAL_SERVER_ERROR, exception.getStatus());
+        assertEquals(4, attempts.get());
+        assertEquals(1, meterRegistry.find(DownstreamResilience.REJECTED_COUNTER_NAME)
+                .tags("reason", "circuit_breaker").counter().count());
+    }
+
+    @Test
+    void Should_KeepCircuitBreakerClosed_When_ServiceReturnsClientErrors() {
+        DownstreamResilience resilience = getResilience();
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpClientErrorException.class, () -> resilience.call(true, () -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            }));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void Should_RejectCall_When_BulkheadIsFull() throws InterruptedException {
+        properties.setMaxConcurrentCalls(1);
+        properties.setMaxWait(Duration.ZERO);
+        DownstreamResilience resilience = getResilience();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> resilience.call(false, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return RESULT;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertThrows(DownstreamUnavailableException.class, () -> resilience.call(false, () -> RESULT));
+            assertEquals(1, meterRegistry.find(DownstreamResilience.REJECTED_COUNTER_NAME)
+                    .tags("service", SERVICE, "reason", "bulkhead").counter().count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * This method returns the resilience of the payment service with the test settings
+     *
+     * @return downstream resilience
+     */
+    private DownstreamResilience getResilience() {
+        return new DownstreamResilience(SERVICE, ErrorResponseStatusType.PAYMENT_INTERNAL_SERVER_ERROR, properties,
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), meterRegistry);
+    }
+
+    /**
+     * This method waits for the latch, ignoring interruption
+     *
+     * @param latch latch
+     */
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.swivel.ignite.student.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link RetryBudget} class
+ */
+class RetryBudgetTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private RetryBudget retryBudget;
+
+    @BeforeEach
+    void setUp() {
+        retryBudget = new RetryBudget(0.1, 1, nanos::get);
+    }
+
+    /**
+     * Start of tests for tryAcquire method
+     */
+    @Test
+    void Should_AllowRetries_When_BudgetHasTokens() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(retryBudget.tryAcquire());
+        }
+        assertFalse(retryBudget.tryAcquire());
+    }
+
+    @Test
+    void Should_AllowOneRetryPerTenCalls_When_MinimumRateIsUsedUp() {
+        drain();
+
+        for (int i = 0; i < 9; i++) {
+            retryBudget.onCall();
+        }
+        assertFalse(retryBudget.tryAcquire());
+        retryBudget.onCall();
+        assertTrue(retryBudget.tryAcquire());
+        assertFalse(retryBudget.tryAcquire());
+    }
+
+    @Test
+    void Should_AllowMinimumRetriesPerSecond_When_ThereAreNoCalls() {
+        drain();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(retryBudget.tryAcquire());
+        assertFalse(retryBudget.tryAcquire());
+    }
+
+    /**
+     * Start of tests for getBalance method
+     */
+    @Test
+    void Should_CapBalance_When_BudgetIsNotUsed() {
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(10));
+        for (int i = 0; i < 1000; i++) {
+            retryBudget.onCall();
+        }
+        assertEquals(10, retryBudget.getBalance(), 0.001);
+    }
+
+    /**
+     * This method withdraws every token of the budget
+     */
+    private void drain() {
+        while (retryBudget.tryAcquire()) {
+            // withdraw the initial balance
+        }
+    }
+}
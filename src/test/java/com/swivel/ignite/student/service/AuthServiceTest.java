@@ -1,9 +1,16 @@
 package com.swivel.ignite.student.service;
 
+import com.swivel.ignite.student.config.ResilienceProperties;
 import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
 import com.swivel.ignite.student.dto.response.UserResponseDto;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
 import com.swivel.ignite.student.exception.AuthServiceHttpClientErrorException;
+import com.swivel.ignite.student.exception.DownstreamUnavailableException;
+import com.swivel.ignite.student.resilience.DownstreamResilience;
 import com.swivel.ignite.student.wrapper.UserResponseWrapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -12,15 +19,16 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.net.URI;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 /**
@@ -34,14 +42,18 @@ class AuthServiceTest {
     private static final String BASE_URL = "http://localhost:8080/ignite-auth-service";
     private static final String CREATE_USER_URL = "/api/v1/auth/users/register";
     private static final String DELETE_USER_URL = "/api/v1/auth/users/delete/{username}";
+    private static final String DELETE_USER_BY_ID_URL = "/api/v1/auth/users/delete/id/{userId}";
     private AuthService authService;
+    private DownstreamResilience resilience;
     @Mock
     private RestTemplate restTemplate;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        authService = new AuthService(BASE_URL, CREATE_USER_URL, DELETE_USER_URL, restTemplate);
+        resilience = getSampleResilience();
+        authService = new AuthService(BASE_URL, CREATE_USER_URL, DELETE_USER_URL, DELETE_USER_BY_ID_URL, restTemplate,
+                resilience);
     }
 
     /**
@@ -49,7 +61,7 @@ class AuthServiceTest {
      */
     @Test
     void Should_RegisterStudent_When_RegisteringStudentIsSuccessful() throws IOException {
-        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class),
                 eq(UserResponseWrapper.class))).thenReturn(getSampleUserResponseEntity());
         assertEquals(USER_ID, authService.registerStudent(getSampleStudentCreateRequestDto(), TOKEN).getUserId());
     }
@@ -58,7 +70,7 @@ class AuthServiceTest {
     void Should_ThrowAuthServiceHttpClientErrorException_When_RegisteringStudentIsFailed() {
         StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
 
-        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(UserResponseWrapper.class)))
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), eq(UserResponseWrapper.class)))
                 .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
         AuthServiceHttpClientErrorException exception = assertThrows(AuthServiceHttpClientErrorException.class,
                 () -> authService.registerStudent(requestDto, TOKEN));
@@ -66,28 +78,79 @@ class AuthServiceTest {
                 exception.getMessage());
     }
 
+    @Test
+    void Should_NotRetryRegisteringStudent_When_AuthServiceIsUnavailable() {
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class),
+                eq(UserResponseWrapper.class))).thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
+        assertThrows(HttpServerErrorException.class, () -> authService.registerStudent(requestDto, TOKEN));
+        verify(restTemplate, times(1)).exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class),
+                eq(UserResponseWrapper.class));
+    }
+
+    @Test
+    void Should_ThrowDownstreamUnavailableException_When_RegisteringStudentWhileCircuitBreakerIsOpen() {
+        resilience.getCircuitBreaker().transitionToOpenState();
+        StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
+        DownstreamUnavailableException exception = assertThrows(DownstreamUnavailableException.class,
+                () -> authService.registerStudent(requestDto, TOKEN));
+        assertEquals(ErrorResponseStatusType.AUTH_INTERNAL_SERVER_ERROR, exception.getStatus());
+        verifyNoInteractions(restTemplate);
+    }
+
     /**
      * Start of tests for deleteStudent method
      */
     @Test
     void Should_DeleteStudent_When_DeletingStudentIsSuccessful() throws IOException {
-        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class),
-                anyMap())).thenReturn(getSampleResponseEntity());
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(getSampleResponseEntity());
         authService.deleteStudent(USER_NAME, TOKEN);
-        verify(restTemplate).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class),
-                anyMap());
+        verify(restTemplate).exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), eq(String.class));
     }
 
     @Test
     void Should_ThrowAuthServiceHttpClientErrorException_When_DeletingStudentIsFailed() {
-        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class),
-                anyMap())).thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
         AuthServiceHttpClientErrorException exception = assertThrows(AuthServiceHttpClientErrorException.class,
                 () -> authService.deleteStudent(USER_NAME, TOKEN));
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value() + " Failed to delete student from auth db",
                 exception.getMessage());
     }
 
+    @Test
+    void Should_RetryDeletingStudent_When_AuthServiceIsUnavailable() throws IOException {
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                .thenReturn(getSampleResponseEntity());
+        authService.deleteStudent(USER_NAME, TOKEN);
+        verify(restTemplate, times(2)).exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class),
+                eq(String.class));
+    }
+
+    /**
+     * Start of tests for deleteStudentById method
+     */
+    @Test
+    void Should_DeleteStudentByUserId_When_DeletingStudentByIdIsSuccessful() throws IOException {
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(getSampleResponseEntity());
+        authService.deleteStudentById(USER_ID, TOKEN);
+        verify(restTemplate).exchange(eq(URI.create(BASE_URL + "/api/v1/auth/users/delete/id/" + USER_ID)),
+                eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class));
+    }
+
+    @Test
+    void Should_ThrowAuthServiceHttpClientErrorException_When_DeletingStudentByIdIsFailed() {
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        AuthServiceHttpClientErrorException exception = assertThrows(AuthServiceHttpClientErrorException.class,
+                () -> authService.deleteStudentById(USER_ID, TOKEN));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value() + " Failed to delete student from auth db",
+                exception.getMessage());
+    }
+
     /**
      * This method returns a sample response entity
      *
@@ -138,4 +201,14 @@ class AuthServiceTest {
     private ResponseEntity<String> getSampleResponseEntity() {
         return new ResponseEntity<>("Response", HttpStatus.OK);
     }
+
+    /**
+     * This method returns the resilience of the auth service with the default settings
+     *
+     * @return downstream resilience
+     */
+    private DownstreamResilience getSampleResilience() {
+        return new DownstreamResilience("auth", ErrorResponseStatusType.AUTH_INTERNAL_SERVER_ERROR, new ResilienceProperties(),
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+    }
 }
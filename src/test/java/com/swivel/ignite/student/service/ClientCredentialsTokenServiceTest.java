@@ -0,0 +1,97 @@
+package com.swivel.ignite.student.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.resource.OAuth2AccessDeniedException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link ClientCredentialsTokenService} class with a token endpoint listening on localhost
+ */
+class ClientCredentialsTokenServiceTest {
+
+    private static final String TOKEN_URL = "/oauth/token";
+    private static final String CLIENT_ID = "ignite-client";
+    private static final String CLIENT_SECRET = "1234";
+    private final List<String> receivedRequests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger issuedTokens = new AtomicInteger();
+    private HttpServer authServer;
+    private volatile int expiresIn;
+    private volatile int status;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        expiresIn = 3600;
+        status = 200;
+        authServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        authServer.createContext(TOKEN_URL, exchange -> {
+            receivedRequests.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] body = ("{\"access_token\":\"token-" + issuedTokens.incrementAndGet()
+                    + "\",\"token_type\":\"bearer\",\"expires_in\":" + expiresIn + "}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        authServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        authServer.stop(0);
+    }
+
+    /**
+     * Start of tests for getToken method
+     */
+    @Test
+    void Should_ReuseToken_When_GettingTokenTwice() {
+        ClientCredentialsTokenService tokenService = getTokenService();
+
+        assertEquals("Bearer token-1", tokenService.getToken());
+        assertEquals("Bearer token-1", tokenService.getToken());
+        assertEquals(1, receivedRequests.size());
+        assertTrue(receivedRequests.get(0).contains("grant_type=client_credentials"));
+    }
+
+    @Test
+    void Should_ObtainNewToken_When_TokenIsAboutToExpire() {
+        ClientCredentialsTokenService tokenService = getTokenService();
+
+        expiresIn = 30;
+        assertEquals("Bearer token-1", tokenService.getToken());
+        assertEquals("Bearer token-2", tokenService.getToken());
+    }
+
+    @Test
+    void Should_ThrowOAuth2AccessDeniedException_When_GettingTokenIsRejected() {
+        ClientCredentialsTokenService tokenService = getTokenService();
+
+        status = 401;
+        assertThrows(OAuth2AccessDeniedException.class, tokenService::getToken);
+    }
+
+    /**
+     * This method returns a token service of the auth server listening on localhost
+     *
+     * @return token service
+     */
+    private ClientCredentialsTokenService getTokenService() {
+        return new ClientCredentialsTokenService("http://127.0.0.1:" + authServer.getAddress().getPort(), TOKEN_URL,
+                CLIENT_ID, CLIENT_SECRET, new RestTemplate());
+    }
+}
@@ -0,0 +1,131 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.exception.PaymentServiceHttpClientErrorException;
+import com.swivel.ignite.student.exception.TuitionServiceHttpClientErrorException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link DownstreamOrchestrator} class
+ */
+class DownstreamOrchestratorTest {
+
+    private static final String ERROR = "ERROR";
+    private static final int MAX_CONCURRENT_ITEM_CALLS = 2;
+    private ExecutorService executor;
+    private DownstreamOrchestrator downstreamOrchestrator;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        downstreamOrchestrator = new DownstreamOrchestrator(executor, MAX_CONCURRENT_ITEM_CALLS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Start of tests for runAll method
+     */
+    @Test
+    void Should_RunCallsConcurrently_When_RunningAll() throws IOException {
+        CountDownLatch latch = new CountDownLatch(2);
+        DownstreamOrchestrator.DownstreamCall call = () -> {
+            latch.countDown();
+            try {
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        downstreamOrchestrator.runAll(Arrays.asList(call, call));
+        assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    void Should_ThrowFirstFailureWithOthersSuppressed_When_RunningAllForFailedCalls() {
+        DownstreamOrchestrator.DownstreamCall paymentCall = () -> {
+            throw new PaymentServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR);
+        };
+        DownstreamOrchestrator.DownstreamCall tuitionCall = () -> {
+            throw new TuitionServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR);
+        };
+
+        PaymentServiceHttpClientErrorException exception = assertThrows(
+                PaymentServiceHttpClientErrorException.class, () ->
+                        downstreamOrchestrator.runAll(Arrays.asList(paymentCall, tuitionCall)));
+        assertEquals(1, exception.getSuppressed().length);
+        assertTrue(exception.getSuppressed()[0] instanceof TuitionServiceHttpClientErrorException);
+    }
+
+    @Test
+    void Should_ThrowIOException_When_RunningAllForCallFailedToReadResponse() {
+        DownstreamOrchestrator.DownstreamCall call = () -> {
+            throw new IOException(ERROR);
+        };
+
+        IOException exception = assertThrows(IOException.class, () ->
+                downstreamOrchestrator.runAll(Arrays.asList(call, () -> {
+                })));
+        assertEquals(ERROR, exception.getMessage());
+    }
+
+    /**
+     * Start of tests for runEach method
+     */
+    @Test
+    void Should_ReturnFailureOfEachItem_When_RunningEach() {
+        List<Throwable> failures = downstreamOrchestrator.runEach(Arrays.asList(1, 2, 3), item -> {
+            if (item == 2)
+                throw new IOException(ERROR);
+        });
+
+        assertNull(failures.get(0));
+        assertTrue(failures.get(1) instanceof IOException);
+        assertNull(failures.get(2));
+    }
+
+    @Test
+    void Should_LimitCallsInProgress_When_RunningEachOnUnboundedExecutor() {
+        ExecutorService unboundedExecutor = Executors.newCachedThreadPool();
+        DownstreamOrchestrator orchestrator = new DownstreamOrchestrator(unboundedExecutor, MAX_CONCURRENT_ITEM_CALLS);
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+
+        try {
+            List<Throwable> failures = orchestrator.runEach(items, item -> {
+                maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inProgress.decrementAndGet();
+            });
+            assertEquals(Collections.nCopies(items.size(), null), failures);
+            assertTrue(maxInProgress.get() <= MAX_CONCURRENT_ITEM_CALLS, "max in progress: " + maxInProgress);
+        } finally {
+            unboundedExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.entity.OutboxEvent;
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.OutboxActionType;
+import com.swivel.ignite.student.enums.OutboxStatusType;
+import com.swivel.ignite.student.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link OutboxService} class
+ */
+class OutboxServiceTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String USERNAME = "student";
+    private static final String ERROR = "ERROR";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        outboxService = new OutboxService(outboxEventRepository, MAX_ATTEMPTS, INITIAL_BACKOFF, MAX_BACKOFF, LEASE);
+    }
+
+    /**
+     * Start of tests for enqueueDeletion method
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void Should_EnqueueEventPerDownstreamAction_When_EnqueuingDeletionOfStudentInTuition() {
+        Student student = getSampleStudent();
+        student.setTuitionId(TUITION_ID);
+        ArgumentCaptor<Iterable<OutboxEvent>> captor = ArgumentCaptor.forClass(Iterable.class);
+
+        outboxService.enqueueDeletion(student);
+        verify(outboxEventRepository).saveAll(captor.capture());
+        List<OutboxActionType> actions = StreamSupport.stream(captor.getValue().spliterator(), false)
+                .map(OutboxEvent::getAction).collect(Collectors.toList());
+        assertEquals(List.of(OutboxActionType.DELETE_PAYMENTS, OutboxActionType.REMOVE_FROM_TUITION,
+                OutboxActionType.DELETE_AUTH_USER), actions);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void Should_NotEnqueueTuitionEvent_When_EnqueuingDeletionOfStudentWithoutTuition() {
+        ArgumentCaptor<Iterable<OutboxEvent>> captor = ArgumentCaptor.forClass(Iterable.class);
+
+        outboxService.enqueueDeletion(getSampleStudent());
+        verify(outboxEventRepository).saveAll(captor.capture());
+        assertTrue(StreamSupport.stream(captor.getValue().spliterator(), false)
+                .noneMatch(event -> event.getAction() == OutboxActionType.REMOVE_FROM_TUITION));
+    }
+
+    /**
+     * Start of tests for claimDue method
+     */
+    @Test
+    void Should_LeaseClaimedEvents_When_ClaimingDueEvents() {
+        OutboxEvent event = getSampleOutboxEvent();
+        long now = System.currentTimeMillis();
+
+        when(outboxEventRepository.findDueForUpdate(eq(OutboxStatusType.PENDING), any(Date.class),
+                any(Pageable.class))).thenReturn(Collections.singletonList(event));
+        assertEquals(1, outboxService.claimDue(10).size());
+        assertTrue(event.getNextAttemptAt().getTime() >= now + LEASE.toMillis());
+    }
+
+    /**
+     * Start of tests for fail method
+     */
+    @Test
+    void Should_ScheduleRetryWithBackoff_When_FailingRetryableEvent() {
+        OutboxEvent event = getSampleOutboxEvent();
+        long now = System.currentTimeMillis();
+
+        outboxService.fail(event, new IOException(ERROR), true);
+        verify(outboxEventRepository).save(event);
+        assertEquals(1, event.getAttempts());
+        assertEquals(OutboxStatusType.PENDING, event.getStatus());
+        assertEquals("IOException: " + ERROR, event.getLastError());
+        assertTrue(event.getNextAttemptAt().getTime() >= now + INITIAL_BACKOFF.toMillis() / 2);
+    }
+
+    @Test
+    void Should_DeadLetterEvent_When_FailingEventForLastAttempt() {
+        OutboxEvent event = getSampleOutboxEvent();
+        event.setAttempts(MAX_ATTEMPTS - 1);
+
+        outboxService.fail(event, new IOException(ERROR), true);
+        assertEquals(OutboxStatusType.DEAD_LETTER, event.getStatus());
+    }
+
+    @Test
+    void Should_DeadLetterEvent_When_FailingEventForNotRetryableError() {
+        OutboxEvent event = getSampleOutboxEvent();
+
+        outboxService.fail(event, new IOException(ERROR), false);
+        assertEquals(OutboxStatusType.DEAD_LETTER, event.getStatus());
+    }
+
+    /**
+     * Start of tests for findPendingCleanupStatuses method
+     */
+    @Test
+    void Should_ReturnStatusesOfOtherEvents_When_FindingPendingCleanupStatuses() {
+        when(outboxEventRepository.findStatusesOfOtherActions(STUDENT_ID, OutboxActionType.DELETE_AUTH_USER))
+                .thenReturn(List.of(OutboxStatusType.DEAD_LETTER));
+        assertEquals(List.of(OutboxStatusType.DEAD_LETTER), outboxService.findPendingCleanupStatuses(STUDENT_ID));
+    }
+
+    /**
+     * Start of tests for defer method
+     */
+    @Test
+    void Should_PostponeEventWithoutCountingAttempt_When_DeferringEvent() {
+        OutboxEvent event = getSampleOutboxEvent();
+        long now = System.currentTimeMillis();
+
+        outboxService.defer(event, false);
+        verify(outboxEventRepository).save(event);
+        assertEquals(0, event.getAttempts());
+        assertEquals(OutboxStatusType.PENDING, event.getStatus());
+        assertTrue(event.getNextAttemptAt().getTime() >= now + INITIAL_BACKOFF.toMillis());
+        assertTrue(event.getNextAttemptAt().getTime() < now + MAX_BACKOFF.toMillis());
+    }
+
+    @Test
+    void Should_PostponeEventByMaxBackoff_When_DeferringBlockedEvent() {
+        OutboxEvent event = getSampleOutboxEvent();
+        long now = System.currentTimeMillis();
+
+        outboxService.defer(event, true);
+        assertTrue(event.getNextAttemptAt().getTime() >= now + MAX_BACKOFF.toMillis());
+    }
+
+    /**
+     * Start of tests for getBackoffMillis method
+     */
+    @Test
+    void Should_DoubleBackoffUpToMaxBackoff_When_GettingBackoff() {
+        long third = outboxService.getBackoffMillis(3);
+        assertTrue(third >= 2000 && third <= 4000);
+        long capped = outboxService.getBackoffMillis(40);
+        assertTrue(capped >= MAX_BACKOFF.toMillis() / 2 && capped <= MAX_BACKOFF.toMillis());
+    }
+
+    /**
+     * This method returns a sample student
+     *
+     * @return Student
+     */
+    private Student getSampleStudent() {
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        student.setUsername(USERNAME);
+        return student;
+    }
+
+    /**
+     * This method returns a sample outbox event
+     *
+     * @return OutboxEvent
+     */
+    private OutboxEvent getSampleOutboxEvent() {
+        return new OutboxEvent(OutboxActionType.DELETE_PAYMENTS, getSampleStudent(), new Date());
+    }
+}
@@ -0,0 +1,181 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.entity.OutboxEvent;
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.OutboxActionType;
+import com.swivel.ignite.student.enums.OutboxStatusType;
+import com.swivel.ignite.student.exception.AuthServiceHttpClientErrorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.client.resource.OAuth2AccessDeniedException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link OutboxWorker} class
+ */
+class OutboxWorkerTest {
+
+    private static final String TOKEN = "Bearer 123456789";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String USERNAME = "student";
+    private static final String ERROR = "ERROR";
+    private static final int BATCH_SIZE = 2;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private TuitionService tuitionService;
+    @Mock
+    private AuthService authService;
+    @Mock
+    private ClientCredentialsTokenService tokenService;
+    private OutboxWorker outboxWorker;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        when(tokenService.getToken()).thenReturn(TOKEN);
+        outboxWorker = new OutboxWorker(outboxService, paymentService, tuitionService, authService, tokenService,
+                Runnable::run, BATCH_SIZE);
+    }
+
+    /**
+     * Start of tests for poll method
+     */
+    @Test
+    void Should_ProcessAndCompleteEvents_When_Polling() throws IOException {
+        OutboxEvent paymentEvent = getSampleOutboxEvent(OutboxActionType.DELETE_PAYMENTS);
+        OutboxEvent tuitionEvent = getSampleOutboxEvent(OutboxActionType.REMOVE_FROM_TUITION);
+        OutboxEvent authEvent = getSampleOutboxEvent(OutboxActionType.DELETE_AUTH_USER);
+
+        when(outboxService.claimDue(BATCH_SIZE)).thenReturn(Arrays.asList(paymentEvent, tuitionEvent),
+                Collections.singletonList(authEvent));
+        outboxWorker.poll();
+        verify(outboxService, times(2)).claimDue(BATCH_SIZE);
+        verify(paymentService).deleteByStudentId(STUDENT_ID, TOKEN);
+        verify(tuitionService).removeStudent(STUDENT_ID, TUITION_ID, TOKEN);
+        verify(authService).deleteStudent(USERNAME, TOKEN);
+        verify(outboxService).complete(paymentEvent);
+        verify(outboxService).complete(tuitionEvent);
+        verify(outboxService).complete(authEvent);
+    }
+
+    /**
+     * Start of tests for process method
+     */
+    @Test
+    void Should_RetryEvent_When_ProcessingEventForServerError() throws IOException {
+        OutboxEvent event = getSampleOutboxEvent(OutboxActionType.DELETE_PAYMENTS);
+        HttpServerErrorException error = new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+
+        doThrow(error).when(paymentService).deleteByStudentId(STUDENT_ID, TOKEN);
+        outboxWorker.process(event);
+        verify(outboxService).fail(event, error, true);
+        verify(outboxService, never()).complete(any(OutboxEvent.class));
+    }
+
+    @Test
+    void Should_DeadLetterEvent_When_ProcessingEventForClientError() throws IOException {
+        OutboxEvent event = getSampleOutboxEvent(OutboxActionType.DELETE_AUTH_USER);
+        AuthServiceHttpClientErrorException error = new AuthServiceHttpClientErrorException(HttpStatus.NOT_FOUND,
+                ERROR);
+
+        doThrow(error).when(authService).deleteStudent(USERNAME, TOKEN);
+        outboxWorker.process(event);
+        verify(outboxService).fail(event, error, false);
+    }
+
+    @Test
+    void Should_RetryEvent_When_ProcessingEventForThrottledRequest() throws IOException {
+        OutboxEvent event = getSampleOutboxEvent(OutboxActionType.DELETE_AUTH_USER);
+        AuthServiceHttpClientErrorException error = new AuthServiceHttpClientErrorException(
+                HttpStatus.TOO_MANY_REQUESTS, ERROR);
+
+        doThrow(error).when(authService).deleteStudent(USERNAME, TOKEN);
+        outboxWorker.process(event);
+        verify(outboxService).fail(event, error, true);
+    }
+
+    @Test
+    void Should_RetryEvent_When_ProcessingEventForFailedToObtainToken() throws IOException {
+        OutboxEvent event = getSampleOutboxEvent(OutboxActionType.DELETE_PAYMENTS);
+        OAuth2AccessDeniedException error = new OAuth2AccessDeniedException(ERROR);
+
+        when(tokenService.getToken()).thenThrow(error);
+        outboxWorker.process(event);
+        verify(outboxService).fail(event, error, true);
+        verify(paymentService, never()).deleteByStudentId(anyString(), anyString());
+    }
+
+    @Test
+    void Should_DeferAuthUserDeletion_When_ProcessingEventForCleanupPending() throws IOException {
+        OutboxEvent event = getSampleOutboxEvent(OutboxActionType.DELETE_AUTH_USER);
+
+        when(outboxService.findPendingCleanupStatuses(STUDENT_ID)).thenReturn(List.of(OutboxStatusType.PENDING));
+        outboxWorker.process(event);
+        verify(outboxService).defer(event, false);
+        verify(authService, never()).deleteStudent(anyString(), anyString());
+        verify(outboxService, never()).complete(any(OutboxEvent.class));
+        verify(outboxService, never()).fail(any(OutboxEvent.class), any(Exception.class), anyBoolean());
+    }
+
+    @Test
+    void Should_BlockAuthUserDeletion_When_ProcessingEventForCleanupDeadLettered() throws IOException {
+        OutboxEvent event = getSampleOutboxEvent(OutboxActionType.DELETE_AUTH_USER);
+
+        when(outboxService.findPendingCleanupStatuses(STUDENT_ID)).thenReturn(List.of(OutboxStatusType.PENDING,
+                OutboxStatusType.DEAD_LETTER));
+        outboxWorker.process(event);
+        verify(outboxService).defer(event, true);
+        verify(authService, never()).deleteStudent(anyString(), anyString());
+    }
+
+    @Test
+    void Should_DeleteAuthUserAfterCleanup_When_PollingEventsOfStudent() throws IOException {
+        OutboxEvent paymentEvent = getSampleOutboxEvent(OutboxActionType.DELETE_PAYMENTS);
+        OutboxEvent authEvent = getSampleOutboxEvent(OutboxActionType.DELETE_AUTH_USER);
+        HttpServerErrorException error = new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+
+        when(outboxService.claimDue(BATCH_SIZE)).thenReturn(Arrays.asList(paymentEvent, authEvent),
+                Arrays.asList(paymentEvent, authEvent), Collections.emptyList());
+        when(outboxService.findPendingCleanupStatuses(STUDENT_ID)).thenReturn(List.of(OutboxStatusType.PENDING),
+                Collections.emptyList());
+        doThrow(error).doNothing().when(paymentService).deleteByStudentId(STUDENT_ID, TOKEN);
+        outboxWorker.poll();
+        verify(outboxService).fail(paymentEvent, error, true);
+        verify(outboxService).defer(authEvent, false);
+        verify(outboxService).complete(paymentEvent);
+        verify(outboxService).complete(authEvent);
+        verify(authService, times(1)).deleteStudent(USERNAME, TOKEN);
+    }
+
+    /**
+     * This method returns a sample outbox event
+     *
+     * @param action downstream action
+     * @return OutboxEvent
+     */
+    private OutboxEvent getSampleOutboxEvent(OutboxActionType action) {
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        student.setTuitionId(TUITION_ID);
+        student.setUsername(USERNAME);
+        return new OutboxEvent(action, student, new Date());
+    }
+}
@@ -1,6 +1,12 @@
 package com.swivel.ignite.student.service;
 
+import com.swivel.ignite.student.config.ResilienceProperties;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
 import com.swivel.ignite.student.exception.PaymentServiceHttpClientErrorException;
+import com.swivel.ignite.student.resilience.DownstreamResilience;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -12,6 +18,7 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.net.URI;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -34,7 +41,8 @@ class PaymentServiceTest {
     @BeforeEach
     void setUp() {
         initMocks(this);
-        paymentService = new PaymentService(BASE_URL, DELETE_BY_STUDENT_ID_URL, restTemplate);
+        paymentService = new PaymentService(BASE_URL, DELETE_BY_STUDENT_ID_URL, restTemplate,
+                getSampleResilience());
     }
 
     /**
@@ -42,17 +50,17 @@ class PaymentServiceTest {
      */
     @Test
     void Should_DeleteByStudentId_When_DeletingByStudentIdIsSuccessful() throws IOException {
-        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
-                anyMap())).thenReturn(getSampleResponseEntity());
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), any(Class.class)))
+                .thenReturn(getSampleResponseEntity());
         paymentService.deleteByStudentId(STUDENT_ID, TOKEN);
-        verify(restTemplate).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
-                anyMap());
+        verify(restTemplate).exchange(eq(URI.create(BASE_URL + "/api/v1/payment/delete/all/student/" + STUDENT_ID)),
+                eq(HttpMethod.DELETE), any(HttpEntity.class), any(Class.class));
     }
 
     @Test
     void Should_ThrowPaymentServiceHttpClientErrorException_When_DeletingByStudentIdIsFailed() {
-        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
-                anyMap())).thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), any(Class.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
         PaymentServiceHttpClientErrorException exception = assertThrows(PaymentServiceHttpClientErrorException.class,
                 () -> paymentService.deleteByStudentId(STUDENT_ID, TOKEN));
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value() + " Failed to delete payments by studentId",
@@ -67,4 +75,14 @@ class PaymentServiceTest {
     private ResponseEntity<String> getSampleResponseEntity() {
         return new ResponseEntity<>("Response", HttpStatus.OK);
     }
+
+    /**
+     * This method returns the resilience of the payment service with the default settings
+     *
+     * @return downstream resilience
+     */
+    private DownstreamResilience getSampleResilience() {
+        return new DownstreamResilience("payment", ErrorResponseStatusType.PAYMENT_INTERNAL_SERVER_ERROR, new ResilienceProperties(),
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+    }
 }
@@ -0,0 +1,185 @@
+package com.swivel.ignite.student.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.swivel.ignite.student.event.StudentChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link StudentCacheInvalidationBroadcaster} class with peers listening on localhost
+ */
+class StudentCacheInvalidationBroadcasterTest {
+
+    private static final String SERVICE_ID = "ignite-student-service";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String OTHER_STUDENT_ID = "sid-987654321";
+    private static final String USER_ID = "uid-123456789";
+    private static final String SECRET = "peer-secret";
+    private static final String SELF_INSTANCE_ID = "student-1";
+    private final BlockingQueue<String> receivedRequests = new LinkedBlockingQueue<>();
+    private final List<HttpServer> peers = new ArrayList<>();
+    @Mock
+    private DiscoveryClient discoveryClient;
+    @Mock
+    private ObjectProvider<Registration> registrationProvider;
+    @Mock
+    private Registration registration;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        initMocks(this);
+        for (int i = 0; i < 2; i++) {
+            HttpServer peer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            peer.createContext(StudentCacheInvalidationBroadcaster.INVALIDATE_PATH, exchange -> {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                receivedRequests.add(exchange.getRequestHeaders()
+                        .getFirst(StudentCacheInvalidationBroadcaster.PEER_SECRET_HEADER) + " " + body);
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            });
+            peer.start();
+            peers.add(peer);
+        }
+        when(registrationProvider.getIfAvailable()).thenReturn(registration);
+        when(registration.getInstanceId()).thenReturn(SELF_INSTANCE_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        peers.forEach(peer -> peer.stop(0));
+    }
+
+    /**
+     * Start of tests for onStudentChanged method
+     */
+    @Test
+    void Should_SendInvalidationToEveryPeer_When_StudentChanged() throws InterruptedException {
+        StudentCacheInvalidationBroadcaster broadcaster = getBroadcaster(getStaticPeers(), SECRET);
+
+        when(discoveryClient.getInstances(SERVICE_ID)).thenReturn(Collections.emptyList());
+        broadcaster.onStudentChanged(new StudentChangedEvent(Set.of(STUDENT_ID), Set.of(USER_ID)));
+        for (int i = 0; i < peers.size(); i++) {
+            String request = receivedRequests.poll(5, TimeUnit.SECONDS);
+            assertNotNull(request);
+            assertTrue(request.startsWith(SECRET + " "));
+            assertTrue(request.contains("\"studentIds\":[\"" + STUDENT_ID + "\"]"));
+            assertTrue(request.contains("\"authUserIds\":[\"" + USER_ID + "\"]"));
+        }
+    }
+
+    @Test
+    void Should_SendOneInvalidationToEveryPeer_When_StudentsChangedTogether() throws InterruptedException {
+        StudentCacheInvalidationBroadcaster broadcaster = getBroadcaster(getStaticPeers(), SECRET);
+
+        when(discoveryClient.getInstances(SERVICE_ID)).thenReturn(Collections.emptyList());
+        broadcaster.onStudentChanged(new StudentChangedEvent(Set.of(STUDENT_ID, OTHER_STUDENT_ID),
+                Set.of(USER_ID)));
+        for (int i = 0; i < peers.size(); i++) {
+            String request = receivedRequests.poll(5, TimeUnit.SECONDS);
+            assertNotNull(request);
+            assertTrue(request.contains(STUDENT_ID));
+            assertTrue(request.contains(OTHER_STUDENT_ID));
+        }
+        assertNull(receivedRequests.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void Should_DropInvalidation_When_ExecutorIsFull() {
+        StudentCacheInvalidationBroadcaster broadcaster = new StudentCacheInvalidationBroadcaster(discoveryClient,
+                registrationProvider, SERVICE_ID, "", getStaticPeers(), SECRET, new RestTemplate(), command -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        when(discoveryClient.getInstances(SERVICE_ID)).thenReturn(Collections.emptyList());
+        assertDoesNotThrow(() -> broadcaster.onStudentChanged(new StudentChangedEvent(Set.of(STUDENT_ID),
+                Set.of(USER_ID))));
+        assertTrue(receivedRequests.isEmpty());
+    }
+
+    @Test
+    void Should_NotSendInvalidation_When_PeerSecretIsNotConfigured() {
+        StudentCacheInvalidationBroadcaster broadcaster = getBroadcaster(getStaticPeers(), "");
+
+        broadcaster.onStudentChanged(new StudentChangedEvent(Set.of(STUDENT_ID), Set.of(USER_ID)));
+        assertTrue(receivedRequests.isEmpty());
+        verifyNoInteractions(discoveryClient);
+    }
+
+    @Test
+    void Should_NotFail_When_PeerIsUnreachable() {
+        peers.get(0).stop(0);
+        StudentCacheInvalidationBroadcaster broadcaster = getBroadcaster(getStaticPeers(), SECRET);
+
+        when(discoveryClient.getInstances(SERVICE_ID)).thenReturn(Collections.emptyList());
+        assertDoesNotThrow(() -> broadcaster.onStudentChanged(new StudentChangedEvent(Set.of(STUDENT_ID), Set.of(USER_ID))));
+    }
+
+    /**
+     * Start of tests for getPeers method
+     */
+    @Test
+    void Should_ReturnEurekaPeersExceptSelf_When_GettingPeers() {
+        StudentCacheInvalidationBroadcaster broadcaster = getBroadcaster(new String[0], SECRET);
+
+        when(discoveryClient.getInstances(SERVICE_ID)).thenReturn(List.of(
+                new DefaultServiceInstance(SELF_INSTANCE_ID, SERVICE_ID, "10.0.0.1", 8081, false),
+                new DefaultServiceInstance("student-2", SERVICE_ID, "10.0.0.2", 8081, false)));
+        Set<URI> result = broadcaster.getPeers();
+        assertEquals(Set.of(URI.create("http://10.0.0.2:8081" + StudentCacheInvalidationBroadcaster
+                .INVALIDATE_PATH)), result);
+    }
+
+    @Test
+    void Should_ReturnStaticPeers_When_DiscoveryFails() {
+        StudentCacheInvalidationBroadcaster broadcaster = getBroadcaster(getStaticPeers(), SECRET);
+
+        when(discoveryClient.getInstances(SERVICE_ID)).thenThrow(new IllegalStateException("eureka down"));
+        assertEquals(peers.size(), broadcaster.getPeers().size());
+    }
+
+    /**
+     * This method returns a broadcaster that sends invalidations in the calling thread
+     *
+     * @param staticPeers static peer urls
+     * @param secret      peer secret
+     * @return broadcaster
+     */
+    private StudentCacheInvalidationBroadcaster getBroadcaster(String[] staticPeers, String secret) {
+        return new StudentCacheInvalidationBroadcaster(discoveryClient, registrationProvider, SERVICE_ID, "",
+                staticPeers, secret, new RestTemplate(), Runnable::run);
+    }
+
+    /**
+     * This method returns the urls of the peers listening on localhost
+     *
+     * @return peer urls
+     */
+    private String[] getStaticPeers() {
+        return peers.stream().map(peer -> "http://127.0.0.1:" + peer.getAddress().getPort())
+                .toArray(String[]::new);
+    }
+}
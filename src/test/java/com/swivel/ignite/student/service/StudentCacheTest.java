@@ -0,0 +1,258 @@
+package com.swivel.ignite.student.service;
+
+import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.event.StudentChangedEvent;
+import com.swivel.ignite.student.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link StudentCache} class
+ */
+class StudentCacheTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String OTHER_STUDENT_ID = "sid-987654321";
+    private static final String USER_ID = "uid-123456789";
+    private static final String USERNAME = "mohamed";
+    private static final String UPDATED_USERNAME = "nawaz";
+    private static final String ERROR = "ERROR";
+    private static final Duration REFRESH_AFTER = Duration.ofSeconds(30);
+    private static final Duration EXPIRE_AFTER = Duration.ofMinutes(5);
+    private final AtomicLong tickerNanos = new AtomicLong();
+    private final List<Runnable> reloads = new ArrayList<>();
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    private MeterRegistry meterRegistry;
+    private StudentCache studentCache;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        studentCache = new StudentCache(studentRepository, 100, REFRESH_AFTER, EXPIRE_AFTER, Duration.ofSeconds(2),
+                1, reloads::add, meterRegistry, eventPublisher, tickerNanos::get);
+    }
+
+    /**
+     * Start of tests for findById method
+     */
+    @Test
+    void Should_LoadStudentOnce_When_FindingSameStudentTwice() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(getSampleStudent(USERNAME)));
+
+        Student first = studentCache.findById(STUDENT_ID).orElseThrow();
+        Student second = studentCache.findById(STUDENT_ID).orElseThrow();
+        verify(studentRepository, times(1)).findById(STUDENT_ID);
+        assertNotSame(first, second);
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "student.id").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void Should_NotChangeCachedStudent_When_ReturnedStudentIsChanged() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(getSampleStudent(USERNAME)));
+
+        studentCache.findById(STUDENT_ID).orElseThrow().setUsername(UPDATED_USERNAME);
+        assertEquals(USERNAME, studentCache.findById(STUDENT_ID).orElseThrow().getUsername());
+    }
+
+    @Test
+    void Should_ReturnEmpty_When_StudentNotFound() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.empty());
+        assertTrue(studentCache.findById(STUDENT_ID).isEmpty());
+    }
+
+    @Test
+    void Should_ReturnReloadedStudent_When_RefreshIntervalElapsed() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(getSampleStudent(USERNAME)),
+                Optional.of(getSampleStudent(UPDATED_USERNAME)));
+
+        studentCache.findById(STUDENT_ID);
+        tickerNanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+        assertEquals(USERNAME, studentCache.findById(STUDENT_ID).orElseThrow().getUsername());
+        runReloads();
+        assertEquals(UPDATED_USERNAME, studentCache.findById(STUDENT_ID).orElseThrow().getUsername());
+    }
+
+    @Test
+    void Should_ReturnStaleStudent_When_ReloadFails() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(getSampleStudent(USERNAME)))
+                .thenThrow(new DataAccessException(ERROR) {
+                });
+
+        studentCache.findById(STUDENT_ID);
+        tickerNanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+        assertEquals(USERNAME, studentCache.findById(STUDENT_ID).orElseThrow().getUsername());
+        runReloads();
+        assertEquals(USERNAME, studentCache.findById(STUDENT_ID).orElseThrow().getUsername());
+    }
+
+    @Test
+    void Should_ReturnStaleStudent_When_ReloadIsShed() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(getSampleStudent(USERNAME)));
+        when(studentRepository.findByAuthUserId(USER_ID)).thenReturn(Optional.of(getSampleStudent(USERNAME)));
+
+        studentCache.findById(STUDENT_ID);
+        studentCache.findByAuthUserId(USER_ID);
+        tickerNanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+        studentCache.findById(STUDENT_ID);
+        assertEquals(USERNAME, studentCache.findByAuthUserId(USER_ID).orElseThrow().getUsername());
+        assertEquals(1, reloads.size());
+    }
+
+    @Test
+    void Should_NotBlockEviction_When_StudentIsLoading() throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+
+        when(studentRepository.findById(STUDENT_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            evicted.await();
+            return Optional.of(getSampleStudent(USERNAME));
+        });
+        CompletableFuture<Optional<Student>> load = CompletableFuture.supplyAsync(() ->
+                studentCache.findById(STUDENT_ID));
+        loading.await();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> studentCache.evictLocal(Set.of(STUDENT_ID), Set.of(USER_ID)));
+        evicted.countDown();
+        assertEquals(USERNAME, load.join().orElseThrow().getUsername());
+    }
+
+    @Test
+    void Should_LoadStudentAgain_When_StudentExpired() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(getSampleStudent(USERNAME)));
+
+        studentCache.findById(STUDENT_ID);
+        tickerNanos.addAndGet(TimeUnit.MINUTES.toNanos(6));
+        studentCache.findById(STUDENT_ID);
+        verify(studentRepository, times(2)).findById(STUDENT_ID);
+    }
+
+    /**
+     * Start of tests for findByAuthUserId method
+     */
+    @Test
+    void Should_LoadStudentOnce_When_FindingSameAuthUserIdTwice() {
+        when(studentRepository.findByAuthUserId(USER_ID)).thenReturn(Optional.of(getSampleStudent(USERNAME)));
+
+        studentCache.findByAuthUserId(USER_ID);
+        assertEquals(STUDENT_ID, studentCache.findByAuthUserId(USER_ID).orElseThrow().getId());
+        verify(studentRepository, times(1)).findByAuthUserId(USER_ID);
+    }
+
+    /**
+     * Start of tests for evict method
+     */
+    @Test
+    void Should_LoadStudentAgain_When_StudentIsEvicted() {
+        Student student = getSampleStudent(USERNAME);
+
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(student));
+        when(studentRepository.findByAuthUserId(USER_ID)).thenReturn(Optional.of(student));
+        studentCache.findById(STUDENT_ID);
+        studentCache.findByAuthUserId(USER_ID);
+        studentCache.evict(student);
+        studentCache.findById(STUDENT_ID);
+        studentCache.findByAuthUserId(USER_ID);
+        verify(studentRepository, times(2)).findById(STUDENT_ID);
+        verify(studentRepository, times(2)).findByAuthUserId(USER_ID);
+    }
+
+    @Test
+    void Should_PublishStudentChangedEvent_When_StudentIsEvicted() {
+        ArgumentCaptor<StudentChangedEvent> captor = ArgumentCaptor.forClass(StudentChangedEvent.class);
+
+        studentCache.evict(getSampleStudent(USERNAME));
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(Set.of(STUDENT_ID), captor.getValue().getStudentIds());
+        assertEquals(Set.of(USER_ID), captor.getValue().getAuthUserIds());
+    }
+
+    @Test
+    void Should_PublishOneStudentChangedEvent_When_StudentsAreEvictedInTransaction() {
+        ArgumentCaptor<StudentChangedEvent> captor = ArgumentCaptor.forClass(StudentChangedEvent.class);
+        Student otherStudent = getSampleStudent(UPDATED_USERNAME);
+        otherStudent.setId(OTHER_STUDENT_ID);
+        otherStudent.setAuthUserId(null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            studentCache.evict(getSampleStudent(USERNAME));
+            studentCache.evict(List.of(otherStudent));
+            verifyNoInteractions(eventPublisher);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(Set.of(STUDENT_ID, OTHER_STUDENT_ID), captor.getValue().getStudentIds());
+        assertEquals(Set.of(USER_ID), captor.getValue().getAuthUserIds());
+        assertFalse(TransactionSynchronizationManager.hasResource(studentCache));
+    }
+
+    /**
+     * Start of tests for evictLocal method
+     */
+    @Test
+    void Should_NotPublishStudentChangedEvent_When_StudentIsEvictedLocally() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(getSampleStudent(USERNAME)));
+
+        studentCache.findById(STUDENT_ID);
+        studentCache.evictLocal(Set.of(STUDENT_ID), Set.of(USER_ID));
+        studentCache.findById(STUDENT_ID);
+        verify(studentRepository, times(2)).findById(STUDENT_ID);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * This method runs the background reloads submitted to the reload executor
+     */
+    private void runReloads() {
+        List<Runnable> submitted = new ArrayList<>(reloads);
+        reloads.clear();
+        submitted.forEach(Runnable::run);
+    }
+
+    /**
+     * This method returns a sample student
+     *
+     * @param username student username
+     * @return Student
+     */
+    private Student getSampleStudent(String username) {
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        student.setUsername(username);
+        student.setAuthUserId(USER_ID);
+        student.setTuitionJoinedOn(new Date());
+        return student;
+    }
+}
@@ -1,24 +1,47 @@
 package com.swivel.ignite.student.service;
 
 import com.swivel.ignite.student.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.student.dto.response.StudentBulkItemResponseDto;
 import com.swivel.ignite.student.dto.response.UserResponseDto;
+import com.swivel.ignite.student.dto.response.StudentPageResponseDto;
+import com.swivel.ignite.student.dto.response.StudentResponseDto;
 import com.swivel.ignite.student.entity.Student;
+import com.swivel.ignite.student.enums.BulkItemStatusType;
+import com.swivel.ignite.student.exception.AuthServiceHttpClientErrorException;
+import com.swivel.ignite.student.exception.InvalidPageCursorException;
+import com.swivel.ignite.student.exception.PaymentServiceHttpClientErrorException;
 import com.swivel.ignite.student.exception.StudentAlreadyExistsException;
 import com.swivel.ignite.student.exception.StudentNotFoundException;
 import com.swivel.ignite.student.exception.StudentServiceException;
+import com.swivel.ignite.student.exception.TuitionServiceHttpClientErrorException;
 import com.swivel.ignite.student.repository.StudentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -36,6 +59,8 @@ class StudentServiceTest {
     private static final String STUDENT_NAME = "STUDENT_NAME";
     private static final String STUDENT_PASSWORD = "123456789";
     private static final String ERROR = "ERROR";
+    private static final String SYNC_DELETE_MODE = "sync";
+    private static final String OUTBOX_DELETE_MODE = "outbox";
     @Mock
     private PaymentService paymentService;
     @Mock
@@ -44,12 +69,24 @@ class StudentServiceTest {
     private TuitionService tuitionService;
     @Mock
     private AuthService authService;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private StudentCache studentCache;
+    private UsernameGuard usernameGuard;
     private StudentService studentService;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        studentService = new StudentService(studentRepository, paymentService, tuitionService, authService);
+        studentCache = new StudentCache(studentRepository, 100, Duration.ofSeconds(30), Duration.ofMinutes(5),
+                Duration.ofSeconds(2), 2, Runnable::run, new SimpleMeterRegistry(), event -> {
+                });
+        usernameGuard = new UsernameGuard();
+        studentService = new StudentService(studentRepository, paymentService, tuitionService, authService,
+                new DownstreamOrchestrator(Runnable::run, 20), outboxService, SYNC_DELETE_MODE,
+                transactionManager, studentCache, usernameGuard);
     }
 
     /**
@@ -57,28 +94,76 @@ class StudentServiceTest {
      */
     @Test
     void Should_CreateStudent_When_CreatingStudentIsSuccessful() throws IOException {
-        when(studentRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(studentRepository.existsByUsername(anyString())).thenReturn(false);
         when(authService.registerStudent(any(StudentCreateRequestDto.class), anyString()))
                 .thenReturn(getSampleUserResponseDto());
-        studentService.createStudent(getSampleStudentCreateRequestDto(), TOKEN);
-        verify(studentRepository).save(any(Student.class));
+        when(studentRepository.saveAndFlush(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Student student = studentService.createStudent(getSampleStudentCreateRequestDto(), TOKEN);
+        verify(studentRepository).saveAndFlush(any(Student.class));
+        assertEquals(USER_ID, student.getAuthUserId());
+        assertTrue(usernameGuard.tryAcquire(STUDENT_NAME));
     }
 
     @Test
     void Should_ThrowStudentAlreadyExistsException_When_CreatingStudentForStudentAlreadyExists() throws IOException {
         StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
 
-        when(studentRepository.findByUsername(anyString())).thenReturn(Optional.of(getSampleStudent()));
+        when(studentRepository.existsByUsername(anyString())).thenReturn(true);
+        StudentAlreadyExistsException exception = assertThrows(StudentAlreadyExistsException.class, () ->
+                studentService.createStudent(requestDto, TOKEN));
+        assertEquals("Student already exists in DB", exception.getMessage());
+        verifyNoInteractions(authService);
+    }
+
+    @Test
+    void Should_ThrowStudentAlreadyExistsException_When_CreatingStudentForUsernameUniqueIndexViolated()
+            throws IOException {
+        StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
+
+        when(studentRepository.existsByUsername(anyString())).thenReturn(false);
+        when(authService.registerStudent(any(StudentCreateRequestDto.class), anyString()))
+                .thenReturn(getSampleUserResponseDto());
+        when(studentRepository.saveAndFlush(any(Student.class))).thenThrow(new DataIntegrityViolationException(ERROR,
+                new ConstraintViolationException(ERROR, null, Student.USERNAME_UNIQUE_CONSTRAINT)));
         StudentAlreadyExistsException exception = assertThrows(StudentAlreadyExistsException.class, () ->
                 studentService.createStudent(requestDto, TOKEN));
         assertEquals("Student already exists in DB", exception.getMessage());
+        assertTrue(usernameGuard.tryAcquire(STUDENT_NAME));
+        verify(authService).deleteStudentById(USER_ID, TOKEN);
+        verify(authService, never()).deleteStudent(anyString(), anyString());
+    }
+
+    @Test
+    void Should_ThrowStudentServiceException_When_CreatingStudentForOtherConstraintViolated() throws IOException {
+        StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
+
+        when(studentRepository.existsByUsername(anyString())).thenReturn(false);
+        when(authService.registerStudent(any(StudentCreateRequestDto.class), anyString()))
+                .thenReturn(getSampleUserResponseDto());
+        when(studentRepository.saveAndFlush(any(Student.class))).thenThrow(new DataIntegrityViolationException(ERROR,
+                new ConstraintViolationException(ERROR, null, "PRIMARY")));
+        StudentServiceException exception = assertThrows(StudentServiceException.class, () ->
+                studentService.createStudent(requestDto, TOKEN));
+        assertEquals("Failed to save student to DB", exception.getMessage());
+        verify(authService).deleteStudentById(USER_ID, TOKEN);
+    }
+
+    @Test
+    void Should_ThrowStudentAlreadyExistsException_When_CreatingStudentForUsernameBeingCreated() {
+        StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
+
+        usernameGuard.tryAcquire(STUDENT_NAME.toUpperCase());
+        StudentAlreadyExistsException exception = assertThrows(StudentAlreadyExistsException.class, () ->
+                studentService.createStudent(requestDto, TOKEN));
+        assertEquals("Student creation already in progress for username: " + STUDENT_NAME, exception.getMessage());
+        verifyNoInteractions(studentRepository, authService);
     }
 
     @Test
     void Should_ThrowRegistrationServiceException_When_CreatingStudentForFailedToCheckForStudentInDB() throws IOException {
         StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
 
-        when(studentRepository.findByUsername(anyString())).thenThrow(new DataAccessException(ERROR) {
+        when(studentRepository.existsByUsername(anyString())).thenThrow(new DataAccessException(ERROR) {
         });
         StudentServiceException exception = assertThrows(StudentServiceException.class, () ->
                 studentService.createStudent(requestDto, TOKEN));
@@ -90,14 +175,106 @@ class StudentServiceTest {
     void Should_ThrowRegistrationServiceException_When_CreatingStudentForFailedToSaveStudentInDB() throws IOException {
         StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
 
-        when(studentRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+        when(studentRepository.existsByUsername(anyString())).thenReturn(false);
         when(authService.registerStudent(any(StudentCreateRequestDto.class), anyString()))
                 .thenReturn(getSampleUserResponseDto());
-        when(studentRepository.save(any(Student.class))).thenThrow(new DataAccessException(ERROR) {
+        when(studentRepository.saveAndFlush(any(Student.class))).thenThrow(new DataAccessException(ERROR) {
         });
+        doThrow(new AuthServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
+                .when(authService).deleteStudentById(USER_ID, TOKEN);
         StudentServiceException exception = assertThrows(StudentServiceException.class, () ->
                 studentService.createStudent(requestDto, TOKEN));
         assertEquals("Failed to save student to DB", exception.getMessage());
+        verify(authService).deleteStudentById(USER_ID, TOKEN);
+    }
+
+    /**
+     * Start of tests for createStudents method
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void Should_ReturnOutcomePerStudent_When_CreatingStudentsInBulk() throws IOException {
+        List<StudentCreateRequestDto> requestDtos = new ArrayList<>();
+        requestDtos.add(getSampleStudentCreateRequestDto("new"));
+        requestDtos.add(getSampleStudentCreateRequestDto("new"));
+        requestDtos.add(getSampleStudentCreateRequestDto("existing"));
+        requestDtos.add(getSampleStudentCreateRequestDto(""));
+        requestDtos.add(getSampleStudentCreateRequestDto("unregistered"));
+        ArgumentCaptor<List<Student>> captor = ArgumentCaptor.forClass(List.class);
+
+        when(studentRepository.findExistingUsernames(anyCollection())).thenReturn(List.of("existing"));
+        when(authService.registerStudent(requestDtos.get(0), TOKEN)).thenReturn(getSampleUserResponseDto());
+        when(authService.registerStudent(requestDtos.get(4), TOKEN))
+                .thenThrow(new AuthServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR));
+        List<StudentBulkItemResponseDto> results = studentService.createStudents(requestDtos, TOKEN);
+        assertEquals(List.of(BulkItemStatusType.CREATED, BulkItemStatusType.DUPLICATE_USERNAME,
+                BulkItemStatusType.STUDENT_ALREADY_EXISTS, BulkItemStatusType.MISSING_REQUIRED_FIELDS,
+                BulkItemStatusType.AUTH_REGISTRATION_FAILED), results.stream()
+                .map(StudentBulkItemResponseDto::getStatus).collect(Collectors.toList()));
+        verify(studentRepository, times(1)).findExistingUsernames(anyCollection());
+        verify(studentRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(USER_ID, captor.getValue().get(0).getAuthUserId());
+        assertEquals(captor.getValue().get(0).getId(), results.get(0).getStudentId());
+        assertNull(results.get(4).getStudentId());
+    }
+
+    @Test
+    void Should_SaveStudentsOneByOne_When_CreatingStudentsInBulkForFailedToSaveStudents() throws IOException {
+        List<StudentCreateRequestDto> requestDtos = List.of(getSampleStudentCreateRequestDto("saved"),
+                getSampleStudentCreateRequestDto("taken"), getSampleStudentCreateRequestDto("failed"),
+                getSampleStudentCreateRequestDto("orphaned"));
+
+        when(authService.registerStudent(any(StudentCreateRequestDto.class), anyString())).thenAnswer(invocation ->
+                getSampleUserResponseDto("uid-" + invocation.<StudentCreateRequestDto>getArgument(0).getUsername()));
+        when(studentRepository.saveAll(anyList())).thenThrow(new DataAccessException(ERROR) {
+        });
+        when(studentRepository.saveAndFlush(any(Student.class))).thenAnswer(invocation -> {
+            Student student = invocation.getArgument(0);
+            if (student.getUsername().equals("taken"))
+                throw getSampleUsernameViolation();
+            if (!student.getUsername().equals("saved"))
+                throw new DataAccessException(ERROR) {
+                };
+            return student;
+        });
+        doThrow(new AuthServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
+                .when(authService).deleteStudentById("uid-orphaned", TOKEN);
+        List<StudentBulkItemResponseDto> results = studentService.createStudents(requestDtos, TOKEN);
+        assertEquals(List.of(BulkItemStatusType.CREATED, BulkItemStatusType.STUDENT_ALREADY_EXISTS,
+                BulkItemStatusType.SAVE_FAILED, BulkItemStatusType.SAVE_AND_AUTH_DELETION_FAILED), results.stream()
+                .map(StudentBulkItemResponseDto::getStatus).collect(Collectors.toList()));
+        assertNotNull(results.get(0).getStudentId());
+        assertNull(results.get(1).getStudentId());
+        assertNull(results.get(2).getStudentId());
+        assertNull(results.get(3).getStudentId());
+        verify(studentRepository, times(4)).saveAndFlush(any(Student.class));
+        verify(authService, never()).deleteStudentById("uid-saved", TOKEN);
+        verify(authService).deleteStudentById("uid-taken", TOKEN);
+        verify(authService).deleteStudentById("uid-failed", TOKEN);
+        verify(authService).deleteStudentById("uid-orphaned", TOKEN);
+    }
+
+    @Test
+    void Should_DeleteOnlyNewAuthUser_When_CreatingStudentsInBulkForUsernameTakenByOtherRequest() throws IOException {
+        List<StudentCreateRequestDto> requestDtos = List.of(getSampleStudentCreateRequestDto("new"),
+                getSampleStudentCreateRequestDto("taken"));
+
+        when(authService.registerStudent(any(StudentCreateRequestDto.class), anyString())).thenAnswer(invocation ->
+                getSampleUserResponseDto("uid-" + invocation.<StudentCreateRequestDto>getArgument(0).getUsername()));
+        when(studentRepository.saveAll(anyList())).thenThrow(getSampleUsernameViolation());
+        when(studentRepository.saveAndFlush(any(Student.class))).thenAnswer(invocation -> {
+            Student student = invocation.getArgument(0);
+            if (student.getUsername().equals("taken"))
+                throw getSampleUsernameViolation();
+            return student;
+        });
+        List<StudentBulkItemResponseDto> results = studentService.createStudents(requestDtos, TOKEN);
+        assertEquals(List.of(BulkItemStatusType.CREATED, BulkItemStatusType.STUDENT_ALREADY_EXISTS), results.stream()
+                .map(StudentBulkItemResponseDto::getStatus).collect(Collectors.toList()));
+        verify(authService).deleteStudentById("uid-taken", TOKEN);
+        verify(authService, never()).deleteStudentById("uid-new", TOKEN);
+        verify(authService, never()).deleteStudent(anyString(), anyString());
     }
 
     /**
@@ -126,6 +303,38 @@ class StudentServiceTest {
         assertEquals("Failed to find student by id for student id: " + STUDENT_ID, exception.getMessage());
     }
 
+    /**
+     * Start of tests for findByIdForWrite method
+     */
+    @Test
+    void Should_ReturnStudentFromDb_When_FindingStudentByIdForWriteOfCachedStudent() {
+        Student updatedStudent = getSampleStudent();
+        updatedStudent.setTuitionId(TUITION_ID);
+
+        when(studentRepository.findById(anyString())).thenReturn(Optional.of(getSampleStudent()),
+                Optional.of(updatedStudent));
+        studentService.findById(STUDENT_ID);
+        assertEquals(TUITION_ID, studentService.findByIdForWrite(STUDENT_ID).getTuitionId());
+        verify(studentRepository, times(2)).findById(STUDENT_ID);
+    }
+
+    @Test
+    void Should_ThrowStudentNotFoundException_When_FindingStudentByIdForWriteForStudentNotFound() {
+        when(studentRepository.findById(anyString())).thenReturn(Optional.empty());
+        StudentNotFoundException exception = assertThrows(StudentNotFoundException.class, () ->
+                studentService.findByIdForWrite(STUDENT_ID));
+        assertEquals("Student not found for student id: " + STUDENT_ID, exception.getMessage());
+    }
+
+    @Test
+    void Should_ThrowStudentServiceException_When_FindingStudentByIdForWriteIsFailed() {
+        when(studentRepository.findById(anyString())).thenThrow(new DataAccessException(ERROR) {
+        });
+        StudentServiceException exception = assertThrows(StudentServiceException.class, () ->
+                studentService.findByIdForWrite(STUDENT_ID));
+        assertEquals("Failed to find student by id for student id: " + STUDENT_ID, exception.getMessage());
+    }
+
     /**
      * Start of tests for findByAuthUserId method
      */
@@ -162,6 +371,46 @@ class StudentServiceTest {
         verify(studentRepository).delete(any(Student.class));
     }
 
+    @Test
+    void Should_RemoveStudentFromTuitionAndAuth_When_DeletingStudentInTuition() throws IOException {
+        Student student = getSampleStudent();
+        student.setTuitionId(TUITION_ID);
+
+        studentService.deleteStudent(student, TOKEN);
+        verify(paymentService).deleteByStudentId(STUDENT_ID, TOKEN);
+        verify(tuitionService).removeStudent(STUDENT_ID, TUITION_ID, TOKEN);
+        verify(studentRepository).delete(student);
+        verify(authService).deleteStudent(student.getUsername(), TOKEN);
+    }
+
+    @Test
+    void Should_ThrowPaymentServiceHttpClientErrorException_When_DeletingStudentForFailedPaymentCleanup()
+            throws IOException {
+        Student student = getSampleStudent();
+        student.setTuitionId(TUITION_ID);
+
+        doThrow(new PaymentServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
+                .when(paymentService).deleteByStudentId(STUDENT_ID, TOKEN);
+        assertThrows(PaymentServiceHttpClientErrorException.class, () ->
+                studentService.deleteStudent(student, TOKEN));
+        verify(tuitionService).removeStudent(STUDENT_ID, TUITION_ID, TOKEN);
+        verify(studentRepository, never()).delete(any(Student.class));
+        verify(authService, never()).deleteStudent(any(), any());
+    }
+
+    @Test
+    void Should_EnqueueOutboxEventsWithoutCallingDownstream_When_DeletingStudentInOutboxMode() throws IOException {
+        Student student = getSampleStudent();
+        StudentService outboxStudentService = new StudentService(studentRepository, paymentService, tuitionService,
+                authService, new DownstreamOrchestrator(Runnable::run, 20), outboxService,
+                OUTBOX_DELETE_MODE, transactionManager, studentCache, usernameGuard);
+
+        outboxStudentService.deleteStudent(student, TOKEN);
+        verify(outboxService).enqueueDeletion(student);
+        verify(studentRepository).delete(student);
+        verifyNoInteractions(paymentService, tuitionService, authService);
+    }
+
     @Test
     void Should_ThrowRegistrationServiceException_When_DeletingStudentForFailedToDeleteStudent() throws IOException {
         Student student = getSampleStudent();
@@ -174,24 +423,181 @@ class StudentServiceTest {
         assertEquals("Failed to delete student of id: " + STUDENT_ID, exception.getMessage());
     }
 
+    /**
+     * Start of tests for deleteStudents method
+     */
+    @Test
+    void Should_ReturnOutcomePerStudentId_When_DeletingStudentsInBulk() throws IOException {
+        Student deleted = getSampleStudent("sid-deleted");
+        Student notCleaned = getSampleStudent("sid-not-cleaned");
+        notCleaned.setTuitionId(TUITION_ID);
+        Student authFailed = getSampleStudent("sid-auth-failed");
+        List<String> ids = List.of(deleted.getId(), "sid-unknown", notCleaned.getId(), authFailed.getId());
+
+        when(studentRepository.findAllById(anyIterable())).thenReturn(List.of(deleted, notCleaned, authFailed));
+        doThrow(new TuitionServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
+                .when(tuitionService).removeStudent(notCleaned.getId(), TUITION_ID, TOKEN);
+        doThrow(new AuthServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
+                .when(authService).deleteStudent(authFailed.getUsername(), TOKEN);
+        List<StudentBulkItemResponseDto> results = studentService.deleteStudents(ids, TOKEN);
+        assertEquals(List.of(BulkItemStatusType.DELETED, BulkItemStatusType.STUDENT_NOT_FOUND,
+                BulkItemStatusType.CLEANUP_FAILED, BulkItemStatusType.AUTH_DELETION_FAILED), results.stream()
+                .map(StudentBulkItemResponseDto::getStatus).collect(Collectors.toList()));
+        verify(studentRepository, times(1)).findAllById(anyIterable());
+        verify(studentRepository, times(1)).deleteByIds(List.of(deleted.getId(), authFailed.getId()));
+        verify(authService, never()).deleteStudent(notCleaned.getUsername(), TOKEN);
+    }
+
+    @Test
+    void Should_EnqueueOutboxEventsInOneTransaction_When_DeletingStudentsInBulkInOutboxMode() {
+        Student student = getSampleStudent();
+        StudentService outboxStudentService = new StudentService(studentRepository, paymentService, tuitionService,
+                authService, new DownstreamOrchestrator(Runnable::run, 20), outboxService,
+                OUTBOX_DELETE_MODE, transactionManager, studentCache, usernameGuard);
+
+        when(studentRepository.findAllById(anyIterable())).thenReturn(List.of(student));
+        List<StudentBulkItemResponseDto> results = outboxStudentService.deleteStudents(List.of(STUDENT_ID), TOKEN);
+        assertEquals(BulkItemStatusType.DELETED, results.get(0).getStatus());
+        verify(outboxService).enqueueDeletions(List.of(student));
+        verify(studentRepository).deleteByIds(List.of(STUDENT_ID));
+        verify(transactionManager).commit(any());
+        verifyNoInteractions(paymentService, tuitionService, authService);
+    }
+
+    @Test
+    void Should_ThrowStudentServiceException_When_DeletingStudentsInBulkForFailedToDeleteStudents() {
+        when(studentRepository.findAllById(anyIterable())).thenReturn(List.of(getSampleStudent()));
+        when(studentRepository.deleteByIds(anyCollection())).thenThrow(new DataAccessException(ERROR) {
+        });
+        StudentServiceException exception = assertThrows(StudentServiceException.class, () ->
+                studentService.deleteStudents(List.of(STUDENT_ID), TOKEN));
+        assertEquals("Failed to delete students", exception.getMessage());
+    }
+
     /**
      * Start of test for getAll method
      */
     @Test
     void Should_ReturnAllStudent_When_GettingAllIsSuccessful() {
-        when(studentRepository.findAll()).thenReturn(getSampleStudentList());
-        assertEquals(STUDENT_ID, studentService.getAll().get(0).getId());
+        when(studentRepository.findAllResponses()).thenReturn(getSampleStudentResponseDtoList());
+        assertEquals(STUDENT_ID, studentService.getAll().get(0).getStudentId());
     }
 
     @Test
     void Should_ThrowRegistrationServiceException_When_GettingAllIsFailed() {
-        when(studentRepository.findAll()).thenThrow(new DataAccessException(ERROR) {
+        when(studentRepository.findAllResponses()).thenThrow(new DataAccessException(ERROR) {
         });
         StudentServiceException exception = assertThrows(StudentServiceException.class, () ->
                 studentService.getAll());
         assertEquals("Failed to to get all students", exception.getMessage());
     }
 
+    /**
+     * Start of test for streamAll method
+     */
+    @Test
+    void Should_StreamAllStudent_When_StreamingAllIsSuccessful() {
+        List<StudentResponseDto> streamed = new ArrayList<>();
+
+        when(studentRepository.streamAll()).thenReturn(getSampleStudentResponseDtoList().stream());
+        studentService.streamAll(streamed::add);
+        assertEquals(STUDENT_ID, streamed.get(0).getStudentId());
+    }
+
+    @Test
+    void Should_ThrowStudentServiceException_When_StreamingAllIsFailed() {
+        when(studentRepository.streamAll()).thenThrow(new DataAccessException(ERROR) {
+        });
+        StudentServiceException exception = assertThrows(StudentServiceException.class, () ->
+                studentService.streamAll(student -> {
+                }));
+        assertEquals("Failed to stream all students", exception.getMessage());
+    }
+
+    /**
+     * Start of test for getPage method
+     */
+    @Test
+    void Should_ReturnPageWithNextCursor_When_GettingPageForMoreStudentsAvailable() {
+        List<StudentResponseDto> students = getSampleStudentResponseDtoList();
+        students.add(new StudentResponseDto(getSampleStudent("sid-next")));
+
+        when(studentRepository.findPageAfter("", PageRequest.of(0, 2))).thenReturn(students);
+        StudentPageResponseDto page = studentService.getPage(null, 1);
+        assertEquals(1, page.getStudents().size());
+        assertEquals(STUDENT_ID, PageCursor.decode(page.getNextCursor(), 1)[0]);
+    }
+
+    @Test
+    void Should_ReturnLastPage_When_GettingPageAfterCursor() {
+        when(studentRepository.findPageAfter(STUDENT_ID, PageRequest.of(0, 11)))
+                .thenReturn(getSampleStudentResponseDtoList());
+        StudentPageResponseDto page = studentService.getPage(PageCursor.encode(STUDENT_ID), 10);
+        assertEquals(STUDENT_ID, page.getStudents().get(0).getStudentId());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void Should_ThrowInvalidPageCursorException_When_GettingPageForMalformedCursor() {
+        assertThrows(InvalidPageCursorException.class, () -> studentService.getPage("%%%", 10));
+        assertThrows(InvalidPageCursorException.class, () -> studentService.getPage(PageCursor.encode("a", "b"), 10));
+    }
+
+    @Test
+    void Should_ThrowStudentServiceException_When_GettingPageIsFailed() {
+        when(studentRepository.findPageAfter(anyString(), any())).thenThrow(new DataAccessException(ERROR) {
+        });
+        StudentServiceException exception = assertThrows(StudentServiceException.class, () ->
+                studentService.getPage(null, 10));
+        assertEquals("Failed to get students page after id: ", exception.getMessage());
+    }
+
+    /**
+     * Start of test for getRoster method
+     */
+    @Test
+    void Should_ReturnRosterPageWithNextCursor_When_GettingRosterForMoreStudentsAvailable() {
+        Student student = getSampleStudent();
+        student.setTuitionId(TUITION_ID);
+        student.setTuitionJoinedOn(new Date(1000L));
+
+        when(studentRepository.findRoster(Set.of(TUITION_ID), PageRequest.of(0, 2)))
+                .thenReturn(new ArrayList<>(List.of(new StudentResponseDto(student),
+                        new StudentResponseDto(getSampleStudent("sid-next")))));
+        StudentPageResponseDto page = studentService.getRoster(Set.of(TUITION_ID), null, 1);
+        assertEquals(1, page.getStudents().size());
+        assertArrayEquals(new String[]{TUITION_ID, "1000", STUDENT_ID}, PageCursor.decode(page.getNextCursor(), 3));
+    }
+
+    @Test
+    void Should_ReturnLastRosterPage_When_GettingRosterAfterCursor() {
+        when(studentRepository.findRosterAfter(Set.of(TUITION_ID), TUITION_ID, new Date(1000L), STUDENT_ID,
+                PageRequest.of(0, 11))).thenReturn(getSampleStudentResponseDtoList());
+        StudentPageResponseDto page = studentService.getRoster(Set.of(TUITION_ID),
+                PageCursor.encode(TUITION_ID, "1000", STUDENT_ID), 10);
+        assertEquals(STUDENT_ID, page.getStudents().get(0).getStudentId());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void Should_ThrowInvalidPageCursorException_When_GettingRosterForMalformedCursor() {
+        Set<String> tuitionIds = Set.of(TUITION_ID);
+
+        assertThrows(InvalidPageCursorException.class, () -> studentService.getRoster(tuitionIds,
+                PageCursor.encode(STUDENT_ID), 10));
+        assertThrows(InvalidPageCursorException.class, () -> studentService.getRoster(tuitionIds,
+                PageCursor.encode(TUITION_ID, "yesterday", STUDENT_ID), 10));
+    }
+
+    @Test
+    void Should_ThrowStudentServiceException_When_GettingRosterIsFailed() {
+        when(studentRepository.findRoster(any(), any())).thenThrow(new DataAccessException(ERROR) {
+        });
+        StudentServiceException exception = assertThrows(StudentServiceException.class, () ->
+                studentService.getRoster(List.of(TUITION_ID), null, 10));
+        assertEquals("Failed to get roster of tuitions: [" + TUITION_ID + "]", exception.getMessage());
+    }
+
     /**
      * Start of test for addTuition method
      */
@@ -201,6 +607,15 @@ class StudentServiceTest {
         verify(studentRepository, times(1)).save(any(Student.class));
     }
 
+    @Test
+    void Should_ReloadStudent_When_FindingStudentAfterAddingTuition() {
+        when(studentRepository.findById(anyString())).thenReturn(Optional.of(getSampleStudent()));
+        Student student = studentService.findById(STUDENT_ID);
+        studentService.addTuition(student, TUITION_ID);
+        studentService.findById(STUDENT_ID);
+        verify(studentRepository, times(2)).findById(STUDENT_ID);
+    }
+
     @Test
     void Should_ThrowStudentServiceException_When_AddingTuitionIsFailed() {
         Student student = getSampleStudent();
@@ -238,8 +653,19 @@ class StudentServiceTest {
      * @return Student
      */
     private Student getSampleStudent() {
+        return getSampleStudent(STUDENT_ID);
+    }
+
+    /**
+     * This method returns a sample student with the given id
+     *
+     * @param studentId student id
+     * @return Student
+     */
+    private Student getSampleStudent(String studentId) {
         Student student = new Student();
-        student.setId(STUDENT_ID);
+        student.setId(studentId);
+        student.setUsername(studentId + "-" + STUDENT_NAME);
         student.setPassword(STUDENT_PASSWORD);
         return student;
     }
@@ -250,8 +676,18 @@ class StudentServiceTest {
      * @return StudentCreateRequestDto
      */
     private StudentCreateRequestDto getSampleStudentCreateRequestDto() {
+        return getSampleStudentCreateRequestDto(STUDENT_NAME);
+    }
+
+    /**
+     * This method returns a sample StudentCreateRequestDto with the given username
+     *
+     * @param username username
+     * @return StudentCreateRequestDto
+     */
+    private StudentCreateRequestDto getSampleStudentCreateRequestDto(String username) {
         StudentCreateRequestDto requestDto = new StudentCreateRequestDto();
-        requestDto.setUsername(STUDENT_NAME);
+        requestDto.setUsername(username);
         requestDto.setPassword(STUDENT_PASSWORD);
         return requestDto;
     }
@@ -267,6 +703,16 @@ class StudentServiceTest {
         return studentList;
     }
 
+    /**
+     * This method returns a sample student response dto list, as returned by the projection queries
+     *
+     * @return StudentResponseDto List
+     */
+    private List<StudentResponseDto> getSampleStudentResponseDtoList() {
+        return getSampleStudentList().stream().map(StudentResponseDto::new)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     /**
      * This method returns a sample UserResponseDto
      *
@@ -277,4 +723,26 @@ class StudentServiceTest {
         responseDto.setUserId(USER_ID);
         return responseDto;
     }
+
+    /**
+     * This method returns a sample UserResponseDto
+     *
+     * @param userId auth user id
+     * @return UserResponseDto
+     */
+    private UserResponseDto getSampleUserResponseDto(String userId) {
+        UserResponseDto responseDto = new UserResponseDto();
+        responseDto.setUserId(userId);
+        return responseDto;
+    }
+
+    /**
+     * This method returns a sample violation of the unique username index
+     *
+     * @return DataIntegrityViolationException
+     */
+    private DataIntegrityViolationException getSampleUsernameViolation() {
+        return new DataIntegrityViolationException(ERROR, new ConstraintViolationException(ERROR, null,
+                Student.USERNAME_UNIQUE_CONSTRAINT));
+    }
 }
@@ -1,8 +1,14 @@
 package com.swivel.ignite.student.service;
 
+import com.swivel.ignite.student.config.ResilienceProperties;
 import com.swivel.ignite.student.dto.response.StudentResponseDto;
+import com.swivel.ignite.student.enums.ErrorResponseStatusType;
 import com.swivel.ignite.student.exception.TuitionServiceHttpClientErrorException;
+import com.swivel.ignite.student.resilience.DownstreamResilience;
 import com.swivel.ignite.student.wrapper.StudentResponseWrapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -14,6 +20,7 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.net.URI;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -38,7 +45,7 @@ class TuitionServiceTest {
     @BeforeEach
     void setUp() {
         initMocks(this);
-        tuitionService = new TuitionService(BASE_URL, REMOVE_STUDENT_URL, restTemplate);
+        tuitionService = new TuitionService(BASE_URL, REMOVE_STUDENT_URL, restTemplate, getSampleResilience());
     }
 
     /**
@@ -46,15 +53,15 @@ class TuitionServiceTest {
      */
     @Test
     void Should_ReturnStudentResponseDto_When_RemovingStudentIsSuccessful() throws IOException {
-        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
-                anyMap())).thenReturn(getSampleResponseEntity());
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), any(Class.class)))
+                .thenReturn(getSampleResponseEntity());
         assertEquals(STUDENT_NAME, tuitionService.removeStudent(STUDENT_ID, TUITION_ID, TOKEN).getUsername());
     }
 
     @Test
     void Should_ThrowTuitionServiceHttpClientErrorException_When_RemovingStudentIsFailed() {
-        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
-                anyMap())).thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        when(restTemplate.exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), any(Class.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
         TuitionServiceHttpClientErrorException exception = assertThrows(TuitionServiceHttpClientErrorException.class,
                 () -> tuitionService.removeStudent(STUDENT_ID, TUITION_ID, TOKEN));
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value() + " Failed to remove student from tuition",
@@ -91,4 +98,14 @@ class TuitionServiceTest {
         responseDto.setUsername(STUDENT_NAME);
         return responseDto;
     }
+
+    /**
+     * This method returns the resilience of the tuition service with the default settings
+     *
+     * @return downstream resilience
+     */
+    private DownstreamResilience getSampleResilience() {
+        return new DownstreamResilience("tuition", ErrorResponseStatusType.TUITION_INTERNAL_SERVER_ERROR, new ResilienceProperties(),
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+    }
 }
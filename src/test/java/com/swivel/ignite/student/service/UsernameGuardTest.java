@@ -0,0 +1,46 @@
+package com.swivel.ignite.student.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests {@link UsernameGuard} class
+ */
+class UsernameGuardTest {
+
+    private static final String USERNAME = "mohamed";
+    private UsernameGuard usernameGuard;
+
+    @BeforeEach
+    void setUp() {
+        usernameGuard = new UsernameGuard();
+    }
+
+    /**
+     * Start of tests for tryAcquire method
+     */
+    @Test
+    void Should_ReturnFalse_When_AcquiringClaimedUsername() {
+        assertTrue(usernameGuard.tryAcquire(USERNAME));
+        assertFalse(usernameGuard.tryAcquire(USERNAME));
+    }
+
+    @Test
+    void Should_ReturnFalse_When_AcquiringClaimedUsernameInDifferentCase() {
+        assertTrue(usernameGuard.tryAcquire(USERNAME));
+        assertFalse(usernameGuard.tryAcquire(USERNAME.toUpperCase()));
+    }
+
+    /**
+     * Start of tests for release method
+     */
+    @Test
+    void Should_ReturnTrue_When_AcquiringReleasedUsername() {
+        usernameGuard.tryAcquire(USERNAME);
+        usernameGuard.release(USERNAME);
+        assertTrue(usernameGuard.tryAcquire(USERNAME));
+    }
+}
@@ -0,0 +1,89 @@
+package com.swivel.ignite.student.tracing;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link TracingClientInterceptor} class
+ */
+class TracingClientInterceptorTest {
+
+    private static final String SERVICE = "tuition";
+    private static final String TRACEPARENT_HEADER = "traceparent";
+    private static final URI URI = java.net.URI.create("http://localhost/api/v1/tuition/remove/sid-1/tid-1");
+    private InMemorySpanExporter spanExporter;
+    private TracingClientInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter)).build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        interceptor = new TracingClientInterceptor(openTelemetry, SERVICE);
+    }
+
+    /**
+     * Start of tests for intercept method
+     */
+    @Test
+    void Should_RecordClientSpanAndSendTraceparent_When_DownstreamReturnsSuccess() throws IOException {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI);
+
+        interceptor.intercept(request, new byte[0],
+                (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertEquals(1, spans.size());
+        SpanData span = spans.get(0);
+        assertEquals(SERVICE + " POST", span.getName());
+        assertEquals(SpanKind.CLIENT, span.getKind());
+        assertEquals(SERVICE, span.getAttributes().get(Tracing.PEER_SERVICE));
+        assertEquals(200L, span.getAttributes().get(Tracing.HTTP_STATUS_CODE));
+        assertEquals(StatusCode.UNSET, span.getStatus().getStatusCode());
+        String traceparent = request.getHeaders().getFirst(TRACEPARENT_HEADER);
+        assertNotNull(traceparent);
+        assertTrue(traceparent.contains(span.getTraceId() + "-" + span.getSpanId()));
+    }
+
+    @Test
+    void Should_MarkSpanAsError_When_DownstreamReturnsServerError() throws IOException {
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, URI), new byte[0],
+                (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE));
+        SpanData span = spanExporter.getFinishedSpanItems().get(0);
+        assertEquals(503L, span.getAttributes().get(Tracing.HTTP_STATUS_CODE));
+        assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode());
+    }
+
+    @Test
+    void Should_MarkSpanAsErrorAndRethrow_When_DownstreamIsUnreachable() {
+        assertThrows(ConnectException.class, () -> interceptor.intercept(
+                new MockClientHttpRequest(HttpMethod.POST, URI), new byte[0], (req, body) -> {
+                    throw new ConnectException("Connection refused");
+                }));
+        SpanData span = spanExporter.getFinishedSpanItems().get(0);
+        assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode());
+        assertEquals(1, span.getEvents().size());
+    }
+}
@@ -0,0 +1,101 @@
+package com.swivel.ignite.student.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link TracingFilter} class
+ */
+class TracingFilterTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+    private static final String TRACEPARENT_HEADER = "traceparent";
+    private static final String URI = "/api/v1/student/get/sid-123456789";
+    private static final String ROUTE = "/api/v1/student/get/{studentId}";
+    private InMemorySpanExporter spanExporter;
+    private TracingFilter tracingFilter;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter)).build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        tracingFilter = new TracingFilter(openTelemetry);
+    }
+
+    /**
+     * Start of tests for doFilterInternal method
+     */
+    @Test
+    void Should_ContinueCallerTraceAndNameSpanByRoute_When_RequestHasTraceparent()
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URI);
+        request.addHeader(TRACEPARENT_HEADER, "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01");
+        AtomicReference<String> traceIdInChain = new AtomicReference<>();
+        AtomicReference<String> traceIdInMdc = new AtomicReference<>();
+
+        tracingFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            traceIdInChain.set(Span.current().getSpanContext().getTraceId());
+            traceIdInMdc.set(MDC.get(TracingFilter.TRACE_ID_MDC_KEY));
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+        });
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertEquals(1, spans.size());
+        SpanData span = spans.get(0);
+        assertEquals(TRACE_ID, span.getTraceId());
+        assertEquals(PARENT_SPAN_ID, span.getParentSpanId());
+        assertEquals("GET " + ROUTE, span.getName());
+        assertEquals(SpanKind.SERVER, span.getKind());
+        assertEquals(200L, span.getAttributes().get(Tracing.HTTP_STATUS_CODE));
+        assertEquals(TRACE_ID, traceIdInChain.get());
+        assertEquals(TRACE_ID, traceIdInMdc.get());
+        assertNull(MDC.get(TracingFilter.TRACE_ID_MDC_KEY));
+    }
+
+    @Test
+    void Should_StartNewTrace_When_RequestHasNoTraceparent() throws ServletException, IOException {
+        tracingFilter.doFilter(new MockHttpServletRequest("GET", URI), new MockHttpServletResponse(),
+                (req, res) -> {
+                });
+        SpanData span = spanExporter.getFinishedSpanItems().get(0);
+        assertNotEquals(TRACE_ID, span.getTraceId());
+        assertFalse(span.getParentSpanContext().isValid());
+        assertEquals("GET", span.getName());
+    }
+
+    @Test
+    void Should_MarkSpanAsError_When_ResponseIsServerError() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        tracingFilter.doFilter(new MockHttpServletRequest("GET", URI), response,
+                (req, res) -> response.setStatus(500));
+        SpanData span = spanExporter.getFinishedSpanItems().get(0);
+        assertEquals(500L, span.getAttributes().get(Tracing.HTTP_STATUS_CODE));
+        assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode());
+    }
+}